@@ -0,0 +1,641 @@
+package Project2;
+
+/**
+ * AlphaBetaSearch is a computer player that looks a configurable number of moves ahead using negamax with
+ * alpha-beta pruning. Positions where the search stops before the game is over are scored by a pluggable Evaluator.
+ * Moves are tried in order of how many stones they line up with, wins and blocks first, so that pruning cuts off
+ * as much of the tree as possible. Results are kept in a TranspositionTable so positions reached through a
+ * different move order are not searched again, and the best move stored for a position is tried first. Positions
+ * are stored in their canonical form, so a turn or reflection of a position already searched is found in the table
+ * too. This relies on the evaluator scoring turns and reflections of a position the same, as LineEvaluator does.
+ *
+ * When a time budget is set the search deepens one move at a time until the budget runs out or depth is reached,
+ * and plays the best move of the last search that finished. Each search tries the moves that scored best in the
+ * one before first.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.util.Arrays;
+
+/************************************************************/
+/* Class */
+public class AlphaBetaSearch implements ComputerEngine {
+    /************************************************************/
+    /* Variables */
+    // score of a won game, wins found sooner score slightly higher
+    public static final int WIN_SCORE = 1000000000;
+    // scores further than this from 0 are wins or losses, and are stored relative to the position they were found in
+    private static final int WIN_THRESHOLD = WIN_SCORE - 100000;
+    // how often, in nodes, to check the deadline (one less than a power of two)
+    private static final int DEADLINE_CHECK_MASK = 1023;
+
+    // ordering scores for moves that win the game or block the opponent's win
+    private static final int WIN_ORDER_SCORE = 1 << 20;
+    private static final int BLOCK_ORDER_SCORE = 1 << 19;
+
+    // number of moves to look ahead, or the deepest to go when there is a time budget
+    private int depth;
+    // time allowed per move in nanoseconds, or 0 to always search to depth
+    private long timeBudgetNanos;
+    // scores positions the search stops at
+    private Evaluator evaluator;
+    // results of positions already searched
+    private TranspositionTable table;
+
+    // move lists and ordering scores for each ply, reused between searches so that searching does not allocate. A
+    // ply's lists are made the first time the search reaches it, so only the plies searched take memory
+    private int[][] moveLists = new int[0][];
+    private int[][] moveScores = new int[0][];
+
+    // scores the root moves got in the last finished iteration, used to order the next one
+    private int[] rootScores = new int[0];
+
+    // System.nanoTime the current search has to stop by, or 0 for no limit
+    private long deadline;
+    // set when the deadline passes or the search is stopped, the unfinished iteration is then thrown away
+    private boolean aborted;
+    // set from another thread to stop the current search
+    private volatile boolean stopRequested;
+
+    // number of positions visited by the last search
+    private long nodeCount;
+    // deepest iteration the last search finished
+    private int completedDepth;
+
+    /************************************************************/
+    /* Constructor */
+
+    /**
+     * Creates a search that looks depth moves ahead.
+     *
+     * @param depth     number of moves to look ahead, at least 1
+     * @param evaluator scores positions the search stops at
+     * @throws IllegalArgumentException if depth is less than 1 or evaluator is null
+     */
+    public AlphaBetaSearch(int depth, Evaluator evaluator) {
+        this(depth, evaluator, new TranspositionTable());
+    }
+
+    /**
+     * Creates a search that looks depth moves ahead and stores results in the given table.
+     *
+     * @param depth     number of moves to look ahead, at least 1
+     * @param evaluator scores positions the search stops at
+     * @param table     transposition table to store results in
+     * @throws IllegalArgumentException if depth is less than 1, or evaluator or table is null
+     */
+    public AlphaBetaSearch(int depth, Evaluator evaluator, TranspositionTable table) {
+        setDepth(depth);
+        setEvaluator(evaluator);
+        if (table == null) {
+            throw new IllegalArgumentException("Transposition table must not be null.");
+        }
+        this.table = table;
+    }
+
+    /************************************************************/
+    /* Accessors and Mutators */
+
+    /**
+     * Gets how many moves the search looks ahead.
+     *
+     * @return search depth
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Sets how many moves the search looks ahead.
+     *
+     * @param depth number of moves to look ahead, at least 1
+     * @throws IllegalArgumentException if depth is less than 1
+     */
+    public void setDepth(int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Search depth must be at least 1.");
+        }
+        this.depth = depth;
+    }
+
+    /**
+     * Gets the time allowed per move.
+     *
+     * @return time budget in milliseconds, or 0 for no limit
+     */
+    public long getTimeBudget() {
+        return timeBudgetNanos / 1000000;
+    }
+
+    /**
+     * Sets the time allowed per move. With a budget the search deepens until the time runs out or depth is reached,
+     * without one it always searches to depth.
+     *
+     * @param millis time budget in milliseconds, or 0 for no limit
+     * @throws IllegalArgumentException if millis is negative
+     */
+    public void setTimeBudget(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Time budget must not be negative.");
+        }
+        timeBudgetNanos = millis * 1000000;
+    }
+
+    /**
+     * Gets the evaluator used to score positions.
+     *
+     * @return evaluator
+     */
+    public Evaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /**
+     * Sets the evaluator used to score positions.
+     *
+     * @param evaluator scores positions the search stops at
+     * @throws IllegalArgumentException if evaluator is null
+     */
+    public void setEvaluator(Evaluator evaluator) {
+        if (evaluator == null) {
+            throw new IllegalArgumentException("Evaluator must not be null.");
+        }
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * Gets the transposition table results are stored in.
+     *
+     * @return transposition table
+     */
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * Gets the number of positions visited by the last search.
+     *
+     * @return node count of the last search
+     */
+    public long getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Stops the current search from another thread. The search returns the best move of its last finished
+     * iteration.
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    /**
+     * Clears an earlier stop request before a new search starts. Called before the search is handed to its thread,
+     * so a stop sent as soon as the search starts is not lost.
+     */
+    void clearStop() {
+        stopRequested = false;
+    }
+
+    /**
+     * Gets how many moves ahead the last search finished searching.
+     *
+     * @return depth of the last finished iteration
+     */
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    /************************************************************/
+    /* Search */
+
+    /**
+     * Chooses the best move for the player by searching depth moves ahead, or as deep as the time budget allows.
+     *
+     * @param position scratch copy of the position to choose a move in
+     * @param player   Cell.X or Cell.O, the player the move is for
+     * @return move encoded as row * size + col, or -1 if the board is full
+     */
+    @Override
+    public int chooseMove(Position position, Cell player) {
+        table.newSearch();
+        clearStop();
+        return search(position, player, 0);
+    }
+
+    /**
+     * Chooses the best move without starting a new age in the transposition table. Used by ParallelSearch, where
+     * several searches share one table and it starts the new age once for all of them.
+     *
+     * @param position  scratch copy of the position to choose a move in
+     * @param player    Cell.X or Cell.O, the player the move is for
+     * @param skipDepth number of iterations to skip at the start, so helper threads search different depths
+     * @return move encoded as row * size + col, or -1 if the board is full
+     */
+    int search(Position position, Cell player, int skipDepth) {
+        nodeCount = 0;
+        completedDepth = 0;
+        aborted = false;
+        deadline = (timeBudgetNanos > 0) ? System.nanoTime() + timeBudgetNanos : 0;
+        ensureMoveLists(position);
+
+        Symmetry symmetry = position.getSymmetry();
+        int transform = position.getCanonicalTransform();
+        long hash = position.getHash(transform, player);
+        int numMoves = generateOrderedMoves(position, player, 0, fromTableMove(table.probe(hash), transform, symmetry));
+        if (numMoves == 0) {
+            return -1;
+        }
+
+        // Put the root moves in order once, later iterations reorder them by score
+        for (int i = 0; i < numMoves; i++) {
+            pickNextMove(0, i, numMoves);
+        }
+
+        int[] moves = moveLists[0];
+        int bestMove = moves[0];
+        int bestScore = 0;
+
+        // Without a time budget go straight to depth, searching deeper than the moves left is pointless
+        int maxDepth = Math.min(depth, position.getSize() * position.getSize() - position.getStoneCount());
+        int startDepth = (deadline == 0) ? maxDepth : Math.min(1 + skipDepth, maxDepth);
+
+        for (int iterationDepth = startDepth; iterationDepth <= maxDepth; iterationDepth++) {
+            int best = searchRoot(position, player, numMoves, iterationDepth);
+
+            // Throw away an iteration the deadline cut short, its scores are not reliable
+            if (aborted) {
+                break;
+            }
+
+            bestMove = moves[best];
+            bestScore = rootScores[best];
+            completedDepth = iterationDepth;
+            sortRootMoves(numMoves);
+
+            // A forced win or loss has been found, searching deeper will not change it
+            if (bestScore > WIN_THRESHOLD || bestScore < -WIN_THRESHOLD) {
+                break;
+            }
+        }
+
+        if (completedDepth > 0) {
+            table.store(hash, toTableScore(bestScore, 0), TranspositionTable.EXACT, completedDepth,
+                    symmetry.apply(transform, bestMove));
+        }
+        return bestMove;
+    }
+
+    /**
+     * Private helper method.
+     * Searches every root move to depth and records each move's score in rootScores.
+     *
+     * @param position position being searched
+     * @param player   player to move
+     * @param numMoves number of root moves
+     * @param depth    number of moves to look ahead
+     * @return index of the best root move
+     */
+    private int searchRoot(Position position, Cell player, int numMoves, int depth) {
+        int[] moves = moveLists[0];
+        int best = 0;
+        int alpha = -WIN_SCORE - 1;
+        int beta = WIN_SCORE + 1;
+
+        for (int i = 0; i < numMoves; i++) {
+            int score = searchMove(position, moves[i], player, depth, alpha, beta, 0);
+            if (aborted) {
+                return best;
+            }
+
+            rootScores[i] = score;
+            if (score > alpha) {
+                alpha = score;
+                best = i;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Private helper method.
+     * Sorts the root moves by the scores of the last iteration, best first. Insertion sort keeps moves with equal
+     * scores in the order they were tried.
+     *
+     * @param numMoves number of root moves
+     */
+    private void sortRootMoves(int numMoves) {
+        int[] moves = moveLists[0];
+
+        for (int i = 1; i < numMoves; i++) {
+            int move = moves[i];
+            int score = rootScores[i];
+            int j = i - 1;
+
+            while (j >= 0 && rootScores[j] < score) {
+                moves[j + 1] = moves[j];
+                rootScores[j + 1] = rootScores[j];
+                j--;
+            }
+            moves[j + 1] = move;
+            rootScores[j + 1] = score;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Makes the move, scores it for the player who made it, then takes it back.
+     *
+     * @param position position being searched
+     * @param move     move being tried
+     * @param player   player making the move
+     * @param depth    number of moves left to search, including this one
+     * @param alpha    score the player is already guaranteed
+     * @param beta     score the opponent is already guaranteed, as a score for the player
+     * @param ply      number of moves made since the root of the search
+     * @return score of the move for the player
+     */
+    private int searchMove(Position position, int move, Cell player, int depth, int alpha, int beta, int ply) {
+        int score;
+
+        position.makeMove(move, player);
+
+        // Check the clock every so often rather than on every node
+        if ((++nodeCount & DEADLINE_CHECK_MASK) == 0
+                && (stopRequested || (deadline != 0 && System.nanoTime() - deadline >= 0))) {
+            aborted = true;
+        }
+
+        if (aborted) {
+            score = 0;
+        } else if (position.isWinAt(move)) {
+            score = WIN_SCORE - ply;
+        } else if (position.isFull()) {
+            score = 0;
+        } else {
+            score = -negamax(position, Position.opponent(player), depth - 1, -beta, -alpha, ply + 1);
+        }
+
+        position.unmakeMove(move);
+        return score;
+    }
+
+    /**
+     * Private helper method.
+     * Negamax search with alpha-beta pruning. Scores are always for the player to move.
+     *
+     * @param position position being searched
+     * @param player   player to move
+     * @param depth    number of moves left to search
+     * @param alpha    score the player is already guaranteed
+     * @param beta     score the opponent is already guaranteed, as a score for the player
+     * @param ply      number of moves made since the root of the search
+     * @return score of the position for the player to move
+     */
+    private int negamax(Position position, Cell player, int depth, int alpha, int beta, int ply) {
+        if (depth == 0) {
+            return evaluator.evaluate(position, player);
+        }
+
+        // Use the stored result if the position was already searched deep enough
+        int alphaOriginal = alpha;
+        Symmetry symmetry = position.getSymmetry();
+        int transform = position.getCanonicalTransform();
+        long hash = position.getHash(transform, player);
+        long entry = table.probe(hash);
+        if (entry != 0 && TranspositionTable.getDepth(entry) >= depth) {
+            int storedScore = fromTableScore(TranspositionTable.getScore(entry), ply);
+            int bound = TranspositionTable.getBound(entry);
+
+            if (bound == TranspositionTable.EXACT
+                    || (bound == TranspositionTable.LOWER_BOUND && storedScore >= beta)
+                    || (bound == TranspositionTable.UPPER_BOUND && storedScore <= alpha)) {
+                return storedScore;
+            }
+        }
+
+        int numMoves = generateOrderedMoves(position, player, ply, fromTableMove(entry, transform, symmetry));
+        int bestScore = -WIN_SCORE - 1;
+        int bestMove = -1;
+
+        for (int i = 0; i < numMoves; i++) {
+            int move = pickNextMove(ply, i, numMoves);
+            int score = searchMove(position, move, player, depth, alpha, beta, ply);
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            // The opponent will never allow this position, so the rest of the moves do not matter
+            if (alpha >= beta || aborted) {
+                break;
+            }
+        }
+
+        // Do not store results of a search that was cut short
+        if (aborted) {
+            return 0;
+        }
+
+        int bound = TranspositionTable.EXACT;
+        if (bestScore <= alphaOriginal) {
+            bound = TranspositionTable.UPPER_BOUND;
+        } else if (bestScore >= beta) {
+            bound = TranspositionTable.LOWER_BOUND;
+        }
+        table.store(hash, toTableScore(bestScore, ply), bound, depth,
+                (bestMove < 0) ? -1 : symmetry.apply(transform, bestMove));
+
+        return bestScore;
+    }
+
+    /**
+     * Private helper method.
+     * Win and loss scores count the moves from the root of the search. Converts them to count from the position
+     * being stored instead, so they are still right when the position is reached at a different ply.
+     *
+     * @param score score found at ply
+     * @param ply   number of moves made since the root of the search
+     * @return score to store in the table
+     */
+    private static int toTableScore(int score, int ply) {
+        if (score > WIN_THRESHOLD) {
+            return score + ply;
+        } else if (score < -WIN_THRESHOLD) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    /**
+     * Private helper method.
+     * Converts a score stored in the table back to count win and loss scores from the root of the search.
+     *
+     * @param score score stored in the table
+     * @param ply   number of moves made since the root of the search
+     * @return score at ply
+     */
+    private static int fromTableScore(int score, int ply) {
+        if (score > WIN_THRESHOLD) {
+            return score - ply;
+        } else if (score < -WIN_THRESHOLD) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    /**
+     * Private helper method.
+     * Moves are stored for the canonical form of a position. Converts a stored move back to a move on the board.
+     *
+     * @param entry     packed entry returned by probe, or 0
+     * @param transform transform from the board to its canonical form
+     * @param symmetry  symmetry of the board size
+     * @return move encoded as row * size + col, or -1 for none
+     */
+    private static int fromTableMove(long entry, int transform, Symmetry symmetry) {
+        int move = TranspositionTable.getMove(entry);
+        return (move < 0) ? -1 : symmetry.invert(transform, move);
+    }
+
+    /************************************************************/
+    /* Move Ordering */
+
+    /**
+     * Private helper method.
+     * Makes sure there is a slot for the move list of every ply the search can reach on the position's board. The
+     * lists themselves are made by generateOrderedMoves when a ply is first reached, since a timed search on a big
+     * board only gets a few plies deep and a list for every cell would take n^4 memory.
+     *
+     * @param position position being searched
+     */
+    private void ensureMoveLists(Position position) {
+        int numCells = position.getSize() * position.getSize();
+        int numPlies = Math.min(depth, numCells) + 1;
+
+        if (rootScores.length != numCells) {
+            // Lists made for a different board are too short or needlessly long
+            moveLists = new int[numPlies][];
+            moveScores = new int[numPlies][];
+            rootScores = new int[numCells];
+        } else if (moveLists.length < numPlies) {
+            moveLists = Arrays.copyOf(moveLists, numPlies);
+            moveScores = Arrays.copyOf(moveScores, numPlies);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Fills the move list for the ply with the candidate moves and gives each an ordering score.
+     * The best move stored in the transposition table is tried first.
+     *
+     * @param position position being searched
+     * @param player   player to move
+     * @param ply      ply the moves are for
+     * @param hashMove best move stored for the position, or -1 for none
+     * @return number of moves generated
+     */
+    private int generateOrderedMoves(Position position, Cell player, int ply, int hashMove) {
+        if (moveLists[ply] == null) {
+            moveLists[ply] = new int[rootScores.length];
+            moveScores[ply] = new int[rootScores.length];
+        }
+
+        int[] moves = moveLists[ply];
+        int[] scores = moveScores[ply];
+        int numMoves = position.getCandidateMoves(moves);
+
+        for (int i = 0; i < numMoves; i++) {
+            if (moves[i] == hashMove) {
+                scores[i] = Integer.MAX_VALUE;
+            } else {
+                scores[i] = scoreMove(position, moves[i], player);
+            }
+        }
+
+        return numMoves;
+    }
+
+    /**
+     * Private helper method.
+     * Moves the best scored of the untried moves to index next and returns it. Picking one move at a time is cheaper
+     * than sorting, since a cutoff often happens after the first few moves.
+     *
+     * @param ply      ply the moves are for
+     * @param next     index of the next move to try
+     * @param numMoves number of moves in the list
+     * @return the move to try next
+     */
+    private int pickNextMove(int ply, int next, int numMoves) {
+        int[] moves = moveLists[ply];
+        int[] scores = moveScores[ply];
+
+        int best = next;
+        for (int i = next + 1; i < numMoves; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+
+        int move = moves[best];
+        moves[best] = moves[next];
+        moves[next] = move;
+        int score = scores[best];
+        scores[best] = scores[next];
+        scores[next] = score;
+
+        return move;
+    }
+
+    /**
+     * Scores how promising a move looks before searching it, by counting the stones of both players in the windows
+     * through the move that they could still win. Moves that win, then moves that block the opponent's win, score
+     * highest. Only the window counts kept by the position are read, so this costs O(numToWin).
+     *
+     * @param position position the move is in
+     * @param move     empty cell encoded as row * size + col
+     * @param player   player to move
+     * @return ordering score of the move, higher is tried first
+     */
+    public static int scoreMove(Position position, int move, Cell player) {
+        LineWindows windows = position.getWindows();
+        int numToWin = position.getNumToWin();
+        Cell opponent = Position.opponent(player);
+        boolean wins = false;
+        boolean blocks = false;
+        int score = 0;
+
+        for (int i = windows.getCellWindowStart(move); i < windows.getCellWindowEnd(move); i++) {
+            int window = windows.getCellWindow(i);
+            int own = windows.getCount(window, player);
+            int other = windows.getCount(window, opponent);
+
+            // Windows with both players in them can never be won
+            if (other == 0) {
+                wins |= own + 1 >= numToWin;
+                score += own;
+            } else if (own == 0) {
+                blocks |= other + 1 >= numToWin;
+                score += other;
+            }
+        }
+
+        if (wins) {
+            score += WIN_ORDER_SCORE;
+        }
+        if (blocks) {
+            score += BLOCK_ORDER_SCORE;
+        }
+        return score;
+    }
+} // End of class AlphaBetaSearch
@@ -0,0 +1,411 @@
+package Project2;
+
+/**
+ * BitBoard stores a square TicTacToe board as one bitset per player, held in an array of longs.
+ * Each row is stored with one extra always-empty bit at the end, so that walking or shifting along a line
+ * runs into an empty bit instead of wrapping onto the next row.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Class */
+public class BitBoard {
+    /************************************************************/
+    /* Variables */
+    // size of the board
+    private final int size;
+    // number of bits used per row (size plus one empty padding bit)
+    private final int stride;
+    // number of longs needed to hold one player's bits
+    private final int numWords;
+
+    // bits for the cells each player has taken
+    private final long[] xBits;
+    private final long[] oBits;
+    // bits for every cell that is on the board (padding bits are not set)
+    private final long[] cellMask;
+
+    // number of cells that have been taken
+    private int stoneCount;
+
+    // scratch arrays used by hasWin so that it does not allocate
+    private final long[] runBits;
+    private final long[] shiftedBits;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates an empty board.
+     *
+     * @param size integer number for size of square TicTacToe board
+     * @throws IllegalArgumentException if size is less than 1
+     */
+    public BitBoard(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Board size must be at least 1.");
+        }
+
+        this.size = size;
+        stride = size + 1;
+        numWords = (size * stride + 63) / 64;
+
+        xBits = new long[numWords];
+        oBits = new long[numWords];
+        cellMask = new long[numWords];
+        runBits = new long[numWords];
+        shiftedBits = new long[numWords];
+
+        // Mark every cell that is on the board
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int index = row * stride + col;
+                cellMask[index >>> 6] |= 1L << index;
+            }
+        }
+    }
+
+    /**
+     * Copy constructor that creates a separate board with the same cells taken.
+     *
+     * @param other board to copy
+     */
+    public BitBoard(BitBoard other) {
+        this(other.size);
+
+        System.arraycopy(other.xBits, 0, xBits, 0, numWords);
+        System.arraycopy(other.oBits, 0, oBits, 0, numWords);
+        stoneCount = other.stoneCount;
+    }
+
+    /************************************************************/
+    /* Accessors */
+
+    /**
+     * Gets the size of the board.
+     *
+     * @return size of the square board
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets how many cells have been taken.
+     *
+     * @return number of X and O cells on the board
+     */
+    public int getStoneCount() {
+        return stoneCount;
+    }
+
+    /**
+     * Gets if every cell on the board has been taken.
+     *
+     * @return true if the board is full
+     */
+    public boolean isFull() {
+        return stoneCount == size * size;
+    }
+
+    /**
+     * Gets the Cell at row, col.
+     *
+     * @param row int row position of the cell
+     * @param col int column position of the cell
+     * @return Cell.X, Cell.O or Cell.EMPTY
+     */
+    public Cell get(int row, int col) {
+        int index = row * stride + col;
+        long bit = 1L << index;
+
+        if ((xBits[index >>> 6] & bit) != 0) {
+            return Cell.X;
+        }
+        if ((oBits[index >>> 6] & bit) != 0) {
+            return Cell.O;
+        }
+        return Cell.EMPTY;
+    }
+
+    /**
+     * Gets if the cell at row, col has not been taken.
+     *
+     * @param row int row position of the cell
+     * @param col int column position of the cell
+     * @return true if the cell is empty
+     */
+    public boolean isEmpty(int row, int col) {
+        int index = row * stride + col;
+        return ((xBits[index >>> 6] | oBits[index >>> 6]) & (1L << index)) == 0;
+    }
+
+    /************************************************************/
+    /* Mutators */
+
+    /**
+     * Marks the empty cell at row, col as taken by the player.
+     *
+     * @param row    int row position of the cell
+     * @param col    int column position of the cell
+     * @param player Cell.X or Cell.O
+     */
+    public void set(int row, int col, Cell player) {
+        int index = row * stride + col;
+
+        if (player == Cell.X) {
+            xBits[index >>> 6] |= 1L << index;
+        } else {
+            oBits[index >>> 6] |= 1L << index;
+        }
+        stoneCount++;
+    }
+
+    /**
+     * Marks the taken cell at row, col as empty again.
+     *
+     * @param row int row position of the cell
+     * @param col int column position of the cell
+     */
+    public void clear(int row, int col) {
+        int index = row * stride + col;
+        long bit = 1L << index;
+
+        xBits[index >>> 6] &= ~bit;
+        oBits[index >>> 6] &= ~bit;
+        stoneCount--;
+    }
+
+    /**
+     * Clears every cell on the board.
+     */
+    public void clearAll() {
+        for (int word = 0; word < numWords; word++) {
+            xBits[word] = 0;
+            oBits[word] = 0;
+        }
+        stoneCount = 0;
+    }
+
+    /************************************************************/
+    /* Win Detection */
+
+    /**
+     * Checks if the cell at row, col is part of numToWin in a row. Only the row, column and both diagonals through
+     * the cell are checked, counting outward from it, so this costs O(numToWin).
+     *
+     * @param row      int row position of the cell
+     * @param col      int column position of the cell
+     * @param numToWin number of connections needed to win
+     * @return true if the cell is taken and part of a winning line
+     */
+    public boolean isWinAt(int row, int col, int numToWin) {
+        int index = row * stride + col;
+        long bit = 1L << index;
+        long[] bits;
+
+        if ((xBits[index >>> 6] & bit) != 0) {
+            bits = xBits;
+        } else if ((oBits[index >>> 6] & bit) != 0) {
+            bits = oBits;
+        } else {
+            return false;
+        }
+
+        // Row, column, NW-SE diagonal and NE-SW diagonal
+        return countLine(bits, index, 1, numToWin) >= numToWin
+                || countLine(bits, index, stride, numToWin) >= numToWin
+                || countLine(bits, index, stride + 1, numToWin) >= numToWin
+                || countLine(bits, index, stride - 1, numToWin) >= numToWin;
+    }
+
+    /**
+     * Private helper method.
+     * Counts the set bits in an unbroken line through index, stepping by step in both directions.
+     * Stops counting once numToWin is reached.
+     *
+     * @param bits     the player's bits
+     * @param index    bit index the line goes through
+     * @param step     distance between neighbouring bits on the line
+     * @param numToWin number of connections needed to win
+     * @return number of set bits in a row through index, including index itself
+     */
+    private int countLine(long[] bits, int index, int step, int numToWin) {
+        int count = 1;
+        int limit = size * stride;
+
+        // The padding bit at the end of each row is never set, so lines stop there instead of wrapping
+        for (int i = index + step; count < numToWin && i < limit && (bits[i >>> 6] & (1L << i)) != 0; i += step) {
+            count++;
+        }
+        for (int i = index - step; count < numToWin && i >= 0 && (bits[i >>> 6] & (1L << i)) != 0; i -= step) {
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Counts the player's cells in an unbroken line starting next to row, col and going in the rowStep, colStep
+     * direction. The cell at row, col itself is not counted.
+     *
+     * @param row      int row position of the cell the line starts next to
+     * @param col      int column position of the cell the line starts next to
+     * @param rowStep  row direction of the line (-1, 0 or 1)
+     * @param colStep  column direction of the line (-1, 0 or 1)
+     * @param player   Cell.X or Cell.O
+     * @param maxCount the most cells to count
+     * @return number of the player's cells in a row next to row, col, at most maxCount
+     */
+    public int countRun(int row, int col, int rowStep, int colStep, Cell player, int maxCount) {
+        long[] bits = (player == Cell.X) ? xBits : oBits;
+        int step = rowStep * stride + colStep;
+        int limit = size * stride;
+        int count = 0;
+
+        // The padding bit at the end of each row is never set, so runs stop there instead of wrapping
+        for (int i = row * stride + col + step; count < maxCount && i >= 0 && i < limit
+                && (bits[i >>> 6] & (1L << i)) != 0; i += step) {
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Checks the whole board for numToWin in a row of the player using shift-and-mask line tests.
+     * Used to validate arbitrary positions, the move by move check is isWinAt.
+     *
+     * @param player   Cell.X or Cell.O
+     * @param numToWin number of connections needed to win
+     * @return true if the player has a winning line anywhere on the board
+     */
+    public boolean hasWin(Cell player, int numToWin) {
+        long[] bits = (player == Cell.X) ? xBits : oBits;
+
+        // Row, column, NW-SE diagonal and NE-SW diagonal
+        return hasRun(bits, 1, numToWin)
+                || hasRun(bits, stride, numToWin)
+                || hasRun(bits, stride + 1, numToWin)
+                || hasRun(bits, stride - 1, numToWin);
+    }
+
+    /**
+     * Private helper method.
+     * Checks for numToWin set bits in a row with step between them. After ANDing the bits with themselves shifted by
+     * length steps, each remaining bit marks the start of a run twice as long, so only about log2(numToWin)
+     * shifts are needed.
+     *
+     * @param bits     the player's bits
+     * @param step     distance between neighbouring bits on the line
+     * @param numToWin number of connections needed to win
+     * @return true if there is a run of numToWin bits
+     */
+    private boolean hasRun(long[] bits, int step, int numToWin) {
+        if (numToWin == 1) {
+            // Any stone is a run of one, and the loop below would not look at the bits
+            for (int word = 0; word < numWords; word++) {
+                if (bits[word] != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        System.arraycopy(bits, 0, runBits, 0, numWords);
+
+        int length = 1;
+        while (length < numToWin) {
+            // Extend runs by at most their current length
+            int extend = Math.min(length, numToWin - length);
+
+            shiftDown(runBits, extend * step, shiftedBits);
+            boolean anyLeft = false;
+            for (int word = 0; word < numWords; word++) {
+                runBits[word] &= shiftedBits[word];
+                anyLeft |= runBits[word] != 0;
+            }
+
+            if (!anyLeft) {
+                return false;
+            }
+            length += extend;
+        }
+
+        return true;
+    }
+
+    /**
+     * Private helper method.
+     * Shifts the bits towards index 0 by distance, so bit i of the result is bit i + distance of the source.
+     *
+     * @param source   bits being shifted
+     * @param distance number of bits to shift by
+     * @param result   array the shifted bits are written to
+     */
+    private void shiftDown(long[] source, int distance, long[] result) {
+        int wordShift = distance >>> 6;
+        int bitShift = distance & 63;
+
+        for (int word = 0; word < numWords; word++) {
+            int from = word + wordShift;
+            long value = 0;
+
+            if (from < numWords) {
+                value = source[from] >>> bitShift;
+                if (bitShift != 0 && from + 1 < numWords) {
+                    value |= source[from + 1] << (64 - bitShift);
+                }
+            }
+            result[word] = value;
+        }
+    }
+
+    /************************************************************/
+    /* Move Generation */
+
+    /**
+     * Fills moves with every empty cell on the board, encoded as row * size + col.
+     *
+     * @param moves array with room for at least size * size moves
+     * @return number of moves written to the array
+     */
+    public int getEmptyCells(int[] moves) {
+        int count = 0;
+
+        for (int word = 0; word < numWords; word++) {
+            long empty = cellMask[word] & ~(xBits[word] | oBits[word]);
+
+            while (empty != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(empty);
+                moves[count++] = (index / stride) * size + (index % stride);
+                empty &= empty - 1;
+            }
+        }
+
+        return count;
+    }
+
+    /************************************************************/
+    /* Compatibility */
+
+    /**
+     * Creates a Cell[][] copy of the board, for code that still works with the 2D array representation.
+     *
+     * @return Cell[][] representation of the board
+     */
+    public Cell[][] toCellArray() {
+        Cell[][] cells = new Cell[size][size];
+
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                cells[row][col] = get(row, col);
+            }
+        }
+
+        return cells;
+    }
+} // End of class BitBoard
@@ -0,0 +1,275 @@
+package Project2;
+
+/**
+ * BoardComponent draws a game's board as one component, painting the grid and stones itself instead of using a
+ * button per cell. Nothing is made per cell, so building it costs the same on any board size, and a click is turned
+ * into a cell by dividing the mouse position by the cell size. A click counts when the mouse is pressed and released
+ * in the same cell, even if it moved a little in between. It listens to the game's moves and only repaints the
+ * cells they change, and a repaint only draws the cells inside the area being repainted.
+ *
+ * The cells shrink to fit the component, so boards far bigger than the button grid can be shown. Boards too big to
+ * fit at MIN_CELL_PIXELS are meant to be put in a scroll pane, and the board scrolls to show each move made.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import javax.swing.*;
+
+/************************************************************/
+/* Class */
+public class BoardComponent extends JComponent {
+    /************************************************************/
+    /* Variables */
+    private static final long serialVersionUID = 1L;
+
+    // fewest pixels a cell is drawn with when the board is laid out
+    public static final int MIN_CELL_PIXELS = 4;
+    // widest the board is laid out when its cells have to shrink to fit
+    public static final int MAX_BOARD_PIXELS = 700;
+
+    // colors of the stones, the same as the title's
+    private static final Color X_COLOR = new Color(0xFF0033);
+    private static final Color O_COLOR = new Color(0x3366FF);
+
+    private final SuperTicTacToeGame game; // Game whose board is drawn
+    private final int boardSize; // Size of the board
+    private CellListener cellListener; // Told about cells clicked, or null
+    private int pressedCell = -1; // Cell the mouse was pressed in, encoded as row * size + col, or -1
+
+    /************************************************************/
+    /* Interface */
+
+    /**
+     * Listener told when a cell of the board is clicked.
+     */
+    public interface CellListener {
+        /**
+         * Called on the event dispatch thread when a cell is clicked.
+         *
+         * @param row row of the cell clicked
+         * @param col column of the cell clicked
+         */
+        void cellClicked(int row, int col);
+    }
+
+    /************************************************************/
+    /* Constructor */
+
+    /**
+     * Creates a component drawing a game's board, laid out with the same cell sizes as the button grid on boards it
+     * supports and smaller cells on bigger boards.
+     *
+     * @param game game whose board is drawn
+     */
+    public BoardComponent(SuperTicTacToeGame game) {
+        this.game = game;
+        boardSize = game.getBoardSize();
+
+        int cellPixels = getPreferredCellPixels(boardSize);
+        setPreferredSize(new Dimension(boardSize * cellPixels, boardSize * cellPixels));
+        setOpaque(true);
+
+        // mouseClicked is not sent if the mouse moves at all while pressed, so presses and releases are matched instead
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                pressedCell = (e.getButton() == MouseEvent.BUTTON1) ? getCellAt(e.getX(), e.getY()) : -1;
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                int cell = getCellAt(e.getX(), e.getY());
+                if (e.getButton() == MouseEvent.BUTTON1 && cell >= 0 && cell == pressedCell && cellListener != null) {
+                    cellListener.cellClicked(cell / boardSize, cell % boardSize);
+                }
+                pressedCell = -1;
+            }
+        });
+        game.addGameListener(new RepaintListener());
+    }
+
+    /************************************************************/
+    /* Accessors and Mutators */
+
+    /**
+     * Sets the listener told when a cell is clicked.
+     *
+     * @param cellListener listener to tell, or null for none
+     */
+    public void setCellListener(CellListener cellListener) {
+        this.cellListener = cellListener;
+    }
+
+    /**
+     * Gets the size a cell is laid out with on a board, before the component is resized.
+     *
+     * @param boardSize size of the board
+     * @return pixels along each side of a cell
+     */
+    public static int getPreferredCellPixels(int boardSize) {
+        if (boardSize < 7) {
+            return 100;
+        } else if (boardSize < 10) {
+            return 80;
+        } else if (boardSize < 13) {
+            return 55;
+        } else if (boardSize < 15) {
+            return 50;
+        }
+        return Math.max(MIN_CELL_PIXELS, MAX_BOARD_PIXELS / boardSize);
+    }
+
+    /**
+     * Private helper method.
+     * Gets the size of a cell at the component's current size. Every cell is the same size, so a cell's position is
+     * its row or column times this.
+     */
+    private int getCellPixels() {
+        return Math.max(1, Math.min(getWidth(), getHeight()) / boardSize);
+    }
+
+    /**
+     * Private helper method.
+     * Gets the cell at a point of the component, encoded as row * size + col, or -1 if the point is off the board.
+     */
+    private int getCellAt(int x, int y) {
+        int cell = getCellPixels();
+        int row = y / cell;
+        int col = x / cell;
+        if (x < 0 || y < 0 || row >= boardSize || col >= boardSize) {
+            return -1;
+        }
+        return row * boardSize + col;
+    }
+
+    /************************************************************/
+    /* Painting */
+
+    /**
+     * Paints the cells inside the area being repainted.
+     *
+     * @param graphics graphics to paint with, clipped to the area being repainted
+     */
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        Graphics2D g = (Graphics2D) graphics.create();
+        try {
+            Rectangle clip = g.getClipBounds();
+            if (clip == null) {
+                clip = new Rectangle(0, 0, getWidth(), getHeight());
+            }
+
+            // The black background shows between the cells as the grid lines
+            g.setColor(Color.black);
+            g.fillRect(clip.x, clip.y, clip.width, clip.height);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+            int cell = getCellPixels();
+            int firstRow = Math.max(0, clip.y / cell);
+            int lastRow = Math.min(boardSize - 1, (clip.y + clip.height - 1) / cell);
+            int firstCol = Math.max(0, clip.x / cell);
+            int lastCol = Math.min(boardSize - 1, (clip.x + clip.width - 1) / cell);
+
+            int gap = (cell >= 20) ? 5 : (cell >= 8) ? 1 : 0;
+            g.setStroke(new BasicStroke(Math.max(1, cell / 10), BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int col = firstCol; col <= lastCol; col++) {
+                    paintCell(g, game.getCell(row, col), col * cell + gap, row * cell + gap, cell - gap);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Paints one cell and its stone.
+     */
+    private void paintCell(Graphics2D g, Cell stone, int x, int y, int size) {
+        g.setColor(Color.white);
+        g.fillRect(x, y, size, size);
+
+        int margin = size / 5;
+        int stoneSize = size - 2 * margin;
+        if (stone == Cell.X) {
+            g.setColor(X_COLOR);
+            g.drawLine(x + margin, y + margin, x + margin + stoneSize, y + margin + stoneSize);
+            g.drawLine(x + margin, y + margin + stoneSize, x + margin + stoneSize, y + margin);
+        } else if (stone == Cell.O) {
+            g.setColor(O_COLOR);
+            g.drawOval(x + margin, y + margin, stoneSize, stoneSize);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Repaints the area of one cell.
+     */
+    private void repaintCell(int move) {
+        int cell = getCellPixels();
+        repaint((move % boardSize) * cell, (move / boardSize) * cell, cell, cell);
+    }
+
+    /**
+     * Private helper method.
+     * Scrolls the cell of a move into view, if the board is in a scroll pane.
+     */
+    private void showCell(int move) {
+        int cell = getCellPixels();
+        scrollRectToVisible(new Rectangle((move % boardSize) * cell, (move / boardSize) * cell, cell, cell));
+    }
+
+    /* Private inner Class */
+
+    /**
+     * Private inner class that repaints the cells the game changes.
+     *
+     * @version 1.0
+     * @authors Kara Byers, Darren Fife, Breanna Zinky
+     * @date 10/18/26
+     */
+    private class RepaintListener implements GameListener {
+        /**
+         * Repaints the cell of a move and scrolls it into view.
+         *
+         * @param game game the move was made in
+         * @param move move encoded as row * size + col
+         */
+        @Override
+        public void moveMade(SuperTicTacToeGame game, int move) {
+            repaintCell(move);
+            showCell(move);
+        }
+
+        /**
+         * Repaints the cell of a move taken back.
+         *
+         * @param game game the move was taken back in
+         * @param move move encoded as row * size + col
+         */
+        @Override
+        public void moveUndone(SuperTicTacToeGame game, int move) {
+            repaintCell(move);
+        }
+
+        /**
+         * Repaints the whole board once.
+         *
+         * @param game game that was reset
+         */
+        @Override
+        public void gameReset(SuperTicTacToeGame game) {
+            repaint();
+        }
+    } // End of class RepaintListener
+} // End of class BoardComponent
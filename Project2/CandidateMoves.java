@@ -0,0 +1,194 @@
+package Project2;
+
+/**
+ * CandidateMoves keeps the set of empty cells within a radius of at least one stone, which are the only moves worth
+ * searching on a large board. Placing or removing a stone only updates the cells in the square of the radius around
+ * it. Each cell counts the stones near it, and the cells with a count above zero are kept in a list with each cell's
+ * place in it, so cells are added and removed in O(1).
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.util.Arrays;
+
+/************************************************************/
+/* Class */
+public class CandidateMoves {
+    /************************************************************/
+    /* Variables */
+    // default distance from a stone, in rows or columns, that a cell can be to be a candidate
+    public static final int DEFAULT_RADIUS = 2;
+
+    // size of the board
+    private final int size;
+    // distance from a stone, in rows or columns, that a cell can be to be a candidate
+    private final int radius;
+
+    // number of stones within the radius of each cell
+    private final int[] nearbyStones;
+    // the candidate cells, and the place of each cell in the list (-1 for cells not in it)
+    private final int[] candidates;
+    private final int[] candidateIndex;
+    private int numCandidates;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates the candidates for an empty board.
+     *
+     * @param size   size of the square board
+     * @param radius distance from a stone, in rows or columns, that a cell can be to be a candidate
+     * @throws IllegalArgumentException if radius is less than 1
+     */
+    public CandidateMoves(int size, int radius) {
+        if (radius < 1) {
+            throw new IllegalArgumentException("Candidate radius must be at least 1.");
+        }
+
+        this.size = size;
+        this.radius = radius;
+        nearbyStones = new int[size * size];
+        candidates = new int[size * size];
+        candidateIndex = new int[size * size];
+        Arrays.fill(candidateIndex, -1);
+    }
+
+    /**
+     * Copy constructor that creates a separate set with the same candidates.
+     *
+     * @param other candidates to copy
+     */
+    public CandidateMoves(CandidateMoves other) {
+        size = other.size;
+        radius = other.radius;
+        nearbyStones = other.nearbyStones.clone();
+        candidates = other.candidates.clone();
+        candidateIndex = other.candidateIndex.clone();
+        numCandidates = other.numCandidates;
+    }
+
+    /************************************************************/
+    /* Updates */
+
+    /**
+     * Updates the candidates for a stone placed on a cell. The cell itself stops being a candidate, and the empty
+     * cells around it become candidates.
+     *
+     * @param cell  cell encoded as row * size + col
+     * @param board board with the stone already placed
+     */
+    public void add(int cell, BitBoard board) {
+        removeCandidate(cell);
+
+        int row = cell / size;
+        int col = cell % size;
+        for (int nearRow = Math.max(0, row - radius); nearRow <= Math.min(size - 1, row + radius); nearRow++) {
+            for (int nearCol = Math.max(0, col - radius); nearCol <= Math.min(size - 1, col + radius); nearCol++) {
+                int near = nearRow * size + nearCol;
+                nearbyStones[near]++;
+                if (nearbyStones[near] == 1 && board.isEmpty(nearRow, nearCol)) {
+                    addCandidate(near);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the candidates for a stone taken off a cell. The cells around it that have no other stone near stop
+     * being candidates, and the cell itself becomes one if a stone is still near.
+     *
+     * @param cell cell encoded as row * size + col
+     */
+    public void remove(int cell) {
+        int row = cell / size;
+        int col = cell % size;
+        for (int nearRow = Math.max(0, row - radius); nearRow <= Math.min(size - 1, row + radius); nearRow++) {
+            for (int nearCol = Math.max(0, col - radius); nearCol <= Math.min(size - 1, col + radius); nearCol++) {
+                int near = nearRow * size + nearCol;
+                nearbyStones[near]--;
+                if (nearbyStones[near] == 0) {
+                    removeCandidate(near);
+                }
+            }
+        }
+
+        if (nearbyStones[cell] > 0) {
+            addCandidate(cell);
+        }
+    }
+
+    /**
+     * Clears every candidate, for an empty board.
+     */
+    public void clear() {
+        for (int cell = 0; cell < size * size; cell++) {
+            nearbyStones[cell] = 0;
+            candidateIndex[cell] = -1;
+        }
+        numCandidates = 0;
+    }
+
+    /**
+     * Private helper method.
+     * Adds a cell to the end of the candidate list if it is not in it.
+     */
+    private void addCandidate(int cell) {
+        if (candidateIndex[cell] < 0) {
+            candidateIndex[cell] = numCandidates;
+            candidates[numCandidates++] = cell;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Removes a cell from the candidate list if it is in it, by moving the last candidate into its place.
+     */
+    private void removeCandidate(int cell) {
+        int index = candidateIndex[cell];
+        if (index >= 0) {
+            int last = candidates[--numCandidates];
+            candidates[index] = last;
+            candidateIndex[last] = index;
+            candidateIndex[cell] = -1;
+        }
+    }
+
+    /************************************************************/
+    /* Accessors */
+
+    /**
+     * Gets the distance from a stone, in rows or columns, that a cell can be to be a candidate.
+     *
+     * @return candidate radius
+     */
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * Fills moves with the candidate cells. On an empty board that is the centre cell, and if every cell near a
+     * stone is taken it is every empty cell, so a move is always found while the board has room.
+     *
+     * @param board board the candidates are for
+     * @param moves array with room for at least size * size moves
+     * @return number of moves written to the array
+     */
+    public int getMoves(BitBoard board, int[] moves) {
+        if (numCandidates == 0) {
+            if (board.getStoneCount() == 0) {
+                moves[0] = (size / 2) * size + size / 2;
+                return 1;
+            }
+            return board.getEmptyCells(moves);
+        }
+
+        System.arraycopy(candidates, 0, moves, 0, numCandidates);
+        return numCandidates;
+    }
+} // End of class CandidateMoves
@@ -1,16 +1,16 @@
-package Project2;
-
-/**
- * ...
- *
- *  @authors Kara Byers, Darren Fife, Breanna Zinky
- *  @date 10/1/22
- *  @version 1.0
- */
-
-/************************************************************/
-public enum Cell {
-    X,
-    O,
-    EMPTY;
-}
+package Project2;
+
+/**
+ * ...
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/1/22
+ *  @version 1.0
+ */
+
+/************************************************************/
+public enum Cell {
+    X,
+    O,
+    EMPTY;
+}
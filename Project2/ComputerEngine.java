@@ -0,0 +1,25 @@
+package Project2;
+
+/**
+ * ComputerEngine is implemented by the ways the computer player can choose its move.
+ * Engines keep search state between moves, so an engine must only choose one move at a time. Games played on
+ * different threads each need their own engine. An engine may still use threads of its own while choosing a move.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Interface */
+public interface ComputerEngine {
+    /**
+     * Chooses a move for the player. The engine is given a scratch copy of the game's position, so it may make and
+     * unmake moves on it while searching.
+     *
+     * @param position scratch copy of the position to choose a move in
+     * @param player   Cell.X or Cell.O, the player the move is for
+     * @return move encoded as row * size + col, or -1 if there is no move to make
+     */
+    int chooseMove(Position position, Cell player);
+} // End of interface ComputerEngine
@@ -0,0 +1,23 @@
+package Project2;
+
+/**
+ * Evaluator scores positions that a search stops at before the game is over.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Interface */
+public interface Evaluator {
+    /**
+     * Scores the position from the point of view of the player. Higher is better for the player, and scores must
+     * stay well below AlphaBetaSearch.WIN_SCORE in size.
+     *
+     * @param position position being scored
+     * @param player   Cell.X or Cell.O, the player the score is for
+     * @return score of the position for the player
+     */
+    int evaluate(Position position, Cell player);
+} // End of interface Evaluator
@@ -0,0 +1,691 @@
+package Project2;
+
+/**
+ * GameJournal saves games as they are played by appending every move, undo, reset, result and start of computer
+ * play to a memory-mapped file, so the games in progress and the win totals survive the program exiting or crashing. Writing an entry only
+ * copies 16 bytes into the mapped file. A background thread forces the written entries to disk every few
+ * milliseconds instead of after every move, so a busy server is not slowed by a disk sync per move. Entries written
+ * since the last force are safe if only the program stops, but can be lost if the whole machine stops.
+ *
+ * When a journal is opened, the games and totals in the file are recovered by replaying its entries. Each entry has
+ * a check value, and replay stops at the first entry that does not match it, which is where the last write was cut
+ * off. The file is then rewritten with just the totals and the games still being played, so it does not keep
+ * growing from one run to the next.
+ *
+ * Only one program can have a journal file open at a time. A lock is taken on a file next to the journal before it
+ * is recovered, and held until the journal is closed, so a second program opening the same journal fails instead of
+ * replacing the file the first one is still writing to.
+ *
+ * A game's result is added to the totals when a move decides it, and taken off again if that move is undone, so a
+ * game that is undone and decided again is only counted once.
+ *
+ * A game is saved by starting a session for it, which adds a GameListener to the game. The journal can be written
+ * to from any thread, so games played on different threads can share one journal.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/************************************************************/
+/* Class */
+public class GameJournal implements Closeable {
+    /************************************************************/
+    /* Variables */
+    // how often written entries are forced to disk by default, in milliseconds
+    public static final long DEFAULT_FORCE_INTERVAL_MILLIS = 100;
+
+    // size of every entry, in bytes. An entry is the session id, type, result or starting player code, number to
+    // win, a value (the board size, move or total) and a check value
+    private static final int ENTRY_SIZE = 16;
+    // size of each part of the file mapped at once, in bytes, a whole number of entries
+    private static final int SEGMENT_SIZE = 1 << 20;
+
+    // entry types
+    private static final byte START = 1;
+    private static final byte MOVE = 2;
+    private static final byte UNDO = 3;
+    private static final byte RESET = 4;
+    private static final byte RESULT = 5;
+    private static final byte END = 6;
+    private static final byte TOTAL = 7;
+    private static final byte RESULT_UNDONE = 8;
+    private static final byte COMPUTER = 9;
+
+    // lock files of the journals open in this program. Closing any channel to a locked file releases the lock, so
+    // a journal that is already open here is refused before its lock file is opened a second time
+    private static final Set<Path> LOCKED_PATHS = ConcurrentHashMap.newKeySet();
+
+    // lock file, and the file locked while the journal is open. The journal itself is replaced when it is compacted, so it can not
+    // hold the lock
+    private final Path lockPath;
+    private final FileChannel lockChannel;
+    // file the journal is written to, and the part of it currently mapped
+    private final FileChannel channel;
+    private MappedByteBuffer segment;
+    private long segmentStart;
+    // true if entries have been written since the last force
+    private boolean dirty;
+    private boolean closed;
+
+    // thread that forces written entries to disk
+    private final ScheduledExecutorService forceThread;
+
+    // sessions being written, and recovered sessions not yet resumed or ended
+    private final Map<Integer, SessionListener> sessions = new HashMap<>();
+    private final Map<Integer, SuperTicTacToeGame> recoveredGames = new LinkedHashMap<>();
+    private int nextSessionId = 1;
+
+    // number of games decided with each result, indexed by result code
+    private final long[] totals = new long[GameRecordWriter.RESULTS.length];
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Opens a journal, recovering the games and totals already in it, and forces entries to disk every
+     * DEFAULT_FORCE_INTERVAL_MILLIS.
+     *
+     * @param path file of the journal, created if it does not exist
+     * @throws IOException if the file cannot be read or written, or another program has it open
+     */
+    public GameJournal(Path path) throws IOException {
+        this(path, DEFAULT_FORCE_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Opens a journal, recovering the games and totals already in it.
+     *
+     * @param path                file of the journal, created if it does not exist
+     * @param forceIntervalMillis how often written entries are forced to disk, in milliseconds
+     * @throws IOException              if the file cannot be read or written, or another program has it open
+     * @throws IllegalArgumentException if forceIntervalMillis is less than 1
+     */
+    public GameJournal(Path path, long forceIntervalMillis) throws IOException {
+        if (forceIntervalMillis < 1) {
+            throw new IllegalArgumentException("Force interval must be at least 1 millisecond.");
+        }
+
+        lockPath = path.toAbsolutePath().normalize().resolveSibling(path.getFileName() + ".lock");
+        lockChannel = lock(lockPath, path);
+        try {
+            if (Files.exists(path)) {
+                recover(path);
+            }
+            long length = compact(path);
+
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            segmentStart = length - length % SEGMENT_SIZE;
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, segmentStart, SEGMENT_SIZE);
+            segment.position((int) (length - segmentStart));
+        } catch (IOException | RuntimeException e) {
+            // Closing the lock file releases the lock, so the journal can be opened again
+            unlock();
+            throw e;
+        }
+
+        forceThread = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "GameJournal force");
+            thread.setDaemon(true);
+            return thread;
+        });
+        forceThread.scheduleWithFixedDelay(this::forceWritten, forceIntervalMillis, forceIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /************************************************************/
+    /* Sessions */
+
+    /**
+     * Starts saving a game. Any moves already made in it are written first, and its result counted if they decided
+     * it.
+     *
+     * @param game game to save
+     * @return id of the session, used to end it
+     * @throws IllegalStateException if the journal is closed
+     */
+    public synchronized int startSession(SuperTicTacToeGame game) {
+        int sessionId = nextSessionId++;
+
+        int startingPlayer = (game.getStartingPlayer() == Cell.X) ? 0 : 1;
+        append(sessionId, START, startingPlayer, game.getNumToWin(), game.getBoardSize());
+        for (int i = 0; i < game.getMoveCount(); i++) {
+            append(sessionId, MOVE, 0, 0, game.getMove(i));
+        }
+        if (game.isComputerPlayerEnabled()) {
+            append(sessionId, COMPUTER, 0, 0, 0);
+        }
+        if (game.getGameStatus() != GameStatus.IN_PROGRESS) {
+            countResult(sessionId, game.getGameStatus(), 1);
+        }
+
+        attach(sessionId, game);
+        return sessionId;
+    }
+
+    /**
+     * Gets the games that were being played when the journal was last closed or the program stopped, and have not
+     * been resumed or ended since.
+     *
+     * @return recovered games by session id, oldest first
+     */
+    public synchronized Map<Integer, SuperTicTacToeGame> getRecoveredGames() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(recoveredGames));
+    }
+
+    /**
+     * Carries on saving a recovered game under its session id.
+     *
+     * @param sessionId id of a recovered session
+     * @return the recovered game, with every move it had made
+     * @throws IllegalArgumentException if there is no recovered session with the id
+     */
+    public synchronized SuperTicTacToeGame resumeSession(int sessionId) {
+        SuperTicTacToeGame game = recoveredGames.remove(sessionId);
+        if (game == null) {
+            throw new IllegalArgumentException("No recovered session " + sessionId + ".");
+        }
+
+        attach(sessionId, game);
+        return game;
+    }
+
+    /**
+     * Stops saving a game, so it is not recovered the next time the journal is opened. Can also end a recovered
+     * session that will not be resumed.
+     *
+     * @param sessionId id of the session
+     * @throws IllegalArgumentException if there is no session with the id
+     * @throws IllegalStateException    if the journal is closed
+     */
+    public synchronized void endSession(int sessionId) {
+        SessionListener listener = sessions.remove(sessionId);
+        if (listener != null) {
+            listener.game.removeGameListener(listener);
+        } else if (recoveredGames.remove(sessionId) == null) {
+            throw new IllegalArgumentException("No session " + sessionId + ".");
+        }
+
+        append(sessionId, END, 0, 0, 0);
+    }
+
+    /************************************************************/
+    /* Totals */
+
+    /**
+     * Gets the number of games X has won, over every run of the program.
+     *
+     * @return number of games X won
+     */
+    public synchronized long getXWins() {
+        return totals[resultCode(GameStatus.X_WON)];
+    }
+
+    /**
+     * Gets the number of games O has won, over every run of the program.
+     *
+     * @return number of games O won
+     */
+    public synchronized long getOWins() {
+        return totals[resultCode(GameStatus.O_WON)];
+    }
+
+    /**
+     * Gets the number of games that were a tie, over every run of the program.
+     *
+     * @return number of cats games
+     */
+    public synchronized long getDraws() {
+        return totals[resultCode(GameStatus.CATS)];
+    }
+
+    /************************************************************/
+    /* Writing */
+
+    /**
+     * Forces every written entry to disk and closes the file. Sessions still being saved are recovered the next time
+     * the journal is opened.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        forceThread.shutdown();
+        for (SessionListener listener : sessions.values()) {
+            listener.game.removeGameListener(listener);
+        }
+        sessions.clear();
+
+        segment.force();
+        try {
+            channel.close();
+        } finally {
+            unlock();
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Adds a listener to a game that writes its changes under a session id.
+     */
+    private void attach(int sessionId, SuperTicTacToeGame game) {
+        SessionListener listener = new SessionListener(sessionId, game);
+        sessions.put(sessionId, listener);
+        game.addGameListener(listener);
+    }
+
+    /**
+     * Private helper method.
+     * Writes that a game was decided, or that the move deciding it was undone, and updates the totals.
+     *
+     * @param change 1 to count the result, -1 to take it back
+     */
+    private void countResult(int sessionId, GameStatus result, int change) {
+        int code = resultCode(result);
+        append(sessionId, (change > 0) ? RESULT : RESULT_UNDONE, code, 0, 0);
+        totals[code] += change;
+    }
+
+    /**
+     * Private helper method.
+     * Writes an entry to the mapped file, mapping the next part of the file once the current part is full.
+     *
+     * @throws IllegalStateException if the journal is closed, or the file cannot be grown
+     */
+    private synchronized void append(int sessionId, byte type, int code, int numToWin, int value) {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed.");
+        }
+
+        if (segment.remaining() < ENTRY_SIZE) {
+            try {
+                segment.force();
+                segmentStart += SEGMENT_SIZE;
+                segment = channel.map(FileChannel.MapMode.READ_WRITE, segmentStart, SEGMENT_SIZE);
+            } catch (IOException e) {
+                throw new IllegalStateException("Journal file cannot be grown.", e);
+            }
+        }
+
+        putEntry(segment, sessionId, type, code, numToWin, value);
+        dirty = true;
+    }
+
+    /**
+     * Private helper method.
+     * Forces the entries written since the last force to disk. Called by the force thread.
+     */
+    private void forceWritten() {
+        MappedByteBuffer written;
+        synchronized (this) {
+            if (!dirty || closed) {
+                return;
+            }
+            written = segment;
+            dirty = false;
+        }
+
+        // Forcing outside the lock lets moves keep being written while the disk catches up
+        written.force();
+    }
+
+    /************************************************************/
+    /* Recovery */
+
+    /**
+     * Private helper method.
+     * Locks the file next to a journal, creating it if needed.
+     *
+     * @param lockPath absolute path of the lock file
+     * @param path     file of the journal, for the error message
+     * @return the open lock file, which holds the lock until it is closed
+     * @throws IOException if the lock file cannot be opened, or the journal is already open
+     */
+    private static FileChannel lock(Path lockPath, Path path) throws IOException {
+        if (!LOCKED_PATHS.add(lockPath)) {
+            throw new IOException("Journal " + path + " is already open.");
+        }
+
+        FileChannel lockFile = null;
+        try {
+            lockFile = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock = lockFile.tryLock();
+            if (lock == null) {
+                throw new IOException("Journal " + path + " is open in another program.");
+            }
+            return lockFile;
+        } catch (OverlappingFileLockException e) {
+            // Something else in this program locked the file without going through a journal
+            lockFile.close();
+            LOCKED_PATHS.remove(lockPath);
+            throw new IOException("Journal " + path + " is already open.", e);
+        } catch (IOException e) {
+            if (lockFile != null) {
+                lockFile.close();
+            }
+            LOCKED_PATHS.remove(lockPath);
+            throw e;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Releases the lock taken by lock, so the journal can be opened again.
+     */
+    private void unlock() throws IOException {
+        try {
+            lockChannel.close();
+        } finally {
+            LOCKED_PATHS.remove(lockPath);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Replays the entries of a journal file to rebuild its games and totals, stopping at the first damaged entry.
+     */
+    private void recover(Path path) throws IOException {
+        Map<Integer, SuperTicTacToeGame> games = recoveredGames;
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_SIZE);
+
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(SEGMENT_SIZE);
+            replay:
+            while (in.read(buffer) > 0) {
+                buffer.flip();
+                while (buffer.remaining() >= ENTRY_SIZE) {
+                    int sessionId = buffer.getInt();
+                    byte type = buffer.get();
+                    int code = buffer.get();
+                    int numToWin = buffer.getShort();
+                    int value = buffer.getInt();
+                    int check = buffer.getInt();
+                    if (check != checkOf(sessionId, type, code, numToWin, value)) {
+                        break replay;
+                    }
+
+                    if (!replayEntry(games, sessionId, type, code, numToWin, value)) {
+                        break replay;
+                    }
+                    nextSessionId = Math.max(nextSessionId, sessionId + 1);
+                }
+                buffer.compact();
+            }
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Applies one entry to the recovered games and totals.
+     *
+     * @return false if the entry does not fit the games, so replay should stop
+     */
+    private boolean replayEntry(Map<Integer, SuperTicTacToeGame> games, int sessionId, byte type, int code,
+                                int numToWin, int value) {
+        SuperTicTacToeGame game = games.get(sessionId);
+
+        try {
+            switch (type) {
+                case START:
+                    games.put(sessionId, new SuperTicTacToeGame(value, numToWin, (code == 0) ? Cell.X : Cell.O));
+                    return true;
+                case TOTAL:
+                    totals[code] += value;
+                    return true;
+                case RESULT:
+                    totals[code]++;
+                    return true;
+                case RESULT_UNDONE:
+                    totals[code]--;
+                    return true;
+                case MOVE:
+                    game.select(value / game.getBoardSize(), value % game.getBoardSize());
+                    return true;
+                case UNDO:
+                    // Each undo entry is one move, even when the game's undo took back the computer's move too
+                    game.rewindTo(game.getMoveCount() - 1);
+                    return true;
+                case COMPUTER:
+                    game.enableComputer(false);
+                    return true;
+                case RESET:
+                    game.reset();
+                    return true;
+                case END:
+                    games.remove(sessionId);
+                    return true;
+                default:
+                    return false;
+            }
+        } catch (NullPointerException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            // An entry for a session that was never started, or one that does not fit its game
+            return false;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Writes a new journal holding only the totals and the recovered games, then replaces the old file with it.
+     *
+     * @return length of the entries written, in bytes
+     */
+    private long compact(Path path) throws IOException {
+        Path compacted = path.resolveSibling(path.getFileName() + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocate(SEGMENT_SIZE);
+        long length = 0;
+
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int code = 0; code < totals.length; code++) {
+                // Totals above the largest int are written as several entries
+                for (long left = totals[code]; left > 0; left -= Integer.MAX_VALUE) {
+                    length += writeEntry(out, buffer, 0, TOTAL, code, 0, (int) Math.min(left, Integer.MAX_VALUE));
+                }
+            }
+
+            for (Map.Entry<Integer, SuperTicTacToeGame> recovered : recoveredGames.entrySet()) {
+                int sessionId = recovered.getKey();
+                SuperTicTacToeGame game = recovered.getValue();
+                int startingPlayer = (game.getStartingPlayer() == Cell.X) ? 0 : 1;
+                length += writeEntry(out, buffer, sessionId, START, startingPlayer, game.getNumToWin(),
+                        game.getBoardSize());
+                for (int i = 0; i < game.getMoveCount(); i++) {
+                    length += writeEntry(out, buffer, sessionId, MOVE, 0, 0, game.getMove(i));
+                }
+                if (game.isComputerPlayerEnabled()) {
+                    length += writeEntry(out, buffer, sessionId, COMPUTER, 0, 0, 0);
+                }
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return length;
+    }
+
+    /**
+     * Private helper method.
+     * Adds an entry to a buffer, writing the buffer to the file first if it is full.
+     *
+     * @return size of the entry
+     */
+    private static int writeEntry(FileChannel out, ByteBuffer buffer, int sessionId, byte type, int code,
+                                  int numToWin, int value) throws IOException {
+        if (buffer.remaining() < ENTRY_SIZE) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        putEntry(buffer, sessionId, type, code, numToWin, value);
+        return ENTRY_SIZE;
+    }
+
+    /**
+     * Private helper method.
+     * Puts an entry and its check value into a buffer.
+     */
+    private static void putEntry(ByteBuffer buffer, int sessionId, byte type, int code, int numToWin, int value) {
+        buffer.putInt(sessionId);
+        buffer.put(type);
+        buffer.put((byte) code);
+        buffer.putShort((short) numToWin);
+        buffer.putInt(value);
+        buffer.putInt(checkOf(sessionId, type, (byte) code, (short) numToWin, value));
+    }
+
+    /**
+     * Private helper method.
+     * Mixes the fields of an entry into its check value. The lowest bit is always set, so an entry of zeros, which
+     * is what the unwritten end of the file holds, never matches.
+     */
+    private static int checkOf(int sessionId, byte type, int code, int numToWin, int value) {
+        int hash = sessionId * 0x9E3779B1;
+        hash ^= ((type & 0xFF) << 24 | (code & 0xFF) << 16 | (numToWin & 0xFFFF)) * 0x85EBCA6B;
+        hash ^= value * 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        hash *= 0x7FEB352D;
+        hash ^= hash >>> 15;
+        return hash | 1;
+    }
+
+    /**
+     * Private helper method.
+     * Gets the code a result is stored as.
+     */
+    private static int resultCode(GameStatus status) {
+        for (int i = 0; i < GameRecordWriter.RESULTS.length; i++) {
+            if (GameRecordWriter.RESULTS[i] == status) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Result must not be null.");
+    }
+
+    /************************************************************/
+    /* Session Listener */
+
+    /**
+     * SessionListener writes the changes to one game under its session id, and counts the game's result while it is
+     * decided.
+     */
+    private class SessionListener implements GameListener {
+        // id the game's entries are written under, and the game
+        private final int sessionId;
+        private final SuperTicTacToeGame game;
+        // status of the game after the last change, so a result is only counted when the game becomes decided, and
+        // only taken back when it stops being decided
+        private GameStatus lastStatus;
+
+        /**
+         * Creates a listener for a game.
+         *
+         * @param sessionId id the game's entries are written under
+         * @param game      the game
+         */
+        private SessionListener(int sessionId, SuperTicTacToeGame game) {
+            this.sessionId = sessionId;
+            this.game = game;
+            lastStatus = game.getGameStatus();
+        }
+
+        /**
+         * Writes the move, and the result if the move decided the game.
+         *
+         * @param game game the move was made in
+         * @param move move encoded as row * size + col
+         */
+        @Override
+        public void moveMade(SuperTicTacToeGame game, int move) {
+            synchronized (GameJournal.this) {
+                append(sessionId, MOVE, 0, 0, move);
+
+                GameStatus status = game.getGameStatus();
+                if (lastStatus == GameStatus.IN_PROGRESS && status != GameStatus.IN_PROGRESS) {
+                    countResult(sessionId, status, 1);
+                }
+                lastStatus = status;
+            }
+        }
+
+        /**
+         * Writes that a move was taken back, and takes back the result if the move had decided the game.
+         *
+         * @param game game the move was taken back in
+         * @param move move encoded as row * size + col
+         */
+        @Override
+        public void moveUndone(SuperTicTacToeGame game, int move) {
+            synchronized (GameJournal.this) {
+                append(sessionId, UNDO, 0, 0, move);
+
+                GameStatus status = game.getGameStatus();
+                if (lastStatus != GameStatus.IN_PROGRESS && status == GameStatus.IN_PROGRESS) {
+                    countResult(sessionId, lastStatus, -1);
+                }
+                lastStatus = status;
+            }
+        }
+
+        /**
+         * Writes that the game was reset.
+         *
+         * @param game game that was reset
+         */
+        @Override
+        public void gameReset(SuperTicTacToeGame game) {
+            synchronized (GameJournal.this) {
+                append(sessionId, RESET, 0, 0, 0);
+                lastStatus = GameStatus.IN_PROGRESS;
+            }
+        }
+
+        /**
+         * Writes that the computer player was enabled, so a resumed game carries on against the computer.
+         *
+         * @param game game the computer player was enabled in
+         */
+        @Override
+        public void computerEnabled(SuperTicTacToeGame game) {
+            synchronized (GameJournal.this) {
+                append(sessionId, COMPUTER, 0, 0, 0);
+            }
+        }
+    } // End of class SessionListener
+} // End of class GameJournal
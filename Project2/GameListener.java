@@ -0,0 +1,47 @@
+package Project2;
+
+/**
+ * GameListener is told about every change to a SuperTicTacToeGame's board, so the board can be saved or redrawn
+ * without rescanning it. Listeners are called on the thread that changed the game, after the game's board, current
+ * player and status have been updated.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Interface */
+public interface GameListener {
+    /**
+     * Called after a move is made, by select, redo or rewindTo.
+     *
+     * @param game game the move was made in
+     * @param move move encoded as row * size + col
+     */
+    void moveMade(SuperTicTacToeGame game, int move);
+
+    /**
+     * Called after a move is taken back, by undo or rewindTo.
+     *
+     * @param game game the move was taken back in
+     * @param move move encoded as row * size + col
+     */
+    void moveUndone(SuperTicTacToeGame game, int move);
+
+    /**
+     * Called after the game is reset to an empty board.
+     *
+     * @param game game that was reset
+     */
+    void gameReset(SuperTicTacToeGame game);
+
+    /**
+     * Called after the computer player is enabled, before it makes any move. Does nothing unless overridden, since
+     * only listeners that save the game need to know who is playing.
+     *
+     * @param game game the computer player was enabled in
+     */
+    default void computerEnabled(SuperTicTacToeGame game) {
+    }
+} // End of interface GameListener
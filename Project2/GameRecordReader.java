@@ -0,0 +1,341 @@
+package Project2;
+
+/**
+ * GameRecordReader reads games written by GameRecordWriter one record at a time, so archives of any size can be read
+ * without loading them into memory. next reads the following record into the reader, reusing its move array, and
+ * the getters return that record's fields.
+ *
+ * A record can be replayed into a SuperTicTacToeGame, or into a Position, which skips the game's move history and
+ * computer player and is much faster for checking or analysing many games.
+ *
+ * Usage: java Project2.GameRecordReader file
+ * Prints the number of games in an archive, how each ended, and how fast they were read and replayed.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/************************************************************/
+/* Class */
+public class GameRecordReader implements Closeable {
+    /************************************************************/
+    /* Variables */
+    // size of the buffer between the stream and the reader, in bytes
+    private static final int BUFFER_SIZE = 1 << 16;
+    // largest board size accepted, so a damaged record can not ask for a huge move array
+    private static final int MAX_BOARD_SIZE = 1 << 10;
+
+    // stream the records are read from
+    private final InputStream in;
+    // number of records read
+    private long recordCount;
+
+    // fields of the record last read
+    private int boardSize;
+    private int numToWin;
+    private Cell startingPlayer;
+    private int[] moves = new int[0];
+    private int numMoves;
+    private GameStatus result;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates a reader and checks the stream header.
+     *
+     * @param in stream to read from, closed when the reader is closed
+     * @throws IOException if the header cannot be read or is not a game record header
+     */
+    public GameRecordReader(InputStream in) throws IOException {
+        this.in = new BufferedInputStream(in, BUFFER_SIZE);
+
+        for (byte expected : GameRecordWriter.MAGIC) {
+            if (this.in.read() != expected) {
+                throw new IOException("Not a game record stream.");
+            }
+        }
+        int version = this.in.read();
+        if (version != GameRecordWriter.VERSION) {
+            throw new IOException("Unsupported game record version " + version + ".");
+        }
+    }
+
+    /************************************************************/
+    /* Main Method */
+
+    /**
+     * Reads and replays every game in an archive and prints a summary.
+     *
+     * @param args the archive to read
+     * @throws IOException if the archive cannot be read or is damaged
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: java Project2.GameRecordReader file");
+        }
+
+        long[] results = new long[GameStatus.values().length];
+        long moves = 0;
+        long mismatches = 0;
+        Position position = null;
+        long start = System.nanoTime();
+
+        try (GameRecordReader reader = new GameRecordReader(new FileInputStream(args[0]))) {
+            while (reader.next()) {
+                if (position == null || position.getSize() != reader.getBoardSize()
+                        || position.getNumToWin() != reader.getNumToWin()) {
+                    position = new Position(reader.getBoardSize(), reader.getNumToWin());
+                }
+                if (reader.replay(position) != reader.getResult()) {
+                    mismatches++;
+                }
+                results[reader.getResult().ordinal()]++;
+                moves += reader.getMoveCount();
+            }
+
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long games = reader.getRecordCount();
+            System.out.printf("%d games, %d moves in %.2f s, %.0f games/sec%n", games, moves, seconds,
+                    games / seconds);
+            for (GameStatus status : GameStatus.values()) {
+                System.out.printf("%-12s %d%n", status, results[status.ordinal()]);
+            }
+            System.out.printf("%d games whose replay did not match their result%n", mismatches);
+        }
+    }
+
+    /************************************************************/
+    /* Reading */
+
+    /**
+     * Reads the next record.
+     *
+     * @return true if a record was read, false at the end of the stream
+     * @throws IOException if the stream cannot be read, or the record is damaged or cut off
+     */
+    public boolean next() throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return false;
+        }
+
+        boardSize = readVarint(first);
+        numToWin = readVarint(in.read());
+        if (boardSize < 1 || boardSize > MAX_BOARD_SIZE || numToWin < 1 || numToWin > boardSize) {
+            throw new IOException("Damaged game record: board " + boardSize + ", " + numToWin + " to win.");
+        }
+
+        int player = readByte();
+        if (player > 1) {
+            throw new IOException("Damaged game record: starting player " + player + ".");
+        }
+        startingPlayer = (player == 0) ? Cell.X : Cell.O;
+
+        numMoves = readVarint(in.read());
+        if (numMoves > boardSize * boardSize) {
+            throw new IOException("Damaged game record: " + numMoves + " moves.");
+        }
+        if (moves.length < numMoves) {
+            moves = new int[boardSize * boardSize];
+        }
+        for (int i = 0; i < numMoves; i++) {
+            moves[i] = readVarint(in.read());
+            if (moves[i] >= boardSize * boardSize) {
+                throw new IOException("Damaged game record: move " + moves[i] + " is off the board.");
+            }
+        }
+
+        int code = readByte();
+        if (code >= GameRecordWriter.RESULTS.length) {
+            throw new IOException("Damaged game record: result " + code + ".");
+        }
+        result = GameRecordWriter.RESULTS[code];
+
+        recordCount++;
+        return true;
+    }
+
+    /**
+     * Closes the stream.
+     *
+     * @throws IOException if the stream cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /************************************************************/
+    /* Accessors */
+
+    /**
+     * Gets the number of records read.
+     *
+     * @return number of records
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Gets the board size of the record last read.
+     *
+     * @return size of the board
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Gets the number to win of the record last read.
+     *
+     * @return number of connections in a row needed to win
+     */
+    public int getNumToWin() {
+        return numToWin;
+    }
+
+    /**
+     * Gets the starting player of the record last read.
+     *
+     * @return Cell.X or Cell.O
+     */
+    public Cell getStartingPlayer() {
+        return startingPlayer;
+    }
+
+    /**
+     * Gets the number of moves in the record last read.
+     *
+     * @return number of moves
+     */
+    public int getMoveCount() {
+        return numMoves;
+    }
+
+    /**
+     * Gets a move of the record last read.
+     *
+     * @param ply index of the move, 0 for the first move
+     * @return move encoded as row * size + col
+     * @throws IllegalArgumentException if ply is not a move of the record
+     */
+    public int getMove(int ply) {
+        if (ply < 0 || ply >= numMoves) {
+            throw new IllegalArgumentException("No move at ply " + ply + ".");
+        }
+        return moves[ply];
+    }
+
+    /**
+     * Gets the result stored in the record last read.
+     *
+     * @return status of the game after its moves
+     */
+    public GameStatus getResult() {
+        return result;
+    }
+
+    /************************************************************/
+    /* Replaying */
+
+    /**
+     * Replays the record last read into a new game through select.
+     *
+     * @return game with the record's moves made
+     */
+    public SuperTicTacToeGame replay() {
+        SuperTicTacToeGame game = new SuperTicTacToeGame(boardSize, numToWin, startingPlayer);
+        for (int i = 0; i < numMoves; i++) {
+            game.select(moves[i] / boardSize, moves[i] % boardSize);
+        }
+        return game;
+    }
+
+    /**
+     * Replays the record last read into a position, clearing it first, and finds how the game ended.
+     * Moves made after the game was decided are still made, like select does.
+     *
+     * @param position position with the record's board size and number to win
+     * @return status of the game after the moves
+     * @throws IllegalArgumentException if the position has a different board size or number to win, or a move is
+     *                                  on a cell already taken
+     */
+    public GameStatus replay(Position position) {
+        if (position.getSize() != boardSize || position.getNumToWin() != numToWin) {
+            throw new IllegalArgumentException("Position does not match the record's board.");
+        }
+
+        position.clear();
+        GameStatus status = GameStatus.IN_PROGRESS;
+        Cell player = startingPlayer;
+
+        for (int i = 0; i < numMoves; i++) {
+            if (!position.isEmpty(moves[i])) {
+                throw new IllegalArgumentException("Move " + moves[i] + " is on a cell already taken.");
+            }
+            position.makeMove(moves[i], player);
+
+            if (status == GameStatus.IN_PROGRESS) {
+                if (position.isWinAt(moves[i])) {
+                    status = (player == Cell.X) ? GameStatus.X_WON : GameStatus.O_WON;
+                } else if (position.isFull()) {
+                    status = GameStatus.CATS;
+                }
+            }
+            player = Position.opponent(player);
+        }
+
+        return status;
+    }
+
+    /**
+     * Private helper method.
+     * Reads one byte, which must be there.
+     */
+    private int readByte() throws IOException {
+        int value = in.read();
+        if (value < 0) {
+            throw new EOFException("Game record is cut off.");
+        }
+        return value;
+    }
+
+    /**
+     * Private helper method.
+     * Reads a varint whose first byte has already been read.
+     */
+    private int readVarint(int first) throws IOException {
+        if (first < 0) {
+            throw new EOFException("Game record is cut off.");
+        }
+
+        int value = first & 0x7F;
+        int shift = 7;
+        int next = first;
+        while ((next & 0x80) != 0) {
+            if (shift > 28) {
+                throw new IOException("Damaged game record: varint is too long.");
+            }
+            next = readByte();
+            value |= (next & 0x7F) << shift;
+            shift += 7;
+        }
+        if (value < 0) {
+            throw new IOException("Damaged game record: varint is too large.");
+        }
+        return value;
+    }
+} // End of class GameRecordReader
@@ -0,0 +1,183 @@
+package Project2;
+
+/**
+ * GameRecordWriter writes games to a stream in a compact binary format, one record after another, so archives of any
+ * size can be written without holding them in memory. GameRecordReader reads them back.
+ *
+ * A stream starts with the 4 bytes "STTR" and a version byte. Each record is then:
+ *   varint   board size
+ *   varint   number to win
+ *   byte     starting player, 0 for X and 1 for O
+ *   varint   number of moves
+ *   varint   each move, encoded as row * size + col
+ *   byte     result, 0 in progress, 1 X won, 2 O won, 3 cats
+ * A varint stores 7 bits per byte, lowest first, with the top bit set on every byte but the last. Every move on a
+ * board up to 11x11 takes one byte, so a record is usually the number of moves plus 5 bytes.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/************************************************************/
+/* Class */
+public class GameRecordWriter implements Closeable {
+    /************************************************************/
+    /* Variables */
+    // bytes every record stream starts with, and the version of the format
+    static final byte[] MAGIC = {'S', 'T', 'T', 'R'};
+    static final int VERSION = 1;
+    // results in the order of their codes in a record
+    static final GameStatus[] RESULTS = {GameStatus.IN_PROGRESS, GameStatus.X_WON, GameStatus.O_WON, GameStatus.CATS};
+
+    // size of the buffer between the writer and the stream, in bytes
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // stream the records are written to
+    private final OutputStream out;
+    // number of records written
+    private long recordCount;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates a writer and writes the stream header.
+     *
+     * @param out stream to write to, closed when the writer is closed
+     * @throws IOException if the header cannot be written
+     */
+    public GameRecordWriter(OutputStream out) throws IOException {
+        this.out = new BufferedOutputStream(out, BUFFER_SIZE);
+        this.out.write(MAGIC);
+        this.out.write(VERSION);
+    }
+
+    /************************************************************/
+    /* Writing */
+
+    /**
+     * Writes a record of a game's moves and status.
+     *
+     * @param game game to write
+     * @throws IOException if the record cannot be written
+     */
+    public void write(SuperTicTacToeGame game) throws IOException {
+        writeHeader(game.getBoardSize(), game.getNumToWin(), game.getStartingPlayer());
+        writeVarint(game.getMoveCount());
+        for (int i = 0; i < game.getMoveCount(); i++) {
+            writeVarint(game.getMove(i));
+        }
+        writeResult(game.getGameStatus());
+        recordCount++;
+    }
+
+    /**
+     * Writes a record of a game given as a list of moves. A record that is refused writes nothing, so the stream
+     * still reads back.
+     *
+     * @param boardSize      size of the board
+     * @param numToWin       number of connections in a row needed to win
+     * @param startingPlayer player that moved first
+     * @param moves          moves made, encoded as row * size + col
+     * @param numMoves       number of moves in the array to write
+     * @param result         status of the game after the moves
+     * @throws IOException              if the record cannot be written
+     * @throws IllegalArgumentException if startingPlayer is not X or O, a move is off the board or result is null
+     */
+    public void write(int boardSize, int numToWin, Cell startingPlayer, int[] moves, int numMoves,
+                      GameStatus result) throws IOException {
+        for (int i = 0; i < numMoves; i++) {
+            if (moves[i] < 0 || moves[i] >= boardSize * boardSize) {
+                throw new IllegalArgumentException("Move " + moves[i] + " is off the board.");
+            }
+        }
+        if (result == null) {
+            throw new IllegalArgumentException("Result must not be null.");
+        }
+
+        writeHeader(boardSize, numToWin, startingPlayer);
+        writeVarint(numMoves);
+        for (int i = 0; i < numMoves; i++) {
+            writeVarint(moves[i]);
+        }
+        writeResult(result);
+        recordCount++;
+    }
+
+    /**
+     * Gets the number of records written.
+     *
+     * @return number of records
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Writes any buffered records to the stream.
+     *
+     * @throws IOException if the stream cannot be written
+     */
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Writes any buffered records and closes the stream.
+     *
+     * @throws IOException if the stream cannot be written or closed
+     */
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * Private helper method.
+     * Writes the board size, number to win and starting player of a record.
+     */
+    private void writeHeader(int boardSize, int numToWin, Cell startingPlayer) throws IOException {
+        if (startingPlayer != Cell.X && startingPlayer != Cell.O) {
+            throw new IllegalArgumentException("Starting player must be X or O.");
+        }
+
+        writeVarint(boardSize);
+        writeVarint(numToWin);
+        out.write((startingPlayer == Cell.X) ? 0 : 1);
+    }
+
+    /**
+     * Private helper method.
+     * Writes the code of a game's result.
+     */
+    private void writeResult(GameStatus result) throws IOException {
+        for (int i = 0; i < RESULTS.length; i++) {
+            if (RESULTS[i] == result) {
+                out.write(i);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Result must not be null.");
+    }
+
+    /**
+     * Private helper method.
+     * Writes a non-negative int as a varint.
+     */
+    private void writeVarint(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+} // End of class GameRecordWriter
@@ -0,0 +1,773 @@
+package Project2;
+
+/**
+ * GameServer hosts SuperTicTacToe games over TCP. Every connection and game is handled by one thread running an NIO
+ * selector, so many thousands of connections need no thread each. Only the computer player's moves, which can take
+ * much longer than handling a message, are made on a separate pool of threads.
+ *
+ * The protocol is one line of ASCII text per message.
+ * Client to server:
+ *   NEW size numToWin PVP    wait for another player wanting the same board, then play them
+ *   NEW size numToWin CPU    play the computer, the client is X and moves first
+ *   MOVE row col             make a move in the current game
+ *   QUIT                     close the connection
+ * Server to client:
+ *   WAIT                                  no other player is waiting yet
+ *   START cell size numToWin              a game started, cell is X or O, X moves first
+ *   MOVED row col cell status             a move was made, status is IN_PROGRESS, X_WON, O_WON or CATS
+ *   END OPPONENT_LEFT                     the other player disconnected
+ *   ERR message                           the last message was not valid
+ * A game ends with the MOVED message whose status is not IN_PROGRESS, after which NEW starts another game.
+ *
+ * Following the thread safety contract of SuperTicTacToeGame, a game is only used by the selector thread, except
+ * while the computer is choosing a move for it. Then it is handed to a computer thread, and the selector thread does
+ * not touch it again until the computer thread hands it back through a queue.
+ *
+ * If a journal file is given, every game is saved in a GameJournal while it is played, and the win totals carry on
+ * from one run of the server to the next. Games cut off when the server stopped cannot be resumed, because their
+ * players have gone, so they are ended when the server starts.
+ *
+ * Games against the computer use the opening book and solved database for their board from the
+ * OpeningBook.DEFAULT_DIRECTORY directory, if there are any.
+ *
+ * Usage: java Project2.GameServer [port] [computerThreads] [computerMoveMillis] [journalFile]
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/************************************************************/
+/* Class */
+public class GameServer {
+    /************************************************************/
+    /* Variables */
+    // port the server listens on by default
+    public static final int DEFAULT_PORT = 7777;
+    // time the computer player searches for each move by default, in milliseconds
+    public static final int DEFAULT_COMPUTER_MOVE_MILLIS = 50;
+
+    // smallest and largest board sizes accepted. The launcher goes on to sparse boards far bigger than this, but the
+    // server's computer searches are sized for the largest board here and every game keeps a dense board
+    private static final int MIN_BOARD_SIZE = 3;
+    private static final int MAX_BOARD_SIZE = 14;
+    // longest the server waits for computer moves to finish when it stops, before giving up on closing the journal
+    private static final long STOP_TIMEOUT_MILLIS = 10000;
+    // longest message accepted, in bytes
+    private static final int MAX_LINE_LENGTH = 256;
+    // how often the server prints its statistics, in milliseconds
+    private static final long STATS_INTERVAL_MILLIS = 10000;
+
+    // selector every connection is registered with, and the channel new connections arrive on
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+
+    // threads the computer player's moves are made on, each with its own search
+    private final ExecutorService computerThreads;
+    private final ThreadLocal<AlphaBetaSearch> computerSearches;
+    // part of each computer move the threat search may use before the search, in milliseconds
+    private final int threatSearchMillis;
+    // games whose computer move has been made, waiting to be picked up by the selector thread
+    private final ConcurrentLinkedQueue<Session> computerMovesDone = new ConcurrentLinkedQueue<>();
+
+    // opening book for each board size and number to win, or null for boards without a book
+    private final Map<Integer, OpeningBook> openingBooks = new HashMap<>();
+    // solved database for each board size and number to win, or null for boards that have not been solved
+    private final Map<Integer, SolvedDatabase> solvedDatabases = new HashMap<>();
+    private Path bookDirectory = Paths.get(OpeningBook.DEFAULT_DIRECTORY);
+
+    // player waiting for an opponent for each board size and number to win
+    private final Map<Integer, Connection> waitingPlayers = new HashMap<>();
+
+    // journal games are saved in, or null to not save them
+    private GameJournal journal;
+
+    // if statistics are printed while running
+    private boolean printStats;
+    private volatile boolean running;
+
+    // statistics
+    private int connectionCount;
+    private int gameCount;
+    private long gamesFinished;
+    private long movesHandled;
+    private final LatencyHistogram moveLatency = new LatencyHistogram();
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates a server listening on a port of the loopback and network interfaces.
+     *
+     * @param port               port to listen on, 0 picks a free port
+     * @param computerThreads    number of threads the computer player's moves are made on, at least 1
+     * @param computerMoveMillis time the computer player searches for each move, in milliseconds
+     * @throws IOException              if the port cannot be listened on
+     * @throws IllegalArgumentException if computerThreads is less than 1
+     */
+    public GameServer(int port, int computerThreads, int computerMoveMillis) throws IOException {
+        if (computerThreads < 1) {
+            throw new IllegalArgumentException("Computer thread count must be at least 1.");
+        }
+
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port), 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        this.computerThreads = Executors.newFixedThreadPool(computerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "GameServer computer player");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The threat search runs before the search, so the two share the move time. 0 is no limit for both
+        threatSearchMillis = (computerMoveMillis > 0) ? Math.max(1, computerMoveMillis / 5) : 0;
+        int searchMillis = (computerMoveMillis > 0) ? Math.max(1, computerMoveMillis - threatSearchMillis) : 0;
+        computerSearches = ThreadLocal.withInitial(() -> {
+            AlphaBetaSearch search = new AlphaBetaSearch(MAX_BOARD_SIZE * MAX_BOARD_SIZE, new LineEvaluator());
+            search.setTimeBudget(searchMillis);
+            return search;
+        });
+    }
+
+    /************************************************************/
+    /* Main Method */
+
+    /**
+     * Starts a server and runs it until the program is stopped.
+     *
+     * @param args optional port, number of computer threads, computer move time in milliseconds and journal file
+     * @throws IOException if the port cannot be listened on or the journal cannot be opened
+     */
+    public static void main(String[] args) throws IOException {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int computerThreads = (args.length > 1) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int computerMoveMillis = (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_COMPUTER_MOVE_MILLIS;
+
+        GameServer server = new GameServer(port, computerThreads, computerMoveMillis);
+        server.setPrintStats(true);
+        if (args.length > 3) {
+            GameJournal journal = new GameJournal(Paths.get(args[3]));
+            for (int sessionId : journal.getRecoveredGames().keySet()) {
+                journal.endSession(sessionId);
+            }
+            System.out.printf("Journal %s: X won %d, O won %d, cats %d%n", args[3], journal.getXWins(),
+                    journal.getOWins(), journal.getDraws());
+            server.setJournal(journal);
+        }
+        System.out.println("Listening on port " + server.getPort());
+        server.run();
+    }
+
+    /************************************************************/
+    /* Accessors and Mutators */
+
+    /**
+     * Gets the port the server is listening on.
+     *
+     * @return port number
+     * @throws IOException if the port cannot be read
+     */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Sets if the server prints its statistics every few seconds while running.
+     *
+     * @param printStats true to print statistics
+     */
+    public void setPrintStats(boolean printStats) {
+        this.printStats = printStats;
+    }
+
+    /**
+     * Sets the journal every game started from now on is saved in. The journal is closed when the server stops.
+     *
+     * @param journal journal to save games in, or null to not save them
+     */
+    public void setJournal(GameJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Sets the directory opening books and solved databases are loaded from. Those already loaded are kept.
+     *
+     * @param bookDirectory directory holding book and database files
+     */
+    public void setBookDirectory(Path bookDirectory) {
+        this.bookDirectory = bookDirectory;
+    }
+
+    /**
+     * Stops a running server. Can be called from any thread.
+     */
+    public void stop() {
+        running = false;
+        selector.wakeup();
+    }
+
+    /************************************************************/
+    /* Event Loop */
+
+    /**
+     * Handles connections and messages on the calling thread until stop is called, then closes every connection.
+     *
+     * @throws IOException if the selector fails
+     */
+    public void run() throws IOException {
+        running = true;
+        long nextStats = System.currentTimeMillis() + STATS_INTERVAL_MILLIS;
+
+        try {
+            while (running) {
+                selector.select(STATS_INTERVAL_MILLIS);
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handleKey(key);
+                }
+
+                Session session;
+                while ((session = computerMovesDone.poll()) != null) {
+                    finishComputerMove(session);
+                }
+
+                if (printStats && System.currentTimeMillis() >= nextStats) {
+                    printStats();
+                    nextStats = System.currentTimeMillis() + STATS_INTERVAL_MILLIS;
+                }
+            }
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            selector.close();
+            computerThreads.shutdownNow();
+            if (journal != null) {
+                // A computer move still running would append to the journal, so it is only closed once they are done
+                if (awaitComputerThreads()) {
+                    journal.close();
+                } else {
+                    System.err.println("Computer moves did not finish, the journal is left open.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Waits for the computer threads to finish the moves they are making after shutdownNow.
+     *
+     * @return true if every computer thread finished in time
+     */
+    private boolean awaitComputerThreads() {
+        try {
+            return computerThreads.awaitTermination(STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Accepts a connection, reads messages or writes waiting output for a selected key.
+     */
+    private void handleKey(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+
+        try {
+            if (key.isAcceptable()) {
+                SocketChannel channel = serverChannel.accept();
+                if (channel != null) {
+                    channel.configureBlocking(false);
+                    channel.socket().setTcpNoDelay(true);
+                    Connection connection = new Connection(channel);
+                    connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+                    connectionCount++;
+                }
+                return;
+            }
+
+            Connection connection = (Connection) key.attachment();
+            if (key.isReadable()) {
+                read(connection);
+            }
+            if (key.isValid() && key.isWritable()) {
+                flush(connection);
+            }
+        } catch (IOException e) {
+            if (key.attachment() instanceof Connection) {
+                close((Connection) key.attachment());
+            }
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Reads what has arrived on a connection and handles each complete line.
+     */
+    private void read(Connection connection) throws IOException {
+        ByteBuffer in = connection.in;
+        if (connection.channel.read(in) < 0) {
+            close(connection);
+            return;
+        }
+
+        // Handle every complete line, then keep the start of the next one
+        int lineStart = 0;
+        for (int i = 0; i < in.position(); i++) {
+            if (in.get(i) == '\n') {
+                String line = new String(in.array(), lineStart, i - lineStart, StandardCharsets.US_ASCII).trim();
+                lineStart = i + 1;
+                if (!line.isEmpty()) {
+                    handleLine(connection, line);
+                }
+                if (!connection.channel.isOpen()) {
+                    return;
+                }
+            }
+        }
+        in.limit(in.position());
+        in.position(lineStart);
+        in.compact();
+
+        if (!in.hasRemaining()) {
+            send(connection, "ERR Line too long");
+            close(connection);
+        }
+    }
+
+    /************************************************************/
+    /* Messages */
+
+    /**
+     * Private helper method.
+     * Handles one message from a client.
+     */
+    private void handleLine(Connection connection, String line) {
+        String[] parts = line.split("\\s+");
+
+        try {
+            switch (parts[0].toUpperCase()) {
+                case "NEW":
+                    if (parts.length != 4) {
+                        throw new IllegalArgumentException("Usage: NEW size numToWin PVP|CPU");
+                    }
+                    handleNew(connection, Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                            parts[3].toUpperCase());
+                    break;
+                case "MOVE":
+                    if (parts.length != 3) {
+                        throw new IllegalArgumentException("Usage: MOVE row col");
+                    }
+                    handleMove(connection, Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+                    break;
+                case "QUIT":
+                    close(connection);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown command " + parts[0]);
+            }
+        } catch (NumberFormatException e) {
+            send(connection, "ERR Numbers expected");
+        } catch (IllegalArgumentException e) {
+            send(connection, "ERR " + e.getMessage());
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Starts a game against the computer, pairs the connection with a waiting player, or makes it wait.
+     *
+     * @throws IllegalArgumentException if the connection is already in a game or the board is not valid
+     */
+    private void handleNew(Connection connection, int size, int numToWin, String mode) {
+        if (connection.session != null || waitingPlayers.containsValue(connection)) {
+            throw new IllegalArgumentException("Already in a game");
+        }
+        // The launcher's rules for the number to win, on boards up to MAX_BOARD_SIZE
+        if (size < MIN_BOARD_SIZE || size > MAX_BOARD_SIZE
+                || (size == 3 && numToWin != 3) || (size > 3 && (numToWin <= 3 || numToWin > size))) {
+            throw new IllegalArgumentException("Board size must be 3 to 14, and to win 3 on 3x3 or 4 to size");
+        }
+
+        if (mode.equals("CPU")) {
+            SuperTicTacToeGame game = new SuperTicTacToeGame(size, numToWin, Cell.X);
+            game.setThreatSearchTimeBudget(threatSearchMillis);
+            game.setOpeningBook(getOpeningBook(size, numToWin));
+            game.setSolvedDatabase(getSolvedDatabase(size, numToWin));
+            startSession(new Session(game, connection, null));
+        } else if (mode.equals("PVP")) {
+            int boardKey = size * (MAX_BOARD_SIZE + 1) + numToWin;
+            Connection opponent = waitingPlayers.remove(boardKey);
+            if (opponent == null) {
+                waitingPlayers.put(boardKey, connection);
+                send(connection, "WAIT");
+            } else {
+                startSession(new Session(new SuperTicTacToeGame(size, numToWin, Cell.X), opponent, connection));
+            }
+        } else {
+            throw new IllegalArgumentException("Mode must be PVP or CPU");
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Gets the opening book for a board, opening it the first time it is needed.
+     *
+     * @return the book, or null if there is none or it cannot be read
+     */
+    private OpeningBook getOpeningBook(int size, int numToWin) {
+        int boardKey = size * (MAX_BOARD_SIZE + 1) + numToWin;
+        if (!openingBooks.containsKey(boardKey)) {
+            OpeningBook book = null;
+            try {
+                book = OpeningBook.load(bookDirectory, size, numToWin);
+            } catch (IOException e) {
+                System.err.println("Opening book for " + size + "x" + size + " cannot be read: " + e.getMessage());
+            }
+            openingBooks.put(boardKey, book);
+        }
+        return openingBooks.get(boardKey);
+    }
+
+    /**
+     * Private helper method.
+     * Gets the solved database for a board, opening it the first time it is needed.
+     *
+     * @return the database, or null if there is none or it cannot be read
+     */
+    private SolvedDatabase getSolvedDatabase(int size, int numToWin) {
+        int boardKey = size * (MAX_BOARD_SIZE + 1) + numToWin;
+        if (!solvedDatabases.containsKey(boardKey)) {
+            SolvedDatabase database = null;
+            try {
+                database = SolvedDatabase.load(bookDirectory, size, numToWin);
+            } catch (IOException e) {
+                System.err.println("Solved database for " + size + "x" + size + " cannot be read: " + e.getMessage());
+            }
+            solvedDatabases.put(boardKey, database);
+        }
+        return solvedDatabases.get(boardKey);
+    }
+
+    /**
+     * Private helper method.
+     * Makes a client's move, then hands the game to a computer thread if the computer moves next.
+     *
+     * @throws IllegalArgumentException if the connection is not in a game, it is not their turn, or the cell is
+     *                                  not an empty cell on the board
+     */
+    private void handleMove(Connection connection, int row, int col) {
+        long start = System.nanoTime();
+        Session session = connection.session;
+
+        if (session == null) {
+            throw new IllegalArgumentException("Not in a game");
+        }
+        if (session.computerThinking || session.game.getCurrentPlayer() != connection.cell) {
+            throw new IllegalArgumentException("Not your turn");
+        }
+        // getCell checks the cell is on the board
+        if (session.game.getCell(row, col) != Cell.EMPTY) {
+            throw new IllegalArgumentException("Cell is taken");
+        }
+
+        session.game.select(row, col);
+        sendMove(session);
+
+        if (connection.session == session && session.players[1] == null) {
+            // The computer moves next, the game belongs to the computer thread until it is done
+            session.computerThinking = true;
+            computerThreads.execute(() -> {
+                try {
+                    session.game.setComputerEngine(computerSearches.get());
+                    session.game.playComputerTurn();
+                } catch (RuntimeException | Error e) {
+                    session.computerError = e;
+                } finally {
+                    // The game always goes back to the selector thread, or the session would be thinking forever
+                    computerMovesDone.add(session);
+                    selector.wakeup();
+                }
+            });
+        }
+
+        movesHandled++;
+        moveLatency.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Private helper method.
+     * Sends the computer's move once a computer thread has made it.
+     */
+    private void finishComputerMove(Session session) {
+        session.computerThinking = false;
+        if (session.computerError != null) {
+            System.err.println("Computer move failed: " + session.computerError);
+            // The game cannot go on without the computer's move, so it is ended for the player
+            if (!session.over) {
+                send(session.players[0], "ERR Computer player failed");
+                endSession(session);
+                return;
+            }
+        }
+
+        if (!session.over) {
+            sendMove(session);
+        } else {
+            // The game ended while the computer was thinking, it could not be taken out of the journal until now
+            endJournalSession(session);
+        }
+    }
+
+    /************************************************************/
+    /* Sessions */
+
+    /**
+     * Private helper method.
+     * Tells the players a game has started.
+     */
+    private void startSession(Session session) {
+        for (int i = 0; i < session.players.length; i++) {
+            Connection player = session.players[i];
+            if (player != null) {
+                player.session = session;
+                player.cell = (i == 0) ? Cell.X : Cell.O;
+                send(player, "START " + player.cell + " " + session.game.getBoardSize() + " "
+                        + session.game.getNumToWin());
+            }
+        }
+        if (journal != null) {
+            session.journalId = journal.startSession(session.game);
+        }
+        gameCount++;
+    }
+
+    /**
+     * Private helper method.
+     * Sends the last move made in a game to its players, and ends the game if the move decided it.
+     */
+    private void sendMove(Session session) {
+        SuperTicTacToeGame game = session.game;
+        int move = game.getLastMove();
+        int size = game.getBoardSize();
+        GameStatus status = game.getGameStatus();
+        String message = "MOVED " + (move / size) + " " + (move % size) + " " + Position.opponent(game.getCurrentPlayer())
+                + " " + status;
+
+        for (Connection player : session.players) {
+            if (player != null) {
+                send(player, message);
+            }
+        }
+
+        if (status != GameStatus.IN_PROGRESS) {
+            endSession(session);
+            gamesFinished++;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Takes the players out of a game so they can start another.
+     */
+    private void endSession(Session session) {
+        if (session.over) {
+            return;
+        }
+
+        session.over = true;
+        for (Connection player : session.players) {
+            if (player != null && player.session == session) {
+                player.session = null;
+            }
+        }
+        if (!session.computerThinking) {
+            endJournalSession(session);
+        }
+        gameCount--;
+    }
+
+    /**
+     * Private helper method.
+     * Stops saving a game that is over in the journal.
+     */
+    private void endJournalSession(Session session) {
+        if (journal != null && session.journalId != 0) {
+            journal.endSession(session.journalId);
+            session.journalId = 0;
+        }
+    }
+
+    /************************************************************/
+    /* Connections */
+
+    /**
+     * Private helper method.
+     * Queues a line to send to a client and writes as much as the connection takes now.
+     */
+    private void send(Connection connection, String line) {
+        if (!connection.channel.isOpen()) {
+            return;
+        }
+
+        byte[] bytes = (line + "\n").getBytes(StandardCharsets.US_ASCII);
+        if (connection.out.remaining() < bytes.length) {
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(connection.out.capacity() * 2,
+                    connection.out.position() + bytes.length));
+            connection.out.flip();
+            bigger.put(connection.out);
+            connection.out = bigger;
+        }
+        connection.out.put(bytes);
+
+        try {
+            flush(connection);
+        } catch (IOException e) {
+            close(connection);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Writes waiting output, and asks to be told when the connection can take more if some is left.
+     */
+    private void flush(Connection connection) throws IOException {
+        ByteBuffer out = connection.out;
+        out.flip();
+        connection.channel.write(out);
+        out.compact();
+
+        if (out.position() > 0) {
+            connection.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        } else {
+            connection.key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Closes a connection, and ends its game or takes it off the waiting list.
+     */
+    private void close(Connection connection) {
+        if (!connection.channel.isOpen()) {
+            return;
+        }
+
+        waitingPlayers.values().remove(connection);
+        Session session = connection.session;
+        if (session != null) {
+            endSession(session);
+            for (Connection player : session.players) {
+                if (player != null && player != connection) {
+                    send(player, "END OPPONENT_LEFT");
+                }
+            }
+        }
+
+        connection.key.cancel();
+        try {
+            connection.channel.close();
+        } catch (IOException e) {
+            // The connection is gone either way
+        }
+        connectionCount--;
+    }
+
+    /**
+     * Private helper method.
+     * Prints the number of connections and games, and how long handling a move took.
+     */
+    private void printStats() {
+        System.out.printf("%d connections, %d games in progress, %d finished, %d moves, move handling p50 %.1f us"
+                        + " p99 %.1f us%n", connectionCount, gameCount, gamesFinished, movesHandled,
+                moveLatency.getPercentile(50) / 1e3, moveLatency.getPercentile(99) / 1e3);
+    }
+
+    /************************************************************/
+    /* Connection and Session */
+
+    /**
+     * Connection holds the buffers and game of one client.
+     */
+    private static class Connection {
+        // channel to the client and its key in the selector
+        private final SocketChannel channel;
+        private SelectionKey key;
+        // bytes read but not yet handled, and bytes waiting to be written
+        private final ByteBuffer in = ByteBuffer.allocate(MAX_LINE_LENGTH);
+        private ByteBuffer out = ByteBuffer.allocate(MAX_LINE_LENGTH);
+        // game the client is playing, and the cell they play
+        private Session session;
+        private Cell cell;
+
+        /**
+         * Creates a connection for a client's channel.
+         *
+         * @param channel channel to the client
+         */
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+    } // End of class Connection
+
+    /**
+     * Session is one game and the players in it.
+     */
+    private static class Session {
+        // the game being played
+        private final SuperTicTacToeGame game;
+        // the X and O players, O is null when playing the computer
+        private final Connection[] players;
+        // true while a computer thread is making a move, the game must not be touched until it is done
+        private boolean computerThinking;
+        // what the computer thread's last move failed with, or null if it did not fail. Set on the computer thread
+        // and read once the session has been handed back through computerMovesDone
+        private Throwable computerError;
+        // true once the game has finished or a player left
+        private boolean over;
+        // id of the game's session in the journal, or 0 if it is not being saved
+        private int journalId;
+
+        /**
+         * Creates a session.
+         *
+         * @param game    the game to play
+         * @param xPlayer connection playing X
+         * @param oPlayer connection playing O, or null for the computer
+         */
+        private Session(SuperTicTacToeGame game, Connection xPlayer, Connection oPlayer) {
+            this.game = game;
+            players = new Connection[]{xPlayer, oPlayer};
+        }
+    } // End of class Session
+} // End of class GameServer
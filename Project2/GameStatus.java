@@ -1,17 +1,17 @@
-package Project2;
-
-/**
- * ...
- *
- *  @authors Kara Byers, Darren Fife, Breanna Zinky
- *  @date 10/1/22
- *  @version 1.0
- */
-
-/************************************************************/
-public enum GameStatus {
-    X_WON,
-    O_WON,
-    CATS,
-    IN_PROGRESS;
-}
+package Project2;
+
+/**
+ * ...
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/1/22
+ *  @version 1.0
+ */
+
+/************************************************************/
+public enum GameStatus {
+    X_WON,
+    O_WON,
+    CATS,
+    IN_PROGRESS;
+}
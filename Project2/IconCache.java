@@ -0,0 +1,248 @@
+package Project2;
+
+/**
+ * IconCache loads the board's X, O and empty cell images from the classpath and scales them to a cell size, so they
+ * are found whether the game is run from the sources, the classes or the jar. Each image is scaled once per size and
+ * kept in memory, and the scaled image is also saved to a cache directory on disk when there is one, so later runs
+ * skip decoding and scaling the full size image. Saved images are named after a hash of the image they were scaled
+ * from, so changing X.png or O.png is never hidden by an old copy, and the shared cache is kept in the user's home
+ * directory where other users cannot put images of their own.
+ *
+ * Images are loaded and scaled on a background thread, so the board can be shown at once and given its icons when
+ * they are ready. The same image and size asked for again, from any thread, returns the same future.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+/************************************************************/
+/* Class */
+public class IconCache {
+    /************************************************************/
+    /* Variables */
+    // names of the images, found next to this class on the classpath
+    public static final String X_IMAGE = "X.png";
+    public static final String O_IMAGE = "O.png";
+    public static final String EMPTY_IMAGE = "emptyIcon.png";
+
+    // cache shared by every board, saving scaled images in the user's home directory
+    private static final IconCache SHARED = new IconCache(
+            Paths.get(System.getProperty("user.home"), ".super-tic-tac-toe-icons"));
+    // number of hex digits of the image's SHA-256 hash kept in the names of saved images
+    private static final int HASH_DIGITS = 16;
+
+    // scaled icon for each image name and size, finished or still loading
+    private final Map<String, CompletableFuture<ImageIcon>> icons = new ConcurrentHashMap<>();
+    // directory scaled images are saved in, or null to only keep them in memory
+    private final Path diskDirectory;
+    // thread the images are loaded and scaled on
+    private final ExecutorService loader;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates a cache.
+     *
+     * @param diskDirectory directory to save scaled images in, or null to only keep them in memory
+     */
+    public IconCache(Path diskDirectory) {
+        this.diskDirectory = diskDirectory;
+        loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "IconCache loader");
+            // Loading icons must never keep the program running
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the cache shared by every board, which saves scaled images in .super-tic-tac-toe-icons in the user's home
+     * directory.
+     *
+     * @return shared cache
+     */
+    public static IconCache getShared() {
+        return SHARED;
+    }
+
+    /************************************************************/
+    /* Loading */
+
+    /**
+     * Starts loading an image scaled to a square of the given size, unless it is already loaded or loading.
+     *
+     * @param name   image name, such as X_IMAGE
+     * @param pixels width and height to scale the image to
+     * @return future completed with the icon on the loader thread, or completed exceptionally if the image cannot be
+     *         read
+     * @throws IllegalArgumentException if pixels is less than 1
+     */
+    public CompletableFuture<ImageIcon> load(String name, int pixels) {
+        if (pixels < 1) {
+            throw new IllegalArgumentException("Icon size must be at least 1 pixel.");
+        }
+        return icons.computeIfAbsent(name + "@" + pixels,
+                key -> CompletableFuture.supplyAsync(() -> new ImageIcon(loadScaled(name, pixels)), loader));
+    }
+
+    /**
+     * Gets an image scaled to a square of the given size, waiting for it to load if it has not been.
+     *
+     * @param name   image name, such as X_IMAGE
+     * @param pixels width and height to scale the image to
+     * @return the icon
+     * @throws UncheckedIOException     if the image cannot be read
+     * @throws IllegalArgumentException if pixels is less than 1
+     */
+    public ImageIcon get(String name, int pixels) {
+        try {
+            return load(name, pixels).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw (UncheckedIOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Reads the scaled image from the disk cache, or scales the classpath image and saves it there. The cached copy
+     * is named after the size and a hash of the classpath image's bytes, so it is only used for the same image.
+     */
+    private BufferedImage loadScaled(String name, int pixels) {
+        byte[] source = readResource(name);
+        Path cached = (diskDirectory != null) ? diskDirectory.resolve(pixels + "-" + hash(source) + "-" + name) : null;
+        if (cached != null && Files.isRegularFile(cached)) {
+            try {
+                BufferedImage image = ImageIO.read(cached.toFile());
+                if (image != null && image.getWidth() == pixels && image.getHeight() == pixels) {
+                    return image;
+                }
+            } catch (IOException e) {
+                // A damaged cache file is replaced below
+            }
+        }
+
+        BufferedImage image;
+        try {
+            image = ImageIO.read(new ByteArrayInputStream(source));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read image " + name, e);
+        }
+        if (image == null) {
+            throw new UncheckedIOException(new IOException("Image " + name + " is not an image ImageIO can read."));
+        }
+
+        BufferedImage scaled = scale(image, pixels);
+        if (cached != null) {
+            save(scaled, cached);
+        }
+        return scaled;
+    }
+
+    /**
+     * Private helper method.
+     * Reads the bytes of an image on the classpath.
+     */
+    private static byte[] readResource(String name) {
+        try (InputStream in = IconCache.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new UncheckedIOException(new IOException("Image " + name + " is not on the classpath."));
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read image " + name, e);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Gets the first HASH_DIGITS hex digits of the SHA-256 hash of some bytes.
+     */
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(HASH_DIGITS);
+            for (int i = 0; i < HASH_DIGITS / 2; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform has SHA-256
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Scales an image to a square, halving it in steps first so large images shrink smoothly.
+     */
+    private static BufferedImage scale(BufferedImage image, int pixels) {
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        do {
+            width = Math.max(pixels, width / 2);
+            height = Math.max(pixels, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(current, 0, 0, width, height, null);
+            g.dispose();
+            current = next;
+        } while (width != pixels || height != pixels);
+
+        return current;
+    }
+
+    /**
+     * Private helper method.
+     * Saves a scaled image to the disk cache. The image is written to a temporary file and moved into place, so
+     * another run never reads half a file. The cache is only a speed up, so failing to save is ignored.
+     */
+    private static void save(BufferedImage image, Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path temporary = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                ImageIO.write(image, "png", temporary.toFile());
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            // The image is still used, it is just scaled again next run
+        }
+    }
+} // End of class IconCache
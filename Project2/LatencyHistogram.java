@@ -0,0 +1,113 @@
+package Project2;
+
+/**
+ * LatencyHistogram counts times in nanoseconds in buckets that are about 6% wide at every scale, so percentiles
+ * can be read from millions of times without storing them. It is not thread-safe, each thread should count into its
+ * own histogram and add them together at the end.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Class */
+public class LatencyHistogram {
+    /************************************************************/
+    /* Variables */
+    // number of buckets for each power of two, times below this each get a bucket of their own
+    private static final int SUB_BUCKETS = 16;
+    private static final int SUB_BUCKET_BITS = 4;
+
+    // number of times in each bucket
+    private final long[] counts = new long[(64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS];
+    private long count;
+    private long max;
+
+    /**
+     * Counts a time.
+     *
+     * @param nanos time in nanoseconds
+     */
+    public void record(long nanos) {
+        counts[bucketOf(Math.max(0, nanos))]++;
+        count++;
+        max = Math.max(max, nanos);
+    }
+
+    /**
+     * Adds the times counted by another histogram.
+     *
+     * @param other histogram to add
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Gets the number of times counted.
+     *
+     * @return number of times
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the largest time counted.
+     *
+     * @return largest time in nanoseconds
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the time that percentile percent of the times were at or below, to within the bucket width.
+     *
+     * @param percentile percentile from 0 to 100
+     * @return time in nanoseconds, 0 if nothing was counted
+     */
+    public long getPercentile(double percentile) {
+        long target = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target && seen > 0) {
+                return Math.min(bucketStart(i), max);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Private helper method.
+     * Gets the bucket a time goes in, using the highest set bit and the SUB_BUCKET_BITS bits below it.
+     */
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int highBit = 63 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (highBit - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (highBit - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Private helper method.
+     * Gets the smallest time that goes in a bucket.
+     */
+    private static long bucketStart(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int highBit = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << (highBit - SUB_BUCKET_BITS);
+    }
+} // End of class LatencyHistogram
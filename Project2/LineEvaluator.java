@@ -0,0 +1,55 @@
+package Project2;
+
+/**
+ * LineEvaluator scores a position by looking at every numToWin long window of cells along the rows, columns and
+ * diagonals. A window that only one player has stones in could still become a win for them, and is worth more the
+ * more stones they have in it. The position keeps how many such windows each player has of every stone count, so a
+ * position is scored in O(numToWin) without looking at the board.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Class */
+public class LineEvaluator implements Evaluator {
+    /************************************************************/
+    /* Methods */
+
+    /**
+     * Gets how much a window holding count stones of only one player is worth.
+     *
+     * @param count number of stones in the window
+     * @return value of the window
+     */
+    public static int windowValue(int count) {
+        if (count == 0) {
+            return 0;
+        }
+        // Each extra stone in a window makes it four times as valuable; capped at 8 stones to keep the total well below AlphaBetaSearch.WIN_SCORE
+        return 1 << (2 * Math.min(count, 8));
+    }
+
+    /**
+     * Scores the position from the point of view of the player.
+     *
+     * @param position position being scored
+     * @param player   Cell.X or Cell.O, the player the score is for
+     * @return score of the position for the player
+     */
+    @Override
+    public int evaluate(Position position, Cell player) {
+        LineWindows windows = position.getWindows();
+        Cell opponent = Position.opponent(player);
+        int score = 0;
+
+        // Windows with both players in them can never be won, and are not counted by getOpenWindowCount
+        for (int count = 1; count <= position.getNumToWin(); count++) {
+            score += (windows.getOpenWindowCount(player, count) - windows.getOpenWindowCount(opponent, count))
+                    * windowValue(count);
+        }
+
+        return score;
+    }
+} // End of class LineEvaluator
@@ -0,0 +1,331 @@
+package Project2;
+
+/**
+ * LineWindows keeps, for every numToWin long window of cells along the rows, columns and diagonals, how many X and O
+ * stones are in it. Adding or removing a stone only updates the windows through that cell, which is
+ * O(numToWin) windows. It also keeps how many windows hold exactly c stones of one player and none of the other,
+ * so questions like "can X win next move" are answered without looking at the board.
+ *
+ * Which cells make up each window only depends on the board size and number to win, so that layout is made once for
+ * each and shared by every LineWindows for that board. Only the counts belong to one LineWindows.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/************************************************************/
+/* Class */
+public class LineWindows {
+    /************************************************************/
+    /* Variables */
+    // row and column steps for the row, column, NW-SE diagonal and NE-SW diagonal directions
+    private static final int[] ROW_STEPS = {0, 1, 1, 1};
+    private static final int[] COL_STEPS = {1, 0, 1, -1};
+    // layout of the windows for each board size and number to win, keyed by size << 32 | numToWin
+    private static final Map<Long, Layout> LAYOUTS = new ConcurrentHashMap<>();
+
+    // size of the board and length of each window
+    private final int size;
+    private final int numToWin;
+
+    // cells of each window, window w is cells w * numToWin to w * numToWin + numToWin - 1
+    private final int[] windowCells;
+    private final int numWindows;
+    // windows through each cell, cell c's windows are cellWindows[cellWindowStart[c]] to cellWindowStart[c + 1] - 1
+    private final int[] cellWindowStart;
+    private final int[] cellWindows;
+
+    // number of X and O stones in each window
+    private final int[] xCounts;
+    private final int[] oCounts;
+    // number of windows holding exactly c X stones and no O stones, and the other way around
+    private final int[] xOpenWindows;
+    private final int[] oOpenWindows;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates the windows for an empty board.
+     *
+     * @param size     size of the square board
+     * @param numToWin number of connections needed to win, the length of each window
+     */
+    public LineWindows(int size, int numToWin) {
+        this.size = size;
+        this.numToWin = numToWin;
+
+        Layout layout = LAYOUTS.computeIfAbsent(((long) size << 32) | numToWin, key -> new Layout(size, numToWin));
+        windowCells = layout.windowCells;
+        numWindows = layout.numWindows;
+        cellWindowStart = layout.cellWindowStart;
+        cellWindows = layout.cellWindows;
+
+        xCounts = new int[numWindows];
+        oCounts = new int[numWindows];
+        xOpenWindows = new int[numToWin + 1];
+        oOpenWindows = new int[numToWin + 1];
+        xOpenWindows[0] = numWindows;
+        oOpenWindows[0] = numWindows;
+    }
+
+    /**
+     * Copy constructor that creates separate counts for the same windows. The window layout is shared, since it
+     * never changes.
+     *
+     * @param other windows to copy
+     */
+    public LineWindows(LineWindows other) {
+        size = other.size;
+        numToWin = other.numToWin;
+        windowCells = other.windowCells;
+        numWindows = other.numWindows;
+        cellWindowStart = other.cellWindowStart;
+        cellWindows = other.cellWindows;
+
+        xCounts = other.xCounts.clone();
+        oCounts = other.oCounts.clone();
+        xOpenWindows = other.xOpenWindows.clone();
+        oOpenWindows = other.oOpenWindows.clone();
+    }
+
+    /************************************************************/
+    /* Updates */
+
+    /**
+     * Counts a stone placed on a cell.
+     *
+     * @param cell   cell encoded as row * size + col
+     * @param player Cell.X or Cell.O
+     */
+    public void add(int cell, Cell player) {
+        for (int i = cellWindowStart[cell]; i < cellWindowStart[cell + 1]; i++) {
+            int window = cellWindows[i];
+            uncountOpen(window);
+            if (player == Cell.X) {
+                xCounts[window]++;
+            } else {
+                oCounts[window]++;
+            }
+            countOpen(window);
+        }
+    }
+
+    /**
+     * Uncounts a stone taken off a cell.
+     *
+     * @param cell   cell encoded as row * size + col
+     * @param player Cell.X or Cell.O, the player whose stone it was
+     */
+    public void remove(int cell, Cell player) {
+        for (int i = cellWindowStart[cell]; i < cellWindowStart[cell + 1]; i++) {
+            int window = cellWindows[i];
+            uncountOpen(window);
+            if (player == Cell.X) {
+                xCounts[window]--;
+            } else {
+                oCounts[window]--;
+            }
+            countOpen(window);
+        }
+    }
+
+    /**
+     * Clears every count, for an empty board.
+     */
+    public void clear() {
+        for (int window = 0; window < numWindows; window++) {
+            xCounts[window] = 0;
+            oCounts[window] = 0;
+        }
+        for (int count = 0; count <= numToWin; count++) {
+            xOpenWindows[count] = 0;
+            oOpenWindows[count] = 0;
+        }
+        xOpenWindows[0] = numWindows;
+        oOpenWindows[0] = numWindows;
+    }
+
+    /**
+     * Private helper method.
+     * Takes a window out of the open window totals before its counts change.
+     */
+    private void uncountOpen(int window) {
+        if (oCounts[window] == 0) {
+            xOpenWindows[xCounts[window]]--;
+        }
+        if (xCounts[window] == 0) {
+            oOpenWindows[oCounts[window]]--;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Adds a window to the open window totals after its counts change.
+     */
+    private void countOpen(int window) {
+        if (oCounts[window] == 0) {
+            xOpenWindows[xCounts[window]]++;
+        }
+        if (xCounts[window] == 0) {
+            oOpenWindows[oCounts[window]]++;
+        }
+    }
+
+    /************************************************************/
+    /* Accessors */
+
+    /**
+     * Gets the number of windows on the board.
+     *
+     * @return number of windows
+     */
+    public int getNumWindows() {
+        return numWindows;
+    }
+
+    /**
+     * Gets the length of each window.
+     *
+     * @return number of connections needed to win
+     */
+    public int getNumToWin() {
+        return numToWin;
+    }
+
+    /**
+     * Gets a cell of a window.
+     *
+     * @param window window number
+     * @param index  index of the cell in the window, from 0 to numToWin - 1
+     * @return cell encoded as row * size + col
+     */
+    public int getWindowCell(int window, int index) {
+        return windowCells[window * numToWin + index];
+    }
+
+    /**
+     * Gets the number of the player's stones in a window.
+     *
+     * @param window window number
+     * @param player Cell.X or Cell.O
+     * @return number of stones
+     */
+    public int getCount(int window, Cell player) {
+        return (player == Cell.X) ? xCounts[window] : oCounts[window];
+    }
+
+    /**
+     * Gets the number of windows holding exactly count of the player's stones and none of the other player's.
+     *
+     * @param player Cell.X or Cell.O
+     * @param count  number of stones, from 0 to numToWin
+     * @return number of windows
+     */
+    public int getOpenWindowCount(Cell player, int count) {
+        return (player == Cell.X) ? xOpenWindows[count] : oOpenWindows[count];
+    }
+
+    /**
+     * Gets the index of the first window through a cell in the list read by getCellWindow.
+     *
+     * @param cell cell encoded as row * size + col
+     * @return start index of the cell's windows
+     */
+    public int getCellWindowStart(int cell) {
+        return cellWindowStart[cell];
+    }
+
+    /**
+     * Gets the index after the last window through a cell in the list read by getCellWindow.
+     *
+     * @param cell cell encoded as row * size + col
+     * @return end index of the cell's windows
+     */
+    public int getCellWindowEnd(int cell) {
+        return cellWindowStart[cell + 1];
+    }
+
+    /**
+     * Gets a window from the list of windows through cells.
+     *
+     * @param index index between getCellWindowStart and getCellWindowEnd of a cell
+     * @return window number
+     */
+    public int getCellWindow(int index) {
+        return cellWindows[index];
+    }
+
+    /* Private inner Class */
+
+    /**
+     * Private inner class holding which cells make up each window of a board and which windows go through each cell.
+     * It never changes once made, so one is shared by every LineWindows for the board, on any thread.
+     *
+     * @version 1.0
+     * @authors Kara Byers, Darren Fife, Breanna Zinky
+     * @date 10/18/26
+     */
+    private static final class Layout {
+        // cells of each window, window w is cells w * numToWin to w * numToWin + numToWin - 1
+        private final int[] windowCells;
+        private final int numWindows;
+        // windows through each cell, cell c's windows are cellWindows[cellWindowStart[c]] to cellWindowStart[c + 1] - 1
+        private final int[] cellWindowStart;
+        private final int[] cellWindows;
+
+        /**
+         * Finds every window that fits on a board.
+         *
+         * @param size     size of the square board
+         * @param numToWin number of connections needed to win, the length of each window
+         */
+        private Layout(int size, int numToWin) {
+            int[] cells = new int[4 * size * size * numToWin];
+            int[] windowsPerCell = new int[size * size + 1];
+            int count = 0;
+            for (int direction = 0; direction < ROW_STEPS.length; direction++) {
+                for (int row = 0; row < size; row++) {
+                    for (int col = 0; col < size; col++) {
+                        int endRow = row + ROW_STEPS[direction] * (numToWin - 1);
+                        int endCol = col + COL_STEPS[direction] * (numToWin - 1);
+                        if (endRow >= size || endCol < 0 || endCol >= size) {
+                            continue;
+                        }
+
+                        for (int i = 0; i < numToWin; i++) {
+                            int cell = (row + ROW_STEPS[direction] * i) * size + col + COL_STEPS[direction] * i;
+                            cells[count * numToWin + i] = cell;
+                            windowsPerCell[cell]++;
+                        }
+                        count++;
+                    }
+                }
+            }
+            numWindows = count;
+            windowCells = new int[numWindows * numToWin];
+            System.arraycopy(cells, 0, windowCells, 0, windowCells.length);
+
+            // Index the windows by cell
+            cellWindowStart = new int[size * size + 1];
+            for (int cell = 0; cell < size * size; cell++) {
+                cellWindowStart[cell + 1] = cellWindowStart[cell] + windowsPerCell[cell];
+            }
+            cellWindows = new int[cellWindowStart[size * size]];
+            int[] filled = new int[size * size];
+            for (int window = 0; window < numWindows; window++) {
+                for (int i = 0; i < numToWin; i++) {
+                    int cell = windowCells[window * numToWin + i];
+                    cellWindows[cellWindowStart[cell] + filled[cell]++] = window;
+                }
+            }
+        }
+    } // End of class Layout
+} // End of class LineWindows
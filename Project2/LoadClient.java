@@ -0,0 +1,339 @@
+package Project2;
+
+/**
+ * LoadClient tests a GameServer by opening many connections from one thread and playing games on all of them at
+ * once with random moves. It prints the games finished per second, how long the server took to answer each move and
+ * how many errors came back.
+ *
+ * In cpu mode every connection plays the computer. In pvp mode the connections are paired up by the server, so an
+ * even number of connections should be used.
+ *
+ * Usage: java Project2.LoadClient [host] [port] [connections] [gamesPerConnection] [cpu|pvp] [boardSize] [numToWin]
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+
+/************************************************************/
+/* Class */
+public class LoadClient {
+    /************************************************************/
+    /* Variables */
+    // percentiles of move round trip time that are printed
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    // longest message read from the server, in bytes
+    private static final int MAX_LINE_LENGTH = 256;
+
+    // where to connect and what to play
+    private final InetSocketAddress address;
+    private final int numConnections;
+    private final int gamesPerConnection;
+    private final String mode;
+    private final int boardSize;
+    private final int numToWin;
+
+    // random numbers for the moves
+    private final SplittableRandom random = new SplittableRandom(42);
+    // time from sending a move to the server echoing it back
+    private final LatencyHistogram moveLatency = new LatencyHistogram();
+
+    // statistics
+    private int connectionsDone;
+    private long gamesFinished;
+    private long errors;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates a load client.
+     *
+     * @param address            address of the server
+     * @param numConnections     number of connections to open
+     * @param gamesPerConnection number of games each connection plays
+     * @param mode               cpu or pvp
+     * @param boardSize          size of the board
+     * @param numToWin           number of connections in a row needed to win
+     * @throws IllegalArgumentException if a count is less than 1 or the mode is not cpu or pvp
+     */
+    public LoadClient(InetSocketAddress address, int numConnections, int gamesPerConnection, String mode,
+                      int boardSize, int numToWin) {
+        if (numConnections < 1 || gamesPerConnection < 1) {
+            throw new IllegalArgumentException("Connection and game counts must be at least 1.");
+        }
+        if (!mode.equalsIgnoreCase("cpu") && !mode.equalsIgnoreCase("pvp")) {
+            throw new IllegalArgumentException("Mode must be cpu or pvp.");
+        }
+
+        this.address = address;
+        this.numConnections = numConnections;
+        this.gamesPerConnection = gamesPerConnection;
+        this.mode = mode.toUpperCase();
+        this.boardSize = boardSize;
+        this.numToWin = numToWin;
+    }
+
+    /************************************************************/
+    /* Main Method */
+
+    /**
+     * Runs the load client and prints its results.
+     *
+     * @param args optional host, port, connections, games per connection, mode, board size and number to win
+     * @throws IOException if the server cannot be reached
+     */
+    public static void main(String[] args) throws IOException {
+        String host = (args.length > 0) ? args[0] : "localhost";
+        int port = (args.length > 1) ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+        int connections = (args.length > 2) ? Integer.parseInt(args[2]) : 1000;
+        int games = (args.length > 3) ? Integer.parseInt(args[3]) : 10;
+        String mode = (args.length > 4) ? args[4] : "pvp";
+        int boardSize = (args.length > 5) ? Integer.parseInt(args[5]) : 3;
+        int numToWin = (args.length > 6) ? Integer.parseInt(args[6]) : 3;
+
+        LoadClient client = new LoadClient(new InetSocketAddress(host, port), connections, games, mode, boardSize,
+                numToWin);
+        System.out.printf("%d connections playing %d %s games each on %dx%d, %d to win%n",
+                connections, games, mode, boardSize, boardSize, numToWin);
+
+        long start = System.nanoTime();
+        client.run();
+        client.printResults((System.nanoTime() - start) / 1e9);
+    }
+
+    /************************************************************/
+    /* Running */
+
+    /**
+     * Opens every connection and plays until each has finished its games or been closed.
+     *
+     * @throws IOException if a connection cannot be opened
+     */
+    public void run() throws IOException {
+        try (Selector selector = Selector.open()) {
+            for (int i = 0; i < numConnections; i++) {
+                SocketChannel channel = SocketChannel.open(address);
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                ClientConnection connection = new ClientConnection(channel);
+                channel.register(selector, SelectionKey.OP_READ, connection);
+                send(connection, "NEW " + boardSize + " " + numToWin + " " + mode);
+            }
+
+            while (connectionsDone < numConnections) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    read((ClientConnection) key.attachment());
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of games finished.
+     *
+     * @return number of games that ended with a result
+     */
+    public long getGamesFinished() {
+        return gamesFinished;
+    }
+
+    /**
+     * Gets the number of errors the server sent back.
+     *
+     * @return number of ERR messages
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets the time from sending each move to the server echoing it back.
+     *
+     * @return move round trip times in nanoseconds
+     */
+    public LatencyHistogram getMoveLatency() {
+        return moveLatency;
+    }
+
+    /**
+     * Private helper method.
+     * Reads what has arrived on a connection and handles each complete line.
+     */
+    private void read(ClientConnection connection) throws IOException {
+        ByteBuffer in = connection.in;
+        if (connection.channel.read(in) < 0) {
+            finish(connection);
+            return;
+        }
+
+        int lineStart = 0;
+        for (int i = 0; i < in.position(); i++) {
+            if (in.get(i) == '\n') {
+                String line = new String(in.array(), lineStart, i - lineStart, StandardCharsets.US_ASCII);
+                lineStart = i + 1;
+                handleLine(connection, line.split(" "));
+                if (!connection.channel.isOpen()) {
+                    return;
+                }
+            }
+        }
+        in.limit(in.position());
+        in.position(lineStart);
+        in.compact();
+    }
+
+    /**
+     * Private helper method.
+     * Handles one message from the server.
+     */
+    private void handleLine(ClientConnection connection, String[] parts) throws IOException {
+        switch (parts[0]) {
+            case "START":
+                connection.cell = Cell.valueOf(parts[1]);
+                connection.taken = new boolean[boardSize * boardSize];
+                if (connection.cell == Cell.X) {
+                    sendMove(connection);
+                }
+                break;
+            case "MOVED":
+                int move = Integer.parseInt(parts[1]) * boardSize + Integer.parseInt(parts[2]);
+                connection.taken[move] = true;
+                if (Cell.valueOf(parts[3]) == connection.cell) {
+                    moveLatency.record(System.nanoTime() - connection.moveSent);
+                }
+
+                if (!parts[4].equals("IN_PROGRESS")) {
+                    gamesFinished++;
+                    nextGame(connection);
+                } else if (Cell.valueOf(parts[3]) != connection.cell) {
+                    sendMove(connection);
+                }
+                break;
+            case "END":
+                nextGame(connection);
+                break;
+            case "ERR":
+                errors++;
+                break;
+            default:
+                // WAIT needs no answer
+                break;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Starts the connection's next game, or closes it once it has played all of them.
+     */
+    private void nextGame(ClientConnection connection) throws IOException {
+        connection.gamesPlayed++;
+        if (connection.gamesPlayed < gamesPerConnection) {
+            send(connection, "NEW " + boardSize + " " + numToWin + " " + mode);
+        } else {
+            finish(connection);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Sends a move on a random empty cell.
+     */
+    private void sendMove(ClientConnection connection) throws IOException {
+        int move;
+        do {
+            move = random.nextInt(boardSize * boardSize);
+        } while (connection.taken[move]);
+
+        connection.moveSent = System.nanoTime();
+        send(connection, "MOVE " + (move / boardSize) + " " + (move % boardSize));
+    }
+
+    /**
+     * Private helper method.
+     * Writes a line to the server. The lines are short enough that the socket always takes them whole.
+     */
+    private void send(ClientConnection connection, String line) throws IOException {
+        ByteBuffer out = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.US_ASCII));
+        while (out.hasRemaining()) {
+            connection.channel.write(out);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Closes a connection and counts it as done.
+     */
+    private void finish(ClientConnection connection) throws IOException {
+        if (connection.channel.isOpen()) {
+            connection.channel.close();
+            connectionsDone++;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Prints the games per second, move round trip percentiles and error count.
+     *
+     * @param seconds time taken to play the games
+     */
+    private void printResults(double seconds) {
+        System.out.printf("%d games in %.2f s, %.0f games/sec, %d errors%n",
+                gamesFinished, seconds, gamesFinished / seconds, errors);
+
+        System.out.printf("%-12s %10s", "round trip", "moves");
+        for (double percentile : PERCENTILES) {
+            System.out.printf(" %10s", "p" + percentile);
+        }
+        System.out.printf(" %10s%n", "max");
+        System.out.printf("%-12s %10d", "(us)", moveLatency.getCount());
+        for (double percentile : PERCENTILES) {
+            System.out.printf(" %10.1f", moveLatency.getPercentile(percentile) / 1e3);
+        }
+        System.out.printf(" %10.1f%n", moveLatency.getMax() / 1e3);
+    }
+
+    /************************************************************/
+    /* Client Connection */
+
+    /**
+     * ClientConnection holds the state of one connection's current game.
+     */
+    private static class ClientConnection {
+        // channel to the server and bytes read but not yet handled
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(MAX_LINE_LENGTH);
+        // cell played in the current game, and which cells are taken
+        private Cell cell;
+        private boolean[] taken;
+        // number of games finished, and when the last move was sent
+        private int gamesPlayed;
+        private long moveSent;
+
+        /**
+         * Creates a connection for a channel to the server.
+         *
+         * @param channel channel to the server
+         */
+        private ClientConnection(SocketChannel channel) {
+            this.channel = channel;
+        }
+    } // End of class ClientConnection
+} // End of class LoadClient
@@ -0,0 +1,554 @@
+package Project2;
+
+/**
+ * MonteCarloSearch is a computer player that uses Monte Carlo Tree Search (UCT). Instead of scoring positions with
+ * an evaluator it plays many random games (playouts) from the position, and grows a tree towards the moves that win
+ * the most of them. This works well on large boards with long lines, where alpha-beta search cannot look far enough
+ * ahead.
+ *
+ * Each thread grows its own tree from the same position (root parallelism), and the move visited most across all
+ * trees is played. Trees are kept in primitive arrays allocated once, and playouts make and unmake moves on a copy
+ * of the position, so searching does not create objects.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/************************************************************/
+/* Class */
+public class MonteCarloSearch implements ComputerEngine {
+    /************************************************************/
+    /* Variables */
+    // number of tree nodes each thread can hold by default
+    public static final int DEFAULT_NODE_CAPACITY = 1 << 18;
+    // number of playouts per move used when neither a playout limit nor a time budget is set
+    private static final long DEFAULT_PLAYOUT_LIMIT = 20000;
+
+    // one tree per thread, index 0 runs on the calling thread
+    private final Worker[] workers;
+    // runs the other workers
+    private final ExecutorService helperThreads;
+
+    // playouts allowed per move across all threads, or 0 for no limit
+    private long playoutLimit;
+    // time allowed per move in nanoseconds, or 0 for no limit
+    private long timeBudgetNanos;
+
+    // playouts played and time taken by the last search
+    private long playoutCount;
+    private long elapsedNanos;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates a Monte Carlo search with the default tree size.
+     *
+     * @param threadCount number of threads to search with, at least 1
+     * @throws IllegalArgumentException if threadCount is less than 1
+     */
+    public MonteCarloSearch(int threadCount) {
+        this(threadCount, DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Creates a Monte Carlo search.
+     *
+     * @param threadCount  number of threads to search with, at least 1
+     * @param nodeCapacity number of tree nodes each thread can hold, the tree stops growing once it is full
+     * @throws IllegalArgumentException if threadCount or nodeCapacity is less than 1
+     */
+    public MonteCarloSearch(int threadCount, int nodeCapacity) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1.");
+        }
+        if (nodeCapacity < 1) {
+            throw new IllegalArgumentException("Node capacity must be at least 1.");
+        }
+
+        workers = new Worker[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            workers[i] = new Worker(nodeCapacity, 0x9E3779B97F4A7C15L * (i + 1));
+        }
+
+        if (threadCount > 1) {
+            helperThreads = Executors.newFixedThreadPool(threadCount - 1, runnable -> {
+                Thread thread = new Thread(runnable, "MonteCarloSearch worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            helperThreads = null;
+        }
+        playoutLimit = DEFAULT_PLAYOUT_LIMIT;
+    }
+
+    /************************************************************/
+    /* Accessors and Mutators */
+
+    /**
+     * Sets how many playouts to play per move, across all threads.
+     *
+     * @param playoutLimit number of playouts, or 0 to only use the time budget
+     * @throws IllegalArgumentException if playoutLimit is negative
+     */
+    public void setPlayoutLimit(long playoutLimit) {
+        if (playoutLimit < 0) {
+            throw new IllegalArgumentException("Playout limit must not be negative.");
+        }
+        this.playoutLimit = playoutLimit;
+    }
+
+    /**
+     * Sets the time allowed per move.
+     *
+     * @param millis time budget in milliseconds, or 0 to only use the playout limit
+     * @throws IllegalArgumentException if millis is negative
+     */
+    public void setTimeBudget(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Time budget must not be negative.");
+        }
+        timeBudgetNanos = millis * 1000000;
+    }
+
+    /**
+     * Gets the number of threads searching.
+     *
+     * @return thread count
+     */
+    public int getThreadCount() {
+        return workers.length;
+    }
+
+    /**
+     * Gets the number of playouts played by all threads in the last search.
+     *
+     * @return playout count of the last search
+     */
+    public long getPlayoutCount() {
+        return playoutCount;
+    }
+
+    /**
+     * Gets how many playouts per second the last search played, across all threads.
+     *
+     * @return playouts per second of the last search
+     */
+    public double getPlayoutsPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return playoutCount / (elapsedNanos / 1e9);
+    }
+
+    /************************************************************/
+    /* Search */
+
+    /**
+     * Chooses the move for the player that was visited most across every thread's tree.
+     *
+     * @param position scratch copy of the position to choose a move in
+     * @param player   Cell.X or Cell.O, the player the move is for
+     * @return move encoded as row * size + col, or -1 if the board is full
+     * @throws IllegalStateException if a worker failed with a checked exception. A worker's error or runtime
+     *                               exception is thrown as it is. Either is only thrown once every worker has stopped
+     */
+    @Override
+    public int chooseMove(Position position, Cell player) {
+        if (position.isFull()) {
+            return -1;
+        }
+
+        long start = System.nanoTime();
+        // With no limits set, fall back to a fixed number of playouts so the search always ends
+        long limit = (playoutLimit == 0 && timeBudgetNanos == 0) ? DEFAULT_PLAYOUT_LIMIT : playoutLimit;
+        long workerLimit = (limit == 0) ? Long.MAX_VALUE : (limit + workers.length - 1) / workers.length;
+        long deadline = (timeBudgetNanos > 0) ? start + timeBudgetNanos : 0;
+
+        List<Future<?>> running = new ArrayList<>();
+        for (int i = 1; i < workers.length; i++) {
+            Worker worker = workers[i];
+            Position workerPosition = new Position(position);
+            running.add(helperThreads.submit(() -> worker.search(workerPosition, player, workerLimit, deadline)));
+        }
+        workers[0].search(position, player, workerLimit, deadline);
+
+        Throwable workerFailure = null;
+        for (Future<?> future : running) {
+            Throwable failure = waitFor(future);
+            // Wait for the other workers first, so none is still searching when the failure is passed on
+            if (workerFailure == null) {
+                workerFailure = failure;
+            }
+        }
+        elapsedNanos = System.nanoTime() - start;
+        if (workerFailure != null) {
+            rethrow(workerFailure);
+        }
+
+        // Add up the visits of each root move over every tree
+        int numCells = position.getSize() * position.getSize();
+        long[] visitsByMove = new long[numCells];
+        playoutCount = 0;
+        for (Worker worker : workers) {
+            worker.addRootVisits(visitsByMove);
+            playoutCount += worker.playouts;
+        }
+
+        int bestMove = -1;
+        for (int move = 0; move < numCells; move++) {
+            if (position.isEmpty(move) && (bestMove == -1 || visitsByMove[move] > visitsByMove[bestMove])) {
+                bestMove = move;
+            }
+        }
+
+        return bestMove;
+    }
+
+    /**
+     * Stops the worker threads. The search must not be used afterwards.
+     */
+    public void shutdown() {
+        if (helperThreads != null) {
+            helperThreads.shutdownNow();
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Waits for a worker to finish.
+     *
+     * @param future future of the worker's search
+     * @return what the worker failed with, or null if it finished or waiting was interrupted
+     */
+    private Throwable waitFor(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException exc) {
+            return exc.getCause();
+        }
+        return null;
+    }
+
+    /**
+     * Private helper method.
+     * Throws what a worker failed with, wrapping it if it is a checked exception.
+     */
+    private static void rethrow(Throwable cause) {
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        throw new IllegalStateException("Worker search failed.", cause);
+    }
+
+    /* Private inner Class */
+
+    /**
+     * Private inner class holding one thread's search tree in primitive arrays. Node 0 is the root, and the children
+     * of a node are stored next to each other starting at firstChild.
+     *
+     * @version 1.0
+     * @authors Kara Byers, Darren Fife, Breanna Zinky
+     * @date 10/18/26
+     */
+    private static class Worker {
+        /************************************************************/
+        /* Variables */
+        // UCT exploration constant, higher tries less visited moves more often
+        private static final double EXPLORATION = 1.4;
+
+        // terminal states of a node
+        private static final byte NOT_TERMINAL = 0;
+        private static final byte WON = 1;
+        private static final byte DRAWN = 2;
+
+        // tree node arrays
+        private final int[] nodeMove;
+        private final int[] firstChild;
+        private final int[] childCount;
+        private final int[] visits;
+        private final double[] wins; // wins for the player who made the node's move, draws count half
+        private final byte[] terminal;
+        private int nodeCount;
+
+        // scratch arrays sized for the current board
+        private int[] path = new int[0];
+        private int[] played = new int[0];
+        private int[] emptyCells = new int[0];
+
+        // xorshift random number state, never 0
+        private long randomState;
+
+        // position being searched and the player to move at the root
+        private Position position;
+        private Cell rootPlayer;
+
+        // playouts played in the last search
+        private long playouts;
+
+        /**
+         * Creates a worker with room for nodeCapacity tree nodes.
+         *
+         * @param nodeCapacity number of tree nodes
+         * @param seed         random seed, must not be 0
+         */
+        Worker(int nodeCapacity, long seed) {
+            nodeMove = new int[nodeCapacity];
+            firstChild = new int[nodeCapacity];
+            childCount = new int[nodeCapacity];
+            visits = new int[nodeCapacity];
+            wins = new double[nodeCapacity];
+            terminal = new byte[nodeCapacity];
+            randomState = seed;
+        }
+
+        /**
+         * Grows a new tree from the position until the playout limit or deadline is reached.
+         *
+         * @param position     position to search, changed while searching and returned to how it was
+         * @param player       player to move
+         * @param playoutLimit number of playouts to play
+         * @param deadline     System.nanoTime to stop by, or 0 for none
+         */
+        void search(Position position, Cell player, long playoutLimit, long deadline) {
+            this.position = position;
+            rootPlayer = player;
+            playouts = 0;
+
+            int numCells = position.getSize() * position.getSize();
+            if (path.length < numCells + 1) {
+                path = new int[numCells + 1];
+                played = new int[numCells];
+                emptyCells = new int[numCells];
+            }
+
+            // Start the tree with just the root
+            nodeCount = 1;
+            nodeMove[0] = -1;
+            childCount[0] = 0;
+            visits[0] = 0;
+            wins[0] = 0;
+            terminal[0] = NOT_TERMINAL;
+
+            while (playouts < playoutLimit) {
+                // Check the clock every so often rather than every playout
+                if (deadline != 0 && (playouts & 63) == 0 && System.nanoTime() - deadline >= 0) {
+                    break;
+                }
+                runIteration();
+                playouts++;
+            }
+        }
+
+        /**
+         * Adds the visit counts of the root's children to visitsByMove.
+         *
+         * @param visitsByMove visits of each move, indexed by move
+         */
+        void addRootVisits(long[] visitsByMove) {
+            for (int child = firstChild[0]; child < firstChild[0] + childCount[0]; child++) {
+                visitsByMove[nodeMove[child]] += visits[child];
+            }
+        }
+
+        /**
+         * Private helper method.
+         * Runs one iteration: walks down the tree picking children by UCT, grows the tree by one level where it ends,
+         * plays a random game from there and records the result on every node passed through.
+         */
+        private void runIteration() {
+            int node = 0;
+            int depth = 0;
+            Cell side = rootPlayer;
+            path[0] = 0;
+
+            // Selection and expansion
+            while (terminal[node] == NOT_TERMINAL) {
+                if (childCount[node] == 0) {
+                    // Play out from a leaf the first time it is reached, and grow the tree when it is reached again
+                    if ((node != 0 && visits[node] == 0) || !expand(node)) {
+                        break;
+                    }
+                }
+
+                node = selectChild(node);
+                int move = nodeMove[node];
+                position.makeMove(move, side);
+                played[depth] = move;
+                depth++;
+                path[depth] = node;
+
+                if (position.isWinAt(move)) {
+                    terminal[node] = WON;
+                } else if (position.isFull()) {
+                    terminal[node] = DRAWN;
+                }
+                side = Position.opponent(side);
+            }
+
+            // Simulation
+            Cell winner;
+            if (terminal[node] == WON) {
+                winner = Position.opponent(side);
+            } else if (terminal[node] == DRAWN) {
+                winner = Cell.EMPTY;
+            } else {
+                winner = playout(side);
+            }
+
+            // Backpropagation, the node at depth i was moved into by the root player when i is odd
+            Cell opponent = Position.opponent(rootPlayer);
+            for (int i = depth; i >= 0; i--) {
+                int pathNode = path[i];
+                Cell mover = (i % 2 == 1) ? rootPlayer : opponent;
+
+                visits[pathNode]++;
+                if (winner == mover) {
+                    wins[pathNode] += 1;
+                } else if (winner == Cell.EMPTY) {
+                    wins[pathNode] += 0.5;
+                }
+            }
+
+            for (int i = depth - 1; i >= 0; i--) {
+                position.unmakeMove(played[i]);
+            }
+        }
+
+        /**
+         * Private helper method.
+         * Gives a node one child for every candidate move, the empty cells near the stones.
+         *
+         * @param node node to expand
+         * @return false if there is not enough room left in the tree
+         */
+        private boolean expand(int node) {
+            int numMoves = position.getCandidateMoves(emptyCells);
+            if (nodeCount + numMoves > nodeMove.length) {
+                return false;
+            }
+
+            firstChild[node] = nodeCount;
+            for (int i = 0; i < numMoves; i++) {
+                int child = nodeCount + i;
+                nodeMove[child] = emptyCells[i];
+                childCount[child] = 0;
+                visits[child] = 0;
+                wins[child] = 0;
+                terminal[child] = NOT_TERMINAL;
+            }
+            nodeCount += numMoves;
+            childCount[node] = numMoves;
+
+            return true;
+        }
+
+        /**
+         * Private helper method.
+         * Picks the child with the highest UCT value, trying every child once before any twice.
+         *
+         * @param node node to pick a child of
+         * @return the chosen child
+         */
+        private int selectChild(int node) {
+            int first = firstChild[node];
+            int last = first + childCount[node];
+            double logVisits = Math.log(visits[node]);
+
+            int best = first;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int child = first; child < last; child++) {
+                if (visits[child] == 0) {
+                    return child;
+                }
+                // A child that wins the game is always the best choice
+                if (terminal[child] == WON) {
+                    return child;
+                }
+
+                double value = wins[child] / visits[child] + EXPLORATION * Math.sqrt(logVisits / visits[child]);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+
+            return best;
+        }
+
+        /**
+         * Private helper method.
+         * Plays random moves until the game ends, then takes them back. The moves are made on the bitboard alone,
+         * since they are all taken back before the position's hash, line windows or candidate moves are read again.
+         *
+         * @param side player to move
+         * @return the winner, or Cell.EMPTY for a tie
+         */
+        private Cell playout(Cell side) {
+            BitBoard board = position.getBoard();
+            int size = position.getSize();
+            int numToWin = position.getNumToWin();
+            int numEmpty = board.getEmptyCells(emptyCells);
+            int numPlayed = 0;
+            Cell winner = Cell.EMPTY;
+
+            while (numEmpty > 0) {
+                // Swap a random empty cell to the end of the list, played moves collect after the empty ones
+                int pick = nextInt(numEmpty);
+                int move = emptyCells[pick];
+                numEmpty--;
+                emptyCells[pick] = emptyCells[numEmpty];
+                emptyCells[numEmpty] = move;
+
+                int row = move / size;
+                int col = move % size;
+                board.set(row, col, side);
+                numPlayed++;
+
+                if (board.isWinAt(row, col, numToWin)) {
+                    winner = side;
+                    break;
+                }
+                side = Position.opponent(side);
+            }
+
+            for (int i = 0; i < numPlayed; i++) {
+                int move = emptyCells[numEmpty + i];
+                board.clear(move / size, move % size);
+            }
+
+            return winner;
+        }
+
+        /**
+         * Private helper method.
+         * Gets a random number from 0 up to but not including bound, using xorshift.
+         *
+         * @param bound upper bound, at least 1
+         * @return random number
+         */
+        private int nextInt(int bound) {
+            randomState ^= randomState << 13;
+            randomState ^= randomState >>> 7;
+            randomState ^= randomState << 17;
+            return (int) (((randomState >>> 32) * bound) >>> 32);
+        }
+    } // End of class Worker
+} // End of class MonteCarloSearch
@@ -0,0 +1,150 @@
+package Project2;
+
+/**
+ * MoveStack is the history of a game's moves, each stored as the int row * size + col. Moves that have been undone
+ * stay above the top of the stack until a different move is pushed, so they can be redone. The array starts at the
+ * capacity given and doubles when a push fills it, so a stack sized for a board's cells never grows, and one on a
+ * board too big to allocate a slot per cell only grows with the moves played. Undoing and redoing allocate nothing.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.util.Arrays;
+
+/************************************************************/
+/* Class */
+public class MoveStack {
+    /************************************************************/
+    /* Variables */
+    // every move made, oldest first, including undone moves that can still be redone
+    private int[] moves;
+    // number of moves currently made, the top of the stack
+    private int numMoves;
+    // number of moves that can be reached by redoing, at least numMoves
+    private int numRedoable;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates an empty stack.
+     *
+     * @param capacity moves the stack holds before it grows, such as the number of cells on the board
+     * @throws IllegalArgumentException if capacity is less than 1
+     */
+    public MoveStack(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Move stack capacity must be at least 1.");
+        }
+        moves = new int[capacity];
+    }
+
+    /************************************************************/
+    /* Updates */
+
+    /**
+     * Pushes a new move. Any undone moves can no longer be redone.
+     *
+     * @param move move encoded as row * size + col
+     */
+    public void push(int move) {
+        if (numMoves == moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+
+        moves[numMoves++] = move;
+        numRedoable = numMoves;
+    }
+
+    /**
+     * Undoes the top move, keeping it so it can be redone.
+     *
+     * @return the move undone
+     * @throws IllegalArgumentException if there are no moves to undo
+     */
+    public int undo() {
+        if (numMoves == 0) {
+            throw new IllegalArgumentException("Can not undo further.");
+        }
+        return moves[--numMoves];
+    }
+
+    /**
+     * Redoes the last undone move.
+     *
+     * @return the move redone
+     * @throws IllegalArgumentException if there are no moves to redo
+     */
+    public int redo() {
+        if (numMoves == numRedoable) {
+            throw new IllegalArgumentException("Can not redo further.");
+        }
+        return moves[numMoves++];
+    }
+
+    /**
+     * Removes every move, including those that could be redone.
+     */
+    public void clear() {
+        numMoves = 0;
+        numRedoable = 0;
+    }
+
+    /************************************************************/
+    /* Accessors */
+
+    /**
+     * Gets the number of moves made.
+     *
+     * @return number of moves on the stack
+     */
+    public int size() {
+        return numMoves;
+    }
+
+    /**
+     * Gets the number of moves made plus the number that can be redone.
+     *
+     * @return highest ply that can be reached by redoing
+     */
+    public int getRedoLimit() {
+        return numRedoable;
+    }
+
+    /**
+     * Gets if there is an undone move that can be redone.
+     *
+     * @return true if redo can be called
+     */
+    public boolean canRedo() {
+        return numMoves < numRedoable;
+    }
+
+    /**
+     * Gets a move made or undone.
+     *
+     * @param ply index of the move, 0 for the first move
+     * @return move encoded as row * size + col
+     * @throws IllegalArgumentException if ply is not below the redo limit
+     */
+    public int get(int ply) {
+        if (ply < 0 || ply >= numRedoable) {
+            throw new IllegalArgumentException("No move at ply " + ply + ".");
+        }
+        return moves[ply];
+    }
+
+    /**
+     * Gets the top move.
+     *
+     * @return the last move made, or -1 if no moves have been made
+     */
+    public int peek() {
+        return (numMoves == 0) ? -1 : moves[numMoves - 1];
+    }
+} // End of class MoveStack
@@ -0,0 +1,224 @@
+package Project2;
+
+/**
+ * OpeningBook holds the best move for positions near the start of a game, found ahead of time by
+ * OpeningBookGenerator, so the computer player can answer them without searching. Each book is for one board size
+ * and number to win, and is kept in its own file named by fileName.
+ *
+ * A book file starts with a 12 byte header: the 4 bytes "STTB", a version byte, the board size, the number to win,
+ * a zero byte and the number of entries as an int. Each entry is then 10 bytes, the Zobrist hash of the canonical form
+ * of the position with the player to move, and the best move on the canonical form as a short. Turns and reflections
+ * of a position share one entry, so a book holds about an eighth as many entries. Entries are sorted by
+ * hash, so a lookup is a binary search of the file. The file is memory-mapped rather than read in, so opening a
+ * book costs nothing however big it is, and only the pages a lookup touches are read from disk.
+ *
+ * A book is never changed once opened, so one book can be used by any number of games on any threads.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/************************************************************/
+/* Class */
+public class OpeningBook {
+    /************************************************************/
+    /* Variables */
+    // directory books are looked for in by default, relative to the working directory
+    public static final String DEFAULT_DIRECTORY = "books";
+
+    // bytes every book file starts with, and the version of the format
+    static final byte[] MAGIC = {'S', 'T', 'T', 'B'};
+    static final int VERSION = 2;
+    // size of the header and of each entry, in bytes
+    static final int HEADER_SIZE = 12;
+    static final int ENTRY_SIZE = 10;
+
+    // the mapped book file
+    private final MappedByteBuffer entries;
+    // board the book is for
+    private final int boardSize;
+    private final int numToWin;
+    // number of entries in the book
+    private final int numEntries;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Opens a book file.
+     *
+     * @param file book file to map
+     * @throws IOException if the file cannot be read or is not a book
+     */
+    public OpeningBook(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not an opening book: " + file);
+            }
+            entries = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (entries.get(i) != MAGIC[i]) {
+                throw new IOException("Not an opening book: " + file);
+            }
+        }
+        if (entries.get(4) != VERSION) {
+            throw new IOException("Unsupported opening book version " + entries.get(4) + ": " + file);
+        }
+
+        boardSize = entries.get(5) & 0xFF;
+        numToWin = entries.get(6) & 0xFF;
+        numEntries = entries.getInt(8);
+        if ((long) HEADER_SIZE + (long) numEntries * ENTRY_SIZE != entries.capacity()) {
+            throw new IOException("Opening book is damaged: " + file);
+        }
+    }
+
+    /**
+     * Opens the book for a board in a directory, if there is one.
+     *
+     * @param directory directory holding book files
+     * @param boardSize size of the board
+     * @param numToWin  number of connections in a row needed to win
+     * @return the book, or null if the directory has no book for the board
+     * @throws IOException if the book exists but cannot be read
+     */
+    public static OpeningBook load(Path directory, int boardSize, int numToWin) throws IOException {
+        Path file = directory.resolve(fileName(boardSize, numToWin));
+        return Files.isRegularFile(file) ? new OpeningBook(file) : null;
+    }
+
+    /**
+     * Gets the name of the book file for a board.
+     *
+     * @param boardSize size of the board
+     * @param numToWin  number of connections in a row needed to win
+     * @return file name, such as book-9-5.bin
+     */
+    public static String fileName(int boardSize, int numToWin) {
+        return "book-" + boardSize + "-" + numToWin + ".bin";
+    }
+
+    /************************************************************/
+    /* Lookup */
+
+    /**
+     * Looks up the best move for a position.
+     *
+     * @param position position to look up
+     * @param player   Cell.X or Cell.O, the player to move
+     * @return best move encoded as row * size + col, or -1 if the position is not in the book
+     */
+    public int lookup(Position position, Cell player) {
+        if (position.getSize() != boardSize || position.getNumToWin() != numToWin) {
+            return -1;
+        }
+
+        int transform = position.getCanonicalTransform();
+        long hash = position.getHash(transform, player);
+        int low = 0;
+        int high = numEntries - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int offset = HEADER_SIZE + middle * ENTRY_SIZE;
+            long entryHash = entries.getLong(offset);
+
+            if (entryHash < hash) {
+                low = middle + 1;
+            } else if (entryHash > hash) {
+                high = middle - 1;
+            } else {
+                int move = entries.getShort(offset + Long.BYTES);
+                if (move < 0 || move >= boardSize * boardSize) {
+                    return -1;
+                }
+                // A different position with the same hash could give a taken cell
+                move = position.getSymmetry().invert(transform, move);
+                return position.isEmpty(move) ? move : -1;
+            }
+        }
+
+        return -1;
+    }
+
+    /************************************************************/
+    /* Accessors */
+
+    /**
+     * Gets the size of the board the book is for.
+     *
+     * @return board size
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Gets the number to win the book is for.
+     *
+     * @return number of connections in a row needed to win
+     */
+    public int getNumToWin() {
+        return numToWin;
+    }
+
+    /**
+     * Gets the number of positions in the book.
+     *
+     * @return number of entries
+     */
+    public int size() {
+        return numEntries;
+    }
+
+    /************************************************************/
+    /* Writing */
+
+    /**
+     * Writes a book file. Used by OpeningBookGenerator.
+     *
+     * @param file      file to write
+     * @param boardSize size of the board
+     * @param numToWin  number of connections in a row needed to win
+     * @param hashes    hash of the canonical form of each position, sorted in ascending order
+     * @param moves     best move of each position on its canonical form
+     * @param count     number of entries to write
+     * @throws IOException if the file cannot be written
+     */
+    static void write(Path file, int boardSize, int numToWin, long[] hashes, int[] moves, int count)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + count * ENTRY_SIZE);
+        buffer.put(MAGIC);
+        buffer.put((byte) VERSION);
+        buffer.put((byte) boardSize);
+        buffer.put((byte) numToWin);
+        buffer.put((byte) 0);
+        buffer.putInt(count);
+        for (int i = 0; i < count; i++) {
+            buffer.putLong(hashes[i]);
+            buffer.putShort((short) moves[i]);
+        }
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+} // End of class OpeningBook
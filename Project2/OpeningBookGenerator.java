@@ -0,0 +1,237 @@
+package Project2;
+
+/**
+ * OpeningBookGenerator builds an OpeningBook for one board by searching every position reachable in the first few
+ * moves. It starts from the empty board with either player to move, and at each ply searches every position found so
+ * far to a fixed depth, then makes every candidate move in it to find the positions of the next ply. A search stops
+ * only at the depth given, so the book's moves are as good as a much longer search than the computer player gets
+ * during a game. Positions reached by different move orders, or that are turns or reflections of each other, are only
+ * searched once.
+ *
+ * The positions of each ply are searched on a pool of threads, each with its own search.
+ *
+ * Usage: java Project2.OpeningBookGenerator boardSize numToWin [plies] [depth] [maxPositions] [threads] [directory]
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/************************************************************/
+/* Class */
+public class OpeningBookGenerator {
+    /************************************************************/
+    /* Variables */
+    // default number of moves from the start of the game the book covers
+    public static final int DEFAULT_PLIES = 3;
+    // default depth each book position is searched to
+    public static final int DEFAULT_DEPTH = 4;
+    // default limit on the number of positions in the book
+    public static final int DEFAULT_MAX_POSITIONS = 20000;
+
+    /************************************************************/
+    /* Main Method */
+
+    /**
+     * Generates a book and writes it to the book directory.
+     *
+     * @param args board size, number to win, and optional plies, search depth, maximum positions, thread count and
+     *             directory to write the book to
+     * @throws IOException              if the book cannot be written
+     * @throws IllegalArgumentException if an argument is not valid
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: java Project2.OpeningBookGenerator boardSize numToWin [plies]"
+                    + " [depth] [maxPositions] [threads] [directory]");
+        }
+
+        int boardSize = Integer.parseInt(args[0]);
+        int numToWin = Integer.parseInt(args[1]);
+        int plies = (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_PLIES;
+        int depth = (args.length > 3) ? Integer.parseInt(args[3]) : DEFAULT_DEPTH;
+        int maxPositions = (args.length > 4) ? Integer.parseInt(args[4]) : DEFAULT_MAX_POSITIONS;
+        int threads = (args.length > 5) ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+        Path directory = Paths.get((args.length > 6) ? args[6] : OpeningBook.DEFAULT_DIRECTORY);
+
+        Files.createDirectories(directory);
+        Path file = directory.resolve(OpeningBook.fileName(boardSize, numToWin));
+
+        long start = System.nanoTime();
+        int count = generate(file, boardSize, numToWin, plies, depth, maxPositions, threads);
+        System.out.printf("Wrote %d positions to %s in %.1f s%n", count, file, (System.nanoTime() - start) / 1e9);
+    }
+
+    /************************************************************/
+    /* Generating */
+
+    /**
+     * Generates a book and writes it to a file.
+     *
+     * @param file         file to write the book to
+     * @param boardSize    size of the board
+     * @param numToWin     number of connections in a row needed to win
+     * @param plies        number of moves from the start of the game to cover
+     * @param depth        depth to search each position to
+     * @param maxPositions most positions to put in the book, positions past this are left out
+     * @param threads      number of threads to search on
+     * @return number of positions written
+     * @throws IOException              if the book cannot be written
+     * @throws IllegalArgumentException if the board, plies, depth, maximum positions or thread count are not valid
+     */
+    public static int generate(Path file, int boardSize, int numToWin, int plies, int depth, int maxPositions,
+                               int threads) throws IOException {
+        if (numToWin < 1 || numToWin > boardSize || boardSize * boardSize > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Board must be at most 181x181 with 1 to size to win.");
+        }
+        if (plies < 1 || depth < 1 || maxPositions < 1 || threads < 1) {
+            throw new IllegalArgumentException("Plies, depth, maximum positions and threads must be at least 1.");
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        ThreadLocal<AlphaBetaSearch> searches = ThreadLocal.withInitial(
+                () -> new AlphaBetaSearch(depth, new LineEvaluator()));
+        Map<Long, Integer> book = new HashMap<>();
+
+        // Each position is the moves made to reach it, with the player who moved first as the last element
+        List<int[]> ply = new ArrayList<>();
+        ply.add(new int[]{Cell.X.ordinal()});
+        ply.add(new int[]{Cell.O.ordinal()});
+
+        try {
+            for (int i = 0; i < plies && !ply.isEmpty() && book.size() < maxPositions; i++) {
+                // Search this ply's positions, never more than the book has room for
+                List<int[]> searched = ply.subList(0, Math.min(ply.size(), maxPositions - book.size()));
+                List<Future<long[]>> results = new ArrayList<>();
+                for (int[] line : searched) {
+                    results.add(pool.submit(() -> searchLine(line, boardSize, numToWin, searches.get())));
+                }
+                for (Future<long[]> result : results) {
+                    long[] entry = result.get();
+                    if (entry[1] >= 0) {
+                        book.put(entry[0], (int) entry[1]);
+                    }
+                }
+                System.out.printf("Ply %d: %d positions searched, %d in book%n", i, searched.size(), book.size());
+
+                if (i + 1 < plies) {
+                    ply = expand(searched, boardSize, numToWin);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating the book.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A book search failed.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        // Write the entries sorted by hash, so the book can be binary searched
+        long[] hashes = new long[book.size()];
+        int count = 0;
+        for (long hash : book.keySet()) {
+            hashes[count++] = hash;
+        }
+        Arrays.sort(hashes);
+        int[] moves = new int[count];
+        for (int i = 0; i < count; i++) {
+            moves[i] = book.get(hashes[i]);
+        }
+
+        OpeningBook.write(file, boardSize, numToWin, hashes, moves, count);
+        return count;
+    }
+
+    /**
+     * Private helper method.
+     * Searches the position reached by a line of moves.
+     *
+     * @return the hash of the position's canonical form with the player to move, and the best move on the canonical
+     *         form or -1 if there is none
+     */
+    private static long[] searchLine(int[] line, int boardSize, int numToWin, AlphaBetaSearch search) {
+        Position position = new Position(boardSize, numToWin);
+        Cell player = play(position, line);
+
+        // A forced win beats anything a fixed depth search finds
+        int move = new ThreatSearch().findWinningMove(position, player);
+        if (move < 0) {
+            move = search.chooseMove(position, player);
+        }
+        int transform = position.getCanonicalTransform();
+        return new long[]{position.getHash(transform, player),
+                (move < 0) ? -1 : position.getSymmetry().apply(transform, move)};
+    }
+
+    /**
+     * Private helper method.
+     * Makes every candidate move in each position to find the positions of the next ply. Moves that win are left
+     * out, since the game is over after them, and so are positions already reached another way or as a turn or
+     * reflection.
+     *
+     * @return lines of moves reaching the next ply's positions
+     */
+    private static List<int[]> expand(List<int[]> lines, int boardSize, int numToWin) {
+        List<int[]> next = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        int[] candidates = new int[boardSize * boardSize];
+
+        for (int[] line : lines) {
+            Position position = new Position(boardSize, numToWin);
+            Cell player = play(position, line);
+            int numCandidates = position.getCandidateMoves(candidates);
+
+            for (int i = 0; i < numCandidates; i++) {
+                int move = candidates[i];
+                position.makeMove(move, player);
+                boolean over = position.isWinAt(move) || position.isFull();
+                long hash = position.getHash(position.getCanonicalTransform(), Position.opponent(player));
+                position.unmakeMove(move);
+
+                if (!over && seen.add(hash)) {
+                    int[] child = Arrays.copyOf(line, line.length + 1);
+                    child[line.length - 1] = move;
+                    child[line.length] = line[line.length - 1];
+                    next.add(child);
+                }
+            }
+        }
+
+        return next;
+    }
+
+    /**
+     * Private helper method.
+     * Makes a line's moves on an empty position.
+     *
+     * @return the player to move after the line
+     */
+    private static Cell play(Position position, int[] line) {
+        Cell player = Cell.values()[line[line.length - 1]];
+        for (int i = 0; i < line.length - 1; i++) {
+            position.makeMove(line[i], player);
+            player = Position.opponent(player);
+        }
+        return player;
+    }
+} // End of class OpeningBookGenerator
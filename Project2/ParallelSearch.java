@@ -0,0 +1,255 @@
+package Project2;
+
+/**
+ * ParallelSearch is a computer player that runs several AlphaBetaSearch threads on the same position at once, all
+ * sharing one TranspositionTable (the Lazy SMP approach). The threads help each other through the results they store
+ * in the table, and helper threads start one or more iterations deeper than the main thread so they search different
+ * parts of the tree. The move of the thread that finished the deepest iteration is played.
+ *
+ * The threads are daemon threads, so an unused ParallelSearch does not keep the program running, but shutdown should
+ * be called once it is no longer needed.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/************************************************************/
+/* Class */
+public class ParallelSearch implements ComputerEngine {
+    /************************************************************/
+    /* Variables */
+    // one search per thread, index 0 is the main search
+    private final AlphaBetaSearch[] searches;
+    // table shared by every search
+    private final TranspositionTable table;
+    // runs the helper searches, the main search runs on the calling thread
+    private final ExecutorService helperThreads;
+
+    // number of positions visited by all threads in the last search
+    private long nodeCount;
+    // deepest iteration finished by any thread in the last search
+    private int completedDepth;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates a parallel search using the default evaluator and transposition table size.
+     *
+     * @param threadCount number of threads to search with, at least 1
+     * @param depth       number of moves to look ahead, or the deepest to go when there is a time budget
+     * @throws IllegalArgumentException if threadCount or depth is less than 1
+     */
+    public ParallelSearch(int threadCount, int depth) {
+        this(threadCount, depth, new LineEvaluator(), new TranspositionTable(TranspositionTable.DEFAULT_ENTRIES * 4));
+    }
+
+    /**
+     * Creates a parallel search.
+     *
+     * @param threadCount number of threads to search with, at least 1
+     * @param depth       number of moves to look ahead, or the deepest to go when there is a time budget
+     * @param evaluator   scores positions the searches stop at, shared by every thread so it must not keep state
+     * @param table       transposition table shared by every thread
+     * @throws IllegalArgumentException if threadCount or depth is less than 1, or evaluator or table is null
+     */
+    public ParallelSearch(int threadCount, int depth, Evaluator evaluator, TranspositionTable table) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1.");
+        }
+
+        this.table = table;
+        searches = new AlphaBetaSearch[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            searches[i] = new AlphaBetaSearch(depth, evaluator, table);
+        }
+
+        if (threadCount > 1) {
+            helperThreads = Executors.newFixedThreadPool(threadCount - 1, runnable -> {
+                Thread thread = new Thread(runnable, "ParallelSearch helper");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            helperThreads = null;
+        }
+    }
+
+    /************************************************************/
+    /* Accessors and Mutators */
+
+    /**
+     * Gets the number of threads searching.
+     *
+     * @return thread count
+     */
+    public int getThreadCount() {
+        return searches.length;
+    }
+
+    /**
+     * Sets the time allowed per move for every thread.
+     *
+     * @param millis time budget in milliseconds, or 0 to always search to depth
+     * @throws IllegalArgumentException if millis is negative
+     */
+    public void setTimeBudget(long millis) {
+        for (AlphaBetaSearch search : searches) {
+            search.setTimeBudget(millis);
+        }
+    }
+
+    /**
+     * Sets how many moves ahead every thread looks.
+     *
+     * @param depth number of moves to look ahead, at least 1
+     * @throws IllegalArgumentException if depth is less than 1
+     */
+    public void setDepth(int depth) {
+        for (AlphaBetaSearch search : searches) {
+            search.setDepth(depth);
+        }
+    }
+
+    /**
+     * Gets the transposition table shared by the threads.
+     *
+     * @return transposition table
+     */
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * Gets the number of positions visited by all threads in the last search.
+     *
+     * @return node count of the last search
+     */
+    public long getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Gets the deepest iteration any thread finished in the last search.
+     *
+     * @return completed depth of the last search
+     */
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    /************************************************************/
+    /* Search */
+
+    /**
+     * Chooses the best move for the player, searching with every thread until the main search finishes.
+     *
+     * @param position scratch copy of the position to choose a move in
+     * @param player   Cell.X or Cell.O, the player the move is for
+     * @return move encoded as row * size + col, or -1 if the board is full
+     * @throws IllegalStateException if a helper search failed with a checked exception. A helper's error or runtime
+     *                               exception is thrown as it is. Either is only thrown once every helper has stopped
+     */
+    @Override
+    public int chooseMove(Position position, Cell player) {
+        table.newSearch();
+        for (AlphaBetaSearch search : searches) {
+            search.clearStop();
+        }
+
+        // Start the helpers, each on its own copy of the position
+        List<Future<Integer>> helperMoves = new ArrayList<>();
+        for (int i = 1; i < searches.length; i++) {
+            AlphaBetaSearch helper = searches[i];
+            Position helperPosition = new Position(position);
+            int skipDepth = i % 2;
+            helperMoves.add(helperThreads.submit(() -> helper.search(helperPosition, player, skipDepth)));
+        }
+
+        // The main search decides when everyone stops
+        int bestMove = searches[0].search(position, player, 0);
+        int bestDepth = searches[0].getCompletedDepth();
+        for (int i = 1; i < searches.length; i++) {
+            searches[i].stop();
+        }
+
+        nodeCount = searches[0].getNodeCount();
+        Throwable helperFailure = null;
+        for (int i = 1; i < searches.length; i++) {
+            int helperMove;
+            try {
+                helperMove = waitFor(helperMoves.get(i - 1));
+            } catch (ExecutionException exc) {
+                // Wait for the other helpers first, so none is still searching when the failure is passed on
+                if (helperFailure == null) {
+                    helperFailure = exc.getCause();
+                }
+                continue;
+            }
+            AlphaBetaSearch helper = searches[i];
+
+            nodeCount += helper.getNodeCount();
+            if (helperMove > -1 && helper.getCompletedDepth() > bestDepth) {
+                bestMove = helperMove;
+                bestDepth = helper.getCompletedDepth();
+            }
+        }
+        completedDepth = bestDepth;
+
+        if (helperFailure != null) {
+            rethrow(helperFailure);
+        }
+        return bestMove;
+    }
+
+    /**
+     * Stops the helper threads. The search must not be used afterwards.
+     */
+    public void shutdown() {
+        if (helperThreads != null) {
+            helperThreads.shutdownNow();
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Waits for a helper search to finish and gets its move.
+     *
+     * @param helperMove future of the helper's move
+     * @return the helper's move, or -1 if waiting was interrupted
+     * @throws ExecutionException if the helper failed
+     */
+    private int waitFor(Future<Integer> helperMove) throws ExecutionException {
+        try {
+            return helperMove.get();
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Throws what a helper failed with, wrapping it if it is a checked exception.
+     */
+    private static void rethrow(Throwable cause) {
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        throw new IllegalStateException("Helper search failed.", cause);
+    }
+} // End of class ParallelSearch
@@ -0,0 +1,326 @@
+package Project2;
+
+/**
+ * Position is the state a computer player searches: the stones on the board and the number of connections needed to
+ * win. Moves are encoded as row * size + col so that a search can make and unmake them without creating objects.
+ * The position's Zobrist hash, the stone counts of its line windows and its candidate moves are updated with every
+ * move made and unmade. The hash of each of the board's 8 turns and reflections is kept too, so a position's
+ * canonical form, the transform with the smallest hash, can be found without looking at the board.
+ *
+ * A position must only be used by one thread at a time. Every position of a board size shares its Zobrist keys and
+ * symmetry, and every position of a board size and number to win shares the layout of its line windows. They never
+ * change once made, so positions and their copies can be searched on different threads.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.util.Arrays;
+
+/************************************************************/
+/* Class */
+public class Position {
+    /************************************************************/
+    /* Variables */
+    // bitboard of the stones on the board
+    private final BitBoard board;
+    // size of the board
+    private final int size;
+    // number of connections in a row needed to win
+    private final int numToWin;
+    // keys used to hash the position
+    private final Zobrist zobrist;
+    // Zobrist hash of the stones on the board after each Symmetry transform, the first is the board as it is
+    private final long[] hashes;
+    // X and O stone counts of every numToWin long window
+    private final LineWindows windows;
+    // empty cells near the stones, the moves worth searching
+    private final CandidateMoves candidates;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates an empty position with the default candidate radius.
+     *
+     * @param size     integer number for size of square TicTacToe board
+     * @param numToWin integer number of how many Xs or Os in a row to win the game
+     */
+    public Position(int size, int numToWin) {
+        this(size, numToWin, CandidateMoves.DEFAULT_RADIUS);
+    }
+
+    /**
+     * Creates an empty position.
+     *
+     * @param size            integer number for size of square TicTacToe board
+     * @param numToWin        integer number of how many Xs or Os in a row to win the game
+     * @param candidateRadius distance from a stone, in rows or columns, that a cell can be to be a candidate move
+     */
+    public Position(int size, int numToWin, int candidateRadius) {
+        this.size = size;
+        this.numToWin = numToWin;
+        board = new BitBoard(size);
+        zobrist = Zobrist.forSize(size);
+        hashes = new long[Symmetry.COUNT];
+        windows = new LineWindows(size, numToWin);
+        candidates = new CandidateMoves(size, candidateRadius);
+    }
+
+    /**
+     * Copy constructor that creates a separate scratch copy of a position.
+     *
+     * @param other position to copy
+     */
+    public Position(Position other) {
+        size = other.size;
+        numToWin = other.numToWin;
+        board = new BitBoard(other.board);
+        zobrist = other.zobrist;
+        hashes = other.hashes.clone();
+        windows = new LineWindows(other.windows);
+        candidates = new CandidateMoves(other.candidates);
+    }
+
+    /************************************************************/
+    /* Accessors */
+
+    /**
+     * Gets the bitboard holding the stones. It must only be changed through makeMove and unmakeMove.
+     *
+     * @return bitboard of the position
+     */
+    public BitBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the size of the board.
+     *
+     * @return size of the square board
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of connections in a row needed to win.
+     *
+     * @return number of connections needed to win
+     */
+    public int getNumToWin() {
+        return numToWin;
+    }
+
+    /**
+     * Gets how many moves have been made.
+     *
+     * @return number of stones on the board
+     */
+    public int getStoneCount() {
+        return board.getStoneCount();
+    }
+
+    /**
+     * Gets the Zobrist hash of the stones on the board.
+     *
+     * @return hash of the position
+     */
+    public long getHash() {
+        return hashes[Symmetry.IDENTITY];
+    }
+
+    /**
+     * Gets the Zobrist hash of the stones on the board together with the player to move.
+     *
+     * @param player Cell.X or Cell.O, the player to move
+     * @return hash of the position and player to move
+     */
+    public long getHash(Cell player) {
+        return getHash(Symmetry.IDENTITY, player);
+    }
+
+    /**
+     * Gets the Zobrist hash of the board after a transform together with the player to move.
+     *
+     * @param transform Symmetry transform from 0 to Symmetry.COUNT - 1
+     * @param player    Cell.X or Cell.O, the player to move
+     * @return hash of the transformed position and player to move
+     */
+    public long getHash(int transform, Cell player) {
+        return (player == Cell.O) ? hashes[transform] ^ zobrist.getSideKey() : hashes[transform];
+    }
+
+    /**
+     * Gets the transform that turns the position into its canonical form, the one with the smallest hash. Every turn
+     * and reflection of a position has the same canonical form, so getHash(getCanonicalTransform(), player) is the
+     * same for all of them. A move on the board is moved onto the canonical form with getSymmetry().apply, and back
+     * with getSymmetry().invert.
+     *
+     * @return Symmetry transform from 0 to Symmetry.COUNT - 1
+     */
+    public int getCanonicalTransform() {
+        int best = Symmetry.IDENTITY;
+        for (int transform = 1; transform < Symmetry.COUNT; transform++) {
+            if (hashes[transform] < hashes[best]) {
+                best = transform;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets the turns and reflections of the board.
+     *
+     * @return symmetry of the board size
+     */
+    public Symmetry getSymmetry() {
+        return zobrist.getSymmetry();
+    }
+
+    /**
+     * Gets the keys used to hash the position.
+     *
+     * @return Zobrist keys for the board size
+     */
+    public Zobrist getZobrist() {
+        return zobrist;
+    }
+
+    /**
+     * Gets the stone counts of the position's line windows. They must only be changed through makeMove and
+     * unmakeMove.
+     *
+     * @return line windows of the position
+     */
+    public LineWindows getWindows() {
+        return windows;
+    }
+
+    /**
+     * Fills moves with the empty cells within the candidate radius of a stone, which is far fewer than every empty
+     * cell on a large board. On an empty board that is the centre cell.
+     *
+     * @param moves array with room for at least size * size moves
+     * @return number of moves written to the array
+     */
+    public int getCandidateMoves(int[] moves) {
+        return candidates.getMoves(board, moves);
+    }
+
+    /**
+     * Gets the distance from a stone, in rows or columns, that a cell can be to be a candidate move.
+     *
+     * @return candidate radius
+     */
+    public int getCandidateRadius() {
+        return candidates.getRadius();
+    }
+
+    /**
+     * Gets if every cell on the board has been taken.
+     *
+     * @return true if the board is full
+     */
+    public boolean isFull() {
+        return board.isFull();
+    }
+
+    /**
+     * Gets the Cell at the encoded move.
+     *
+     * @param move cell encoded as row * size + col
+     * @return Cell.X, Cell.O or Cell.EMPTY
+     */
+    public Cell getCell(int move) {
+        return board.get(move / size, move % size);
+    }
+
+    /**
+     * Gets if the cell at the encoded move is empty.
+     *
+     * @param move cell encoded as row * size + col
+     * @return true if the cell is empty
+     */
+    public boolean isEmpty(int move) {
+        return board.isEmpty(move / size, move % size);
+    }
+
+    /**
+     * Checks if the stone at the encoded move is part of numToWin in a row.
+     *
+     * @param move cell encoded as row * size + col
+     * @return true if the stone at move is part of a winning line
+     */
+    public boolean isWinAt(int move) {
+        return board.isWinAt(move / size, move % size, numToWin);
+    }
+
+    /************************************************************/
+    /* Mutators */
+
+    /**
+     * Places the player's stone on the empty cell at the encoded move.
+     *
+     * @param move   cell encoded as row * size + col
+     * @param player Cell.X or Cell.O
+     */
+    public void makeMove(int move, Cell player) {
+        board.set(move / size, move % size, player);
+        updateHashes(move, player);
+        windows.add(move, player);
+        candidates.add(move, board);
+    }
+
+    /**
+     * Takes the stone at the encoded move back off the board.
+     *
+     * @param move cell encoded as row * size + col
+     */
+    public void unmakeMove(int move) {
+        Cell player = getCell(move);
+        updateHashes(move, player);
+        windows.remove(move, player);
+        board.clear(move / size, move % size);
+        candidates.remove(move);
+    }
+
+    /**
+     * Takes every stone off the board.
+     */
+    public void clear() {
+        board.clearAll();
+        Arrays.fill(hashes, 0);
+        windows.clear();
+        candidates.clear();
+    }
+
+    /**
+     * Private helper method.
+     * Adds or removes the keys of a stone in the hash of every transform.
+     */
+    private void updateHashes(int move, Cell player) {
+        long[] keys = zobrist.getSymmetricKeys(player);
+        int offset = move * Symmetry.COUNT;
+        for (int transform = 0; transform < Symmetry.COUNT; transform++) {
+            hashes[transform] ^= keys[offset + transform];
+        }
+    }
+
+    /************************************************************/
+    /* Static Helpers */
+
+    /**
+     * Gets the opposing player.
+     *
+     * @param player Cell.X or Cell.O
+     * @return Cell.O for Cell.X, otherwise Cell.X
+     */
+    public static Cell opponent(Cell player) {
+        return (player == Cell.X) ? Cell.O : Cell.X;
+    }
+} // End of class Position
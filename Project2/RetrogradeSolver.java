@@ -0,0 +1,251 @@
+package Project2;
+
+/**
+ * RetrogradeSolver solves a small board outright and writes a SolvedDatabase. It goes backwards from the end of the
+ * game: every position with a full board or a finished line is scored first, then the positions with one stone
+ * fewer are scored from the positions their moves lead to, down to the empty board. Every position is scored once,
+ * with no search, so a 4x4 board's 20 million positions take seconds.
+ *
+ * The best move is the one that wins soonest, or loses latest, so the computer player does not drag out a won game
+ * or give up a lost one early. Among drawing moves the first is kept.
+ *
+ * Usage: java Project2.RetrogradeSolver boardSize numToWin [directory]
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/************************************************************/
+/* Class */
+public class RetrogradeSolver {
+    /************************************************************/
+    /* Main Method */
+
+    /**
+     * Solves a board and writes its database to the book directory.
+     *
+     * @param args board size, number to win and optional directory to write the database to
+     * @throws IOException              if the database cannot be written
+     * @throws IllegalArgumentException if the board is too big to solve
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: java Project2.RetrogradeSolver boardSize numToWin [directory]");
+        }
+
+        int boardSize = Integer.parseInt(args[0]);
+        int numToWin = Integer.parseInt(args[1]);
+        Path directory = Paths.get((args.length > 2) ? args[2] : OpeningBook.DEFAULT_DIRECTORY);
+
+        Files.createDirectories(directory);
+        Path file = directory.resolve(SolvedDatabase.fileName(boardSize, numToWin));
+
+        long start = System.nanoTime();
+        byte[] entries = solve(boardSize, numToWin);
+        write(file, boardSize, numToWin, entries);
+        System.out.printf("Solved %d positions in %.1f s, wrote %s%n", entries.length,
+                (System.nanoTime() - start) / 1e9, file);
+
+        // The result of the empty board for each starting player
+        int[][] groupStart = SolvedDatabase.groupStarts(boardSize * boardSize);
+        System.out.println("X to move on the empty board: " + resultName(entries[groupStart[0][0]]));
+        System.out.println("O to move on the empty board: " + resultName(entries[groupStart[0][1]]));
+    }
+
+    /************************************************************/
+    /* Solving */
+
+    /**
+     * Solves every position of a board.
+     *
+     * @param boardSize size of the board
+     * @param numToWin  number of connections in a row needed to win
+     * @return one byte per position in the SolvedDatabase numbering, with the result and best move
+     * @throws IllegalArgumentException if the board has more than SolvedDatabase.MAX_CELLS cells or numToWin is not
+     *                                  between 1 and the board size
+     */
+    public static byte[] solve(int boardSize, int numToWin) {
+        int numCells = boardSize * boardSize;
+        if (boardSize < 1 || numCells > SolvedDatabase.MAX_CELLS) {
+            throw new IllegalArgumentException("Only boards of up to " + SolvedDatabase.MAX_CELLS
+                    + " cells can be solved.");
+        }
+        if (numToWin < 1 || numToWin > boardSize) {
+            throw new IllegalArgumentException("Number to win must be between 1 and the board size.");
+        }
+
+        int[] lines = winningLines(boardSize, numToWin);
+        int[][] groupStart = SolvedDatabase.groupStarts(numCells);
+        byte[] entries = new byte[groupStart[numCells + 1][0]];
+        // number of moves until the game ends with perfect play, used to choose between winning or losing moves
+        byte[] movesLeft = new byte[entries.length];
+
+        // Each position's moves lead to positions with one more stone, so solve from the full board back
+        for (int numStones = numCells; numStones >= 0; numStones--) {
+            for (int side = 0; side < 2; side++) {
+                int numX = SolvedDatabase.xCountOf(numStones, side);
+                int groupSize = SolvedDatabase.BINOMIALS[numCells][numStones]
+                        * SolvedDatabase.BINOMIALS[numStones][numX];
+
+                for (int rank = 0; rank < groupSize; rank++) {
+                    long masks = SolvedDatabase.positionOf(rank, numStones, numX, numCells);
+                    int index = groupStart[numStones][side] + rank;
+                    solvePosition(entries, movesLeft, index, (int) masks, (int) (masks >>> 32), side, numCells,
+                            lines, groupStart);
+                }
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Private helper method.
+     * Scores one position from the positions its moves lead to, which are already solved.
+     */
+    private static void solvePosition(byte[] entries, byte[] movesLeft, int index, int xMask, int oMask, int side,
+                                      int numCells, int[] lines, int[][] groupStart) {
+        // A finished line means the game is over, and the player who just moved made it
+        int moverMask = (side == 0) ? oMask : xMask;
+        int toMoveMask = (side == 0) ? xMask : oMask;
+        if (hasLine(toMoveMask, lines)) {
+            // The player to move already won, which no game can reach
+            entries[index] = 0;
+            return;
+        }
+        if (hasLine(moverMask, lines)) {
+            entries[index] = (byte) (SolvedDatabase.LOSS << 6 | SolvedDatabase.NO_MOVE);
+            return;
+        }
+        int emptyMask = ~(xMask | oMask) & ((1 << numCells) - 1);
+        if (emptyMask == 0) {
+            entries[index] = (byte) (SolvedDatabase.DRAW << 6 | SolvedDatabase.NO_MOVE);
+            return;
+        }
+
+        int bestResult = 0;
+        int bestMove = -1;
+        int bestMovesLeft = 0;
+        for (int move = 0; move < numCells; move++) {
+            if ((emptyMask & (1 << move)) == 0) {
+                continue;
+            }
+
+            int child = (side == 0)
+                    ? SolvedDatabase.indexOf(xMask | 1 << move, oMask, 1, numCells, groupStart)
+                    : SolvedDatabase.indexOf(xMask, oMask | 1 << move, 0, numCells, groupStart);
+            // The child's result is for the other player
+            int result = SolvedDatabase.WIN + SolvedDatabase.LOSS - ((entries[child] & 0xFF) >>> 6);
+            int left = movesLeft[child] + 1;
+
+            boolean better = result > bestResult
+                    || (result == bestResult && result == SolvedDatabase.WIN && left < bestMovesLeft)
+                    || (result == bestResult && result == SolvedDatabase.LOSS && left > bestMovesLeft);
+            if (better) {
+                bestResult = result;
+                bestMove = move;
+                bestMovesLeft = left;
+            }
+        }
+
+        entries[index] = (byte) (bestResult << 6 | bestMove);
+        movesLeft[index] = (byte) bestMovesLeft;
+    }
+
+    /**
+     * Private helper method.
+     * Gets if a player's stones fill any winning line.
+     */
+    private static boolean hasLine(int stones, int[] lines) {
+        for (int line : lines) {
+            if ((stones & line) == line) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Private helper method.
+     * Gets a mask of the cells of every row, column and diagonal of numToWin cells.
+     */
+    private static int[] winningLines(int boardSize, int numToWin) {
+        int[] rowSteps = {0, 1, 1, 1};
+        int[] colSteps = {1, 0, 1, -1};
+        int[] lines = new int[4 * boardSize * boardSize];
+        int numLines = 0;
+
+        for (int direction = 0; direction < rowSteps.length; direction++) {
+            for (int row = 0; row < boardSize; row++) {
+                for (int col = 0; col < boardSize; col++) {
+                    int endRow = row + rowSteps[direction] * (numToWin - 1);
+                    int endCol = col + colSteps[direction] * (numToWin - 1);
+                    if (endRow < 0 || endRow >= boardSize || endCol < 0 || endCol >= boardSize) {
+                        continue;
+                    }
+
+                    int line = 0;
+                    for (int i = 0; i < numToWin; i++) {
+                        line |= 1 << ((row + rowSteps[direction] * i) * boardSize + col + colSteps[direction] * i);
+                    }
+                    lines[numLines++] = line;
+                }
+            }
+        }
+
+        return Arrays.copyOf(lines, numLines);
+    }
+
+    /**
+     * Private helper method.
+     * Writes a solved board to a database file.
+     */
+    private static void write(Path file, int boardSize, int numToWin, byte[] entries) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(SolvedDatabase.HEADER_SIZE);
+        header.put(SolvedDatabase.MAGIC);
+        header.put((byte) SolvedDatabase.VERSION);
+        header.put((byte) boardSize);
+        header.put((byte) numToWin);
+        header.put((byte) 0);
+        header.putInt(entries.length);
+        header.flip();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer body = ByteBuffer.wrap(entries);
+            while (header.hasRemaining() || body.hasRemaining()) {
+                channel.write(new ByteBuffer[]{header, body});
+            }
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Gets the name of the result stored in a database byte.
+     */
+    private static String resultName(byte entry) {
+        switch ((entry & 0xFF) >>> 6) {
+            case SolvedDatabase.WIN:
+                return "win";
+            case SolvedDatabase.DRAW:
+                return "draw";
+            case SolvedDatabase.LOSS:
+                return "loss";
+            default:
+                return "unreachable";
+        }
+    }
+} // End of class RetrogradeSolver
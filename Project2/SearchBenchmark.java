@@ -0,0 +1,139 @@
+package Project2;
+
+/**
+ * SearchBenchmark measures how the parallel computer player scales with threads. For each thread count from 1 up to
+ * the number of cores it searches the same positions to a fixed depth, and prints the nodes searched per second and
+ * the time taken to reach the depth.
+ *
+ * Usage: java Project2.SearchBenchmark [boardSize] [numToWin] [depth] [maxThreads]
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.util.Random;
+
+/************************************************************/
+/* Class */
+public class SearchBenchmark {
+    /************************************************************/
+    /* Variables */
+    // number of different positions searched for each thread count
+    private static final int NUM_POSITIONS = 5;
+    // number of random moves played to make each position
+    private static final int OPENING_MOVES = 6;
+
+    /************************************************************/
+    /* Main Method */
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optional board size, number to win, depth and maximum thread count
+     */
+    public static void main(String[] args) {
+        int boardSize = (args.length > 0) ? Integer.parseInt(args[0]) : 10;
+        int numToWin = (args.length > 1) ? Integer.parseInt(args[1]) : 5;
+        int depth = (args.length > 2) ? Integer.parseInt(args[2]) : 4;
+        int maxThreads = (args.length > 3) ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        Position[] positions = createPositions(boardSize, numToWin);
+
+        System.out.printf("Board %dx%d, %d to win, depth %d, %d positions%n",
+                boardSize, boardSize, numToWin, depth, NUM_POSITIONS);
+        System.out.printf("%8s %14s %14s %10s%n", "threads", "nodes/sec", "ms to depth", "speedup");
+
+        // Warm up the JIT so the first row is not slower than it should be
+        runPositions(positions, 1, depth);
+
+        double singleThreadMillis = 0;
+        for (int threads = 1; threads <= maxThreads; threads = nextThreadCount(threads, maxThreads)) {
+            long[] result = runPositions(positions, threads, depth);
+            double millis = result[1] / 1e6;
+            if (threads == 1) {
+                singleThreadMillis = millis;
+            }
+
+            System.out.printf("%8d %14.0f %14.1f %9.2fx%n",
+                    threads, result[0] / (result[1] / 1e9), millis / NUM_POSITIONS, singleThreadMillis / millis);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Searches every position with a fresh search so no results are carried over.
+     *
+     * @param positions positions to search
+     * @param threads   number of threads to search with
+     * @param depth     number of moves to look ahead
+     * @return total nodes searched, and total nanoseconds taken
+     */
+    private static long[] runPositions(Position[] positions, int threads, int depth) {
+        long nodes = 0;
+        long nanos = 0;
+
+        for (Position position : positions) {
+            ParallelSearch search = new ParallelSearch(threads, depth);
+            Cell player = (position.getStoneCount() % 2 == 0) ? Cell.X : Cell.O;
+
+            long start = System.nanoTime();
+            search.chooseMove(new Position(position), player);
+            nanos += System.nanoTime() - start;
+            nodes += search.getNodeCount();
+
+            search.shutdown();
+        }
+
+        return new long[]{nodes, nanos};
+    }
+
+    /**
+     * Private helper method.
+     * Makes positions by playing random moves from a fixed seed, so every run searches the same positions.
+     *
+     * @param boardSize size of the board
+     * @param numToWin  number of connections needed to win
+     * @return positions to search
+     */
+    private static Position[] createPositions(int boardSize, int numToWin) {
+        Random random = new Random(42);
+        Position[] positions = new Position[NUM_POSITIONS];
+
+        for (int i = 0; i < NUM_POSITIONS; i++) {
+            Position position = new Position(boardSize, numToWin);
+            Cell player = Cell.X;
+
+            for (int move = 0; move < OPENING_MOVES && move < boardSize * boardSize - 1; move++) {
+                int cell;
+                do {
+                    cell = random.nextInt(boardSize * boardSize);
+                } while (!position.isEmpty(cell));
+
+                position.makeMove(cell, player);
+                player = Position.opponent(player);
+            }
+            positions[i] = position;
+        }
+
+        return positions;
+    }
+
+    /**
+     * Private helper method.
+     * Doubles the thread count, making sure the maximum is measured too.
+     *
+     * @param threads    current thread count
+     * @param maxThreads largest thread count to measure
+     * @return next thread count to measure
+     */
+    private static int nextThreadCount(int threads, int maxThreads) {
+        if (threads < maxThreads && threads * 2 > maxThreads) {
+            return maxThreads;
+        }
+        return threads * 2;
+    }
+} // End of class SearchBenchmark
@@ -0,0 +1,344 @@
+package Project2;
+
+/**
+ * SelfPlayTournament plays computer players against each other without the GUI, on every core, and prints the games
+ * played per second, how often each side won or drew, and percentiles of how long each side took per move.
+ * Every game is played through SuperTicTacToeGame, so the game's select, status and computer turn code is what is
+ * measured. Each thread reuses one game, resetting it between games.
+ *
+ * A player is given as ab:depth (alpha-beta search to a fixed depth), mcts:playouts (Monte Carlo search with a fixed
+ * number of playouts) or random. The first few moves of each game are random so the games are not all the same.
+ * If a record file is given, every game is written to it with GameRecordWriter.
+ *
+ * Usage: java Project2.SelfPlayTournament [boardSize] [numToWin] [startingPlayer] [games] [threads] [xPlayer]
+ *        [oPlayer] [openingMoves] [recordFile]
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/************************************************************/
+/* Class */
+public class SelfPlayTournament {
+    /************************************************************/
+    /* Variables */
+    // percentiles of move latency that are printed
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    // how often, in games, each thread takes its next batch of games from the shared counter
+    private static final int GAMES_PER_BATCH = 64;
+
+    /************************************************************/
+    /* Main Method */
+
+    /**
+     * Runs the tournament.
+     *
+     * @param args optional board size, number to win, starting player, number of games, thread count, X player,
+     *             O player, number of random opening moves and file to record the games in
+     * @throws IllegalArgumentException if an argument is not valid
+     * @throws IOException              if the record file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        int boardSize = (args.length > 0) ? Integer.parseInt(args[0]) : 3;
+        int numToWin = (args.length > 1) ? Integer.parseInt(args[1]) : 3;
+        Cell startingPlayer = (args.length > 2) ? Cell.valueOf(args[2].toUpperCase()) : Cell.X;
+        long numGames = (args.length > 3) ? Long.parseLong(args[3]) : 100000;
+        int threads = (args.length > 4) ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        String xPlayer = (args.length > 5) ? args[5] : "ab:2";
+        String oPlayer = (args.length > 6) ? args[6] : "ab:2";
+        int openingMoves = (args.length > 7) ? Integer.parseInt(args[7]) : 2;
+        String recordFile = (args.length > 8) ? args[8] : null;
+
+        if (numToWin < 1 || numToWin > boardSize) {
+            throw new IllegalArgumentException("Number to win must be between 1 and the board size.");
+        }
+        if (startingPlayer == Cell.EMPTY) {
+            throw new IllegalArgumentException("Starting player must be X or O.");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1.");
+        }
+        // Check the players are valid before starting any threads
+        createEngine(xPlayer);
+        createEngine(oPlayer);
+
+        System.out.printf("Board %dx%d, %d to win, %s starts, X is %s, O is %s, %d random opening moves%n",
+                boardSize, boardSize, numToWin, startingPlayer, xPlayer, oPlayer, openingMoves);
+        System.out.printf("Playing %d games on %d threads%n", numGames, threads);
+
+        GameRecordWriter recorder = null;
+        if (recordFile != null) {
+            recorder = new GameRecordWriter(new FileOutputStream(recordFile));
+        }
+        long start = System.nanoTime();
+        Results results;
+        try {
+            results = play(boardSize, numToWin, startingPlayer, numGames, threads, xPlayer, oPlayer, openingMoves,
+                    recorder);
+        } finally {
+            if (recorder != null) {
+                recorder.close();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        printResults(results, seconds);
+        if (recorder != null) {
+            System.out.printf("%d games recorded in %s%n", recorder.getRecordCount(), recordFile);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Plays the games on a pool of threads and adds up their results.
+     *
+     * @param recorder writer every game is recorded with, shared by the threads, or null to not record them
+     * @return results of every game
+     */
+    private static Results play(int boardSize, int numToWin, Cell startingPlayer, long numGames, int threads,
+                                String xPlayer, String oPlayer, int openingMoves, GameRecordWriter recorder) {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        AtomicLong gamesTaken = new AtomicLong();
+        List<Future<Results>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            long seed = 0x9E3779B97F4A7C15L * (i + 1);
+            futures.add(pool.submit(() -> {
+                SuperTicTacToeGame game = new SuperTicTacToeGame(boardSize, numToWin, startingPlayer);
+                ComputerEngine xEngine = createEngine(xPlayer);
+                ComputerEngine oEngine = createEngine(oPlayer);
+                SplittableRandom random = new SplittableRandom(seed);
+                Results results = new Results();
+
+                // Take games in batches so the threads rarely touch the shared counter
+                long first;
+                while ((first = gamesTaken.getAndAdd(GAMES_PER_BATCH)) < numGames) {
+                    long batch = Math.min(GAMES_PER_BATCH, numGames - first);
+                    for (long j = 0; j < batch; j++) {
+                        playGame(game, startingPlayer, xEngine, oEngine, random, openingMoves, results);
+                        if (recorder != null) {
+                            record(recorder, game);
+                        }
+                    }
+                }
+                return results;
+            }));
+        }
+
+        Results total = new Results();
+        try {
+            for (Future<Results> future : futures) {
+                total.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while playing games.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A game failed.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        return total;
+    }
+
+    /**
+     * Private helper method.
+     * Plays one game from an empty board and records the result and how long each computer move took.
+     *
+     * @param game           game to play on, reset before playing
+     * @param startingPlayer player that moves first
+     * @param xEngine        engine playing X, or null to play random moves
+     * @param oEngine        engine playing O, or null to play random moves
+     * @param random         random numbers for the opening and random players
+     * @param openingMoves   number of random moves to start the game with
+     * @param results        results the game is added to
+     */
+    private static void playGame(SuperTicTacToeGame game, Cell startingPlayer, ComputerEngine xEngine,
+                                 ComputerEngine oEngine, SplittableRandom random, int openingMoves,
+                                 Results results) {
+        game.reset();
+        Cell player = startingPlayer;
+        int moves = 0;
+
+        while (game.getGameStatus() == GameStatus.IN_PROGRESS) {
+            ComputerEngine engine = (player == Cell.X) ? xEngine : oEngine;
+
+            if (moves < openingMoves || engine == null) {
+                playRandomMove(game, random);
+            } else {
+                game.setComputerEngine(engine);
+                long start = System.nanoTime();
+                game.playComputerTurn();
+                long nanos = System.nanoTime() - start;
+
+                if (player == Cell.X) {
+                    results.xLatency.record(nanos);
+                } else {
+                    results.oLatency.record(nanos);
+                }
+            }
+
+            player = Position.opponent(player);
+            moves++;
+        }
+
+        results.moves += moves;
+        switch (game.getGameStatus()) {
+            case X_WON:
+                results.xWins++;
+                break;
+            case O_WON:
+                results.oWins++;
+                break;
+            default:
+                results.draws++;
+                break;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Writes a finished game to the shared record writer.
+     */
+    private static void record(GameRecordWriter recorder, SuperTicTacToeGame game) {
+        synchronized (recorder) {
+            try {
+                recorder.write(game);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Plays a random empty cell for the current player.
+     */
+    private static void playRandomMove(SuperTicTacToeGame game, SplittableRandom random) {
+        int size = game.getBoardSize();
+        int row;
+        int col;
+
+        do {
+            row = random.nextInt(size);
+            col = random.nextInt(size);
+        } while (game.getCell(row, col) != Cell.EMPTY);
+
+        game.select(row, col);
+    }
+
+    /**
+     * Private helper method.
+     * Creates the engine for a player description.
+     *
+     * @param description ab:depth, mcts:playouts or random
+     * @return the engine, or null for random moves
+     * @throws IllegalArgumentException if the description is not valid
+     */
+    private static ComputerEngine createEngine(String description) {
+        String[] parts = description.toLowerCase().split(":");
+
+        try {
+            if (parts[0].equals("random") && parts.length == 1) {
+                return null;
+            }
+            if (parts[0].equals("ab") && parts.length == 2) {
+                return new AlphaBetaSearch(Integer.parseInt(parts[1]), new LineEvaluator());
+            }
+            if (parts[0].equals("mcts") && parts.length == 2) {
+                MonteCarloSearch search = new MonteCarloSearch(1);
+                search.setPlayoutLimit(Long.parseLong(parts[1]));
+                return search;
+            }
+        } catch (NumberFormatException e) {
+            // Falls through to the error below
+        }
+
+        throw new IllegalArgumentException("Player must be ab:depth, mcts:playouts or random, not " + description);
+    }
+
+    /**
+     * Private helper method.
+     * Prints the win rates, games per second and move latency percentiles.
+     *
+     * @param results results of every game
+     * @param seconds time taken to play them
+     */
+    private static void printResults(Results results, double seconds) {
+        long games = results.xWins + results.oWins + results.draws;
+
+        System.out.printf("%d games in %.2f s, %.0f games/sec, %.1f moves/game%n",
+                games, seconds, games / seconds, (double) results.moves / games);
+        System.out.printf("X won %.2f%%, O won %.2f%%, draws %.2f%%%n",
+                100.0 * results.xWins / games, 100.0 * results.oWins / games, 100.0 * results.draws / games);
+
+        System.out.printf("%-12s %10s", "move time", "moves");
+        for (double percentile : PERCENTILES) {
+            System.out.printf(" %10s", "p" + percentile);
+        }
+        System.out.printf(" %10s%n", "max");
+        printLatency("X (us)", results.xLatency);
+        printLatency("O (us)", results.oLatency);
+    }
+
+    /**
+     * Private helper method.
+     * Prints one row of move latency percentiles in microseconds.
+     */
+    private static void printLatency(String label, LatencyHistogram latency) {
+        System.out.printf("%-12s %10d", label, latency.getCount());
+        for (double percentile : PERCENTILES) {
+            System.out.printf(" %10.1f", latency.getPercentile(percentile) / 1e3);
+        }
+        System.out.printf(" %10.1f%n", latency.getMax() / 1e3);
+    }
+
+    /************************************************************/
+    /* Results */
+
+    /**
+     * Results of the games played by one thread, or of every thread once added together.
+     */
+    private static class Results {
+        // number of games each side won, and that were drawn
+        private long xWins;
+        private long oWins;
+        private long draws;
+        // number of moves made in every game
+        private long moves;
+        // time each side took for its computer moves
+        private final LatencyHistogram xLatency = new LatencyHistogram();
+        private final LatencyHistogram oLatency = new LatencyHistogram();
+
+        /**
+         * Adds another thread's results to these.
+         *
+         * @param other results to add
+         */
+        private void add(Results other) {
+            xWins += other.xWins;
+            oWins += other.oWins;
+            draws += other.draws;
+            moves += other.moves;
+            xLatency.add(other.xLatency);
+            oLatency.add(other.oLatency);
+        }
+    } // End of class Results
+} // End of class SelfPlayTournament
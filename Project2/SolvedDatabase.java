@@ -0,0 +1,338 @@
+package Project2;
+
+/**
+ * SolvedDatabase holds the result of perfect play and the best move for every position of a small board, found by
+ * RetrogradeSolver, so the computer player can play perfectly without searching. Boards of up to 16 cells (3x3 and
+ * 4x4) can be solved. A 5x5 board has about 3 * 10^11 positions, too many to solve or store.
+ *
+ * Positions are numbered by a perfect hash, so each one has its own slot and no hashes are stored. The positions are
+ * grouped by number of stones and player to move, which fixes how many stones each player has. Within a group, a
+ * position is numbered by the rank of its set of taken cells among all sets of that size, times the number of ways
+ * to choose which of them are X, plus the rank of the set of X cells among those. Ranks are found with binomial
+ * coefficients in O(cells), so a lookup costs the same for every position.
+ *
+ * A database file starts with a 12 byte header: the 4 bytes "STTS", a version byte, the board size, the number to
+ * win, a zero byte and the number of positions as an int. Each position then has one byte holding the result for the
+ * player to move in its top two bits and the best move in its low five. The file is memory-mapped, so one database
+ * can be used by any number of games on any threads.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/************************************************************/
+/* Class */
+public class SolvedDatabase {
+    /************************************************************/
+    /* Variables */
+    // results of perfect play for the player to move, 0 is stored for positions that cannot be reached
+    public static final int LOSS = 1;
+    public static final int DRAW = 2;
+    public static final int WIN = 3;
+
+    // most cells a board can have to be solved
+    public static final int MAX_CELLS = 16;
+
+    // bytes every database file starts with, and the version of the format
+    static final byte[] MAGIC = {'S', 'T', 'T', 'S'};
+    static final int VERSION = 1;
+    // size of the header, in bytes
+    static final int HEADER_SIZE = 12;
+    // move stored for positions with no move to make
+    static final int NO_MOVE = 0x1F;
+    // n choose k for every n and k up to MAX_CELLS, 0 when k is more than n
+    static final int[][] BINOMIALS = binomials();
+
+    // the mapped database file
+    private final MappedByteBuffer entries;
+    // board the database is for
+    private final int boardSize;
+    private final int numToWin;
+    // numbering of the board's positions
+    private final int[][] groupStart;
+    private final int numPositions;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Opens a database file.
+     *
+     * @param file database file to map
+     * @throws IOException if the file cannot be read or is not a solved database
+     */
+    public SolvedDatabase(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a solved database: " + file);
+            }
+            entries = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (entries.get(i) != MAGIC[i]) {
+                throw new IOException("Not a solved database: " + file);
+            }
+        }
+        if (entries.get(4) != VERSION) {
+            throw new IOException("Unsupported solved database version " + entries.get(4) + ": " + file);
+        }
+
+        boardSize = entries.get(5);
+        numToWin = entries.get(6);
+        if (boardSize < 1 || boardSize * boardSize > MAX_CELLS) {
+            throw new IOException("Solved database is damaged: " + file);
+        }
+        groupStart = groupStarts(boardSize * boardSize);
+        numPositions = groupStart[boardSize * boardSize + 1][0];
+        if (entries.getInt(8) != numPositions || HEADER_SIZE + numPositions != entries.capacity()) {
+            throw new IOException("Solved database is damaged: " + file);
+        }
+    }
+
+    /**
+     * Opens the database for a board in a directory, if there is one.
+     *
+     * @param directory directory holding database files
+     * @param boardSize size of the board
+     * @param numToWin  number of connections in a row needed to win
+     * @return the database, or null if the directory has no database for the board
+     * @throws IOException if the database exists but cannot be read
+     */
+    public static SolvedDatabase load(Path directory, int boardSize, int numToWin) throws IOException {
+        Path file = directory.resolve(fileName(boardSize, numToWin));
+        return Files.isRegularFile(file) ? new SolvedDatabase(file) : null;
+    }
+
+    /**
+     * Gets the name of the database file for a board.
+     *
+     * @param boardSize size of the board
+     * @param numToWin  number of connections in a row needed to win
+     * @return file name, such as solved-4-4.bin
+     */
+    public static String fileName(int boardSize, int numToWin) {
+        return "solved-" + boardSize + "-" + numToWin + ".bin";
+    }
+
+    /************************************************************/
+    /* Lookup */
+
+    /**
+     * Looks up the best move for a position.
+     *
+     * @param position position to look up
+     * @param player   Cell.X or Cell.O, the player to move
+     * @return best move encoded as row * size + col, or -1 if the position is not in the database or the game is over
+     */
+    public int lookup(Position position, Cell player) {
+        int entry = getEntry(position, player);
+        int move = entry & NO_MOVE;
+        return (entry != 0 && move != NO_MOVE) ? move : -1;
+    }
+
+    /**
+     * Gets the result of perfect play from a position.
+     *
+     * @param position position to look up
+     * @param player   Cell.X or Cell.O, the player to move
+     * @return WIN, DRAW or LOSS for the player, or 0 if the position is not in the database
+     */
+    public int getResult(Position position, Cell player) {
+        return getEntry(position, player) >>> 6;
+    }
+
+    /**
+     * Gets the size of the board the database is for.
+     *
+     * @return board size
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Gets the number to win the database is for.
+     *
+     * @return number of connections in a row needed to win
+     */
+    public int getNumToWin() {
+        return numToWin;
+    }
+
+    /**
+     * Private helper method.
+     * Gets a position's byte from the file.
+     *
+     * @return the byte, or 0 if the position is for another board or cannot be reached
+     */
+    private int getEntry(Position position, Cell player) {
+        if (position.getSize() != boardSize || position.getNumToWin() != numToWin) {
+            return 0;
+        }
+
+        int xMask = 0;
+        int oMask = 0;
+        for (int cell = 0; cell < boardSize * boardSize; cell++) {
+            Cell stone = position.getCell(cell);
+            if (stone == Cell.X) {
+                xMask |= 1 << cell;
+            } else if (stone == Cell.O) {
+                oMask |= 1 << cell;
+            }
+        }
+
+        int index = indexOf(xMask, oMask, (player == Cell.X) ? 0 : 1, boardSize * boardSize, groupStart);
+        return (index < 0) ? 0 : entries.get(HEADER_SIZE + index) & 0xFF;
+    }
+
+    /************************************************************/
+    /* Position Numbering */
+
+    /**
+     * Gets the number of X stones in a group of positions.
+     *
+     * @param numStones number of stones on the board
+     * @param side      0 if X is to move, 1 if O is
+     * @return number of X stones
+     */
+    static int xCountOf(int numStones, int side) {
+        // The player to move has the same number of stones as the other player, or one fewer
+        return (side == 0) ? numStones / 2 : numStones - numStones / 2;
+    }
+
+    /**
+     * Gets where each group of positions starts in the numbering.
+     *
+     * @param numCells number of cells on the board
+     * @return start of the group for each number of stones and side to move, with the total number of positions at
+     *         [numCells + 1][0]
+     */
+    static int[][] groupStarts(int numCells) {
+        int[][] starts = new int[numCells + 2][2];
+        long next = 0;
+        for (int stones = 0; stones <= numCells; stones++) {
+            for (int side = 0; side < 2; side++) {
+                starts[stones][side] = (int) next;
+                next += binomial(numCells, stones) * binomial(stones, xCountOf(stones, side));
+            }
+        }
+        starts[numCells + 1][0] = (int) next;
+        return starts;
+    }
+
+    /**
+     * Gets the number of a position.
+     *
+     * @param xMask      cells holding X stones, one bit per cell
+     * @param oMask      cells holding O stones, one bit per cell
+     * @param side       0 if X is to move, 1 if O is
+     * @param numCells   number of cells on the board
+     * @param groupStart start of each group, from groupStarts
+     * @return the position's number, or -1 if the player to move has the wrong number of stones
+     */
+    static int indexOf(int xMask, int oMask, int side, int numCells, int[][] groupStart) {
+        int numStones = Integer.bitCount(xMask | oMask);
+        int numX = xCountOf(numStones, side);
+        if (Integer.bitCount(xMask) != numX) {
+            return -1;
+        }
+
+        // Rank the taken cells among sets of numStones cells, and the X cells among the taken cells
+        int takenRank = 0;
+        int xRank = 0;
+        int taken = 0;
+        int xSeen = 0;
+        for (int cell = 0; cell < numCells; cell++) {
+            int bit = 1 << cell;
+            if (((xMask | oMask) & bit) != 0) {
+                taken++;
+                takenRank += BINOMIALS[cell][taken];
+                if ((xMask & bit) != 0) {
+                    xSeen++;
+                    xRank += BINOMIALS[taken - 1][xSeen];
+                }
+            }
+        }
+
+        return groupStart[numStones][side] + takenRank * BINOMIALS[numStones][numX] + xRank;
+    }
+
+    /**
+     * Gets the position with a number. The X and O cells are returned as masks packed into one long, X in the low
+     * 32 bits and O in the high 32 bits.
+     *
+     * @param rank      number of the position within its group
+     * @param numStones number of stones in the group
+     * @param numX      number of X stones in the group
+     * @param numCells  number of cells on the board
+     * @return X mask in the low half and O mask in the high half
+     */
+    static long positionOf(int rank, int numStones, int numX, int numCells) {
+        int ways = BINOMIALS[numStones][numX];
+        int takenRank = rank / ways;
+        int xRank = rank % ways;
+
+        // Unrank the taken cells, largest first
+        int[] taken = new int[numStones];
+        int cell = numCells;
+        for (int i = numStones; i > 0; i--) {
+            do {
+                cell--;
+            } while (BINOMIALS[cell][i] > takenRank);
+            takenRank -= BINOMIALS[cell][i];
+            taken[i - 1] = cell;
+        }
+
+        // Unrank which of the taken cells are X, largest first
+        int xMask = 0;
+        int index = numStones;
+        for (int i = numX; i > 0; i--) {
+            do {
+                index--;
+            } while (BINOMIALS[index][i] > xRank);
+            xRank -= BINOMIALS[index][i];
+            xMask |= 1 << taken[index];
+        }
+
+        int takenMask = 0;
+        for (int takenCell : taken) {
+            takenMask |= 1 << takenCell;
+        }
+        return (xMask & 0xFFFFFFFFL) | ((long) (takenMask & ~xMask) << 32);
+    }
+
+    /**
+     * Private helper method.
+     * Gets n choose k.
+     */
+    private static long binomial(int n, int k) {
+        return BINOMIALS[n][k];
+    }
+
+    /**
+     * Private helper method.
+     * Builds Pascal's triangle up to MAX_CELLS.
+     */
+    private static int[][] binomials() {
+        int[][] binomials = new int[MAX_CELLS + 1][MAX_CELLS + 2];
+        for (int n = 0; n <= MAX_CELLS; n++) {
+            binomials[n][0] = 1;
+            for (int k = 1; k <= n; k++) {
+                binomials[n][k] = binomials[n - 1][k - 1] + binomials[n - 1][k];
+            }
+        }
+        return binomials;
+    }
+} // End of class SolvedDatabase
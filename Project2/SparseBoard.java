@@ -0,0 +1,437 @@
+package Project2;
+
+/**
+ * SparseBoard holds the stones of a board too big to store cell by cell. Only cells with a stone, or near one, are
+ * kept, in an open-addressing hash table of primitive arrays keyed by the cell's move, so its memory grows with the
+ * number of stones played and not with the size of the board. Each kept cell records its stone and how many stones
+ * are within the candidate radius of it, so the empty cells near stones, the moves worth playing, are known without
+ * scanning the board.
+ *
+ * Making or unmaking a move updates the cells within the candidate radius of it, and checking for a win looks at the
+ * cells up to numToWin away along the four lines through it, so neither depends on the size of the board.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.util.Arrays;
+
+/************************************************************/
+/* Class */
+public class SparseBoard {
+    /************************************************************/
+    /* Variables */
+    // largest board a move can be encoded on as the int row * size + col
+    public static final int MAX_SIZE = 46340;
+
+    // number of slots the table starts with, a power of two
+    private static final int INITIAL_CAPACITY = 64;
+    // stone values kept in the low two bits of a cell's value
+    private static final int STONE_MASK = 3;
+    private static final int X_STONE = 1;
+    private static final int O_STONE = 2;
+    // added to a cell's value for each stone within the candidate radius of it
+    private static final int NEIGHBOR = 4;
+
+    // row and column steps of the four lines through a cell
+    static final int[] ROW_STEPS = {0, 1, 1, 1};
+    static final int[] COL_STEPS = {1, 0, 1, -1};
+
+    // size of the board
+    private final int size;
+    // number of connections in a row needed to win
+    private final int numToWin;
+    // distance from a stone, in rows or columns, that a cell can be to be a candidate move
+    private final int radius;
+
+    // move of the cell in each slot plus one, 0 for an unused slot
+    private int[] keys;
+    // stone and neighbour count of the cell in each slot
+    private int[] values;
+    // shift taking a mixed move to a slot, 32 minus the number of bits in the table size
+    private int shift;
+    // number of slots used
+    private int used;
+    // number of stones on the board
+    private int numStones;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates an empty board with the default candidate radius.
+     *
+     * @param size     size of the square board
+     * @param numToWin number of connections in a row needed to win
+     * @throws IllegalArgumentException if size is not between 1 and MAX_SIZE
+     */
+    public SparseBoard(int size, int numToWin) {
+        this(size, numToWin, CandidateMoves.DEFAULT_RADIUS);
+    }
+
+    /**
+     * Creates an empty board.
+     *
+     * @param size            size of the square board
+     * @param numToWin        number of connections in a row needed to win
+     * @param candidateRadius distance from a stone, in rows or columns, that a cell can be to be a candidate move
+     * @throws IllegalArgumentException if size is not between 1 and MAX_SIZE
+     */
+    public SparseBoard(int size, int numToWin, int candidateRadius) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Sparse board size must be between 1 and " + MAX_SIZE + ".");
+        }
+
+        this.size = size;
+        this.numToWin = numToWin;
+        radius = candidateRadius;
+        clear();
+    }
+
+    /************************************************************/
+    /* Accessors */
+
+    /**
+     * Gets the size of the board.
+     *
+     * @return size of the square board
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of connections in a row needed to win.
+     *
+     * @return number of connections needed to win
+     */
+    public int getNumToWin() {
+        return numToWin;
+    }
+
+    /**
+     * Gets how many moves have been made.
+     *
+     * @return number of stones on the board
+     */
+    public int getStoneCount() {
+        return numStones;
+    }
+
+    /**
+     * Gets if every cell on the board has been taken.
+     *
+     * @return true if the board is full
+     */
+    public boolean isFull() {
+        return numStones == size * size;
+    }
+
+    /**
+     * Gets the Cell at the encoded move.
+     *
+     * @param move cell encoded as row * size + col
+     * @return Cell.X, Cell.O or Cell.EMPTY
+     */
+    public Cell getCell(int move) {
+        int stone = getStone(move);
+        return (stone == X_STONE) ? Cell.X : (stone == O_STONE) ? Cell.O : Cell.EMPTY;
+    }
+
+    /**
+     * Gets if the cell at the encoded move is empty.
+     *
+     * @param move cell encoded as row * size + col
+     * @return true if the cell is empty
+     */
+    public boolean isEmpty(int move) {
+        return getStone(move) == 0;
+    }
+
+    /**
+     * Checks if the stone at the encoded move is part of numToWin in a row. Only the cells up to numToWin - 1 away
+     * along the four lines through the move are looked at.
+     *
+     * @param move cell encoded as row * size + col
+     * @return true if the stone at move is part of a winning line
+     */
+    public boolean isWinAt(int move) {
+        int stone = getStone(move);
+        if (stone == 0) {
+            return false;
+        }
+
+        for (int direction = 0; direction < ROW_STEPS.length; direction++) {
+            int inRow = 1 + countRun(move, stone, ROW_STEPS[direction], COL_STEPS[direction], numToWin - 1)
+                    + countRun(move, stone, -ROW_STEPS[direction], -COL_STEPS[direction], numToWin - 1);
+            if (inRow >= numToWin) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the empty cells within the candidate radius of a stone. On an empty board that is the centre cell. The
+     * cells are found from the table, so this costs time in proportion to the stones played.
+     *
+     * @return the candidate moves, each encoded as row * size + col
+     */
+    public int[] getCandidateMoves() {
+        if (numStones == 0) {
+            return new int[]{(size / 2) * size + size / 2};
+        }
+
+        int[] moves = new int[used];
+        int numMoves = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0 && (values[slot] & STONE_MASK) == 0) {
+                moves[numMoves++] = keys[slot] - 1;
+            }
+        }
+
+        // Every cell near a stone is taken, so any empty cell will do
+        if (numMoves == 0 && !isFull()) {
+            for (int move = 0; move < size * size; move++) {
+                if (isEmpty(move)) {
+                    return new int[]{move};
+                }
+            }
+        }
+        return Arrays.copyOf(moves, numMoves);
+    }
+
+    /************************************************************/
+    /* Mutators */
+
+    /**
+     * Places the player's stone on the empty cell at the encoded move.
+     *
+     * @param move   cell encoded as row * size + col
+     * @param player Cell.X or Cell.O
+     */
+    public void makeMove(int move, Cell player) {
+        // insert may grow the table, so the slot is found before the values array is read
+        int slot = insert(move);
+        values[slot] |= (player == Cell.X) ? X_STONE : O_STONE;
+        numStones++;
+
+        int row = move / size;
+        int col = move % size;
+        for (int r = Math.max(0, row - radius); r <= Math.min(size - 1, row + radius); r++) {
+            for (int c = Math.max(0, col - radius); c <= Math.min(size - 1, col + radius); c++) {
+                if (r != row || c != col) {
+                    int neighbor = insert(r * size + c);
+                    values[neighbor] += NEIGHBOR;
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes the stone at the encoded move back off the board.
+     *
+     * @param move cell encoded as row * size + col
+     */
+    public void unmakeMove(int move) {
+        int slot = find(move);
+        if (slot < 0 || (values[slot] & STONE_MASK) == 0) {
+            return;
+        }
+        values[slot] &= ~STONE_MASK;
+        removeIfUnused(slot);
+        numStones--;
+
+        int row = move / size;
+        int col = move % size;
+        for (int r = Math.max(0, row - radius); r <= Math.min(size - 1, row + radius); r++) {
+            for (int c = Math.max(0, col - radius); c <= Math.min(size - 1, col + radius); c++) {
+                if (r != row || c != col) {
+                    int neighbor = find(r * size + c);
+                    values[neighbor] -= NEIGHBOR;
+                    removeIfUnused(neighbor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes every stone off the board, shrinking the table back to its starting size.
+     */
+    public void clear() {
+        keys = new int[INITIAL_CAPACITY];
+        values = new int[INITIAL_CAPACITY];
+        shift = Integer.numberOfLeadingZeros(INITIAL_CAPACITY) + 1;
+        used = 0;
+        numStones = 0;
+    }
+
+    /************************************************************/
+    /* Lines */
+
+    /**
+     * Counts the stones of one player in a row from a cell, not counting the cell itself.
+     *
+     * @param move    cell encoded as row * size + col to count from
+     * @param player  Cell.X or Cell.O
+     * @param rowStep row step of the direction to count in
+     * @param colStep column step of the direction to count in
+     * @param limit   most stones to count
+     * @return number of the player's stones in a row next to the cell
+     */
+    int countRun(int move, Cell player, int rowStep, int colStep, int limit) {
+        return countRun(move, (player == Cell.X) ? X_STONE : O_STONE, rowStep, colStep, limit);
+    }
+
+    /**
+     * Gets if the cell a number of steps from a cell is on the board and empty.
+     *
+     * @param move    cell encoded as row * size + col to step from
+     * @param steps   number of steps to take
+     * @param rowStep row step of the direction
+     * @param colStep column step of the direction
+     * @return true if the cell is on the board and empty
+     */
+    boolean isOpen(int move, int steps, int rowStep, int colStep) {
+        int row = move / size + rowStep * steps;
+        int col = move % size + colStep * steps;
+        return row >= 0 && row < size && col >= 0 && col < size && getStone(row * size + col) == 0;
+    }
+
+    /**
+     * Private helper method.
+     * Counts the cells holding a stone value in a row from a cell, not counting the cell itself.
+     */
+    private int countRun(int move, int stone, int rowStep, int colStep, int limit) {
+        int row = move / size;
+        int col = move % size;
+        int count = 0;
+
+        while (count < limit) {
+            row += rowStep;
+            col += colStep;
+            if (row < 0 || row >= size || col < 0 || col >= size || getStone(row * size + col) != stone) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /************************************************************/
+    /* Hash Table */
+
+    /**
+     * Private helper method.
+     * Gets the stone value of a cell, 0 if it is empty.
+     */
+    private int getStone(int move) {
+        int slot = find(move);
+        return (slot < 0) ? 0 : values[slot] & STONE_MASK;
+    }
+
+    /**
+     * Private helper method.
+     * Gets the first slot to look in for a cell. The move is mixed so neighbouring cells spread over the table.
+     */
+    private int home(int move) {
+        return (move * 0x9E3779B9) >>> shift;
+    }
+
+    /**
+     * Private helper method.
+     * Finds the slot of a cell.
+     *
+     * @return the slot, or -1 if the cell is not in the table
+     */
+    private int find(int move) {
+        int mask = keys.length - 1;
+        for (int slot = home(move); keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == move + 1) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Private helper method.
+     * Finds the slot of a cell, adding it with a value of 0 if it is not in the table. The table doubles when it is
+     * half full, which moves every slot.
+     */
+    private int insert(int move) {
+        if (2 * (used + 1) > keys.length) {
+            resize(keys.length * 2);
+        }
+
+        int mask = keys.length - 1;
+        int slot = home(move);
+        while (keys[slot] != 0) {
+            if (keys[slot] == move + 1) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = move + 1;
+        used++;
+        return slot;
+    }
+
+    /**
+     * Private helper method.
+     * Removes a cell with no stone and no stones near it. Later cells of the same probe run are moved back into the
+     * gap, so lookups never need markers for removed cells.
+     */
+    private void removeIfUnused(int slot) {
+        if (values[slot] != 0) {
+            return;
+        }
+
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != 0) {
+            int home = home(keys[next] - 1);
+            // Move the cell back if the gap is between its home slot and where it is now
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        keys[gap] = 0;
+        values[gap] = 0;
+        used--;
+    }
+
+    /**
+     * Private helper method.
+     * Moves every cell into a table with a new number of slots, a power of two.
+     */
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[capacity];
+        values = new int[capacity];
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = home(oldKeys[i] - 1);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+} // End of class SparseBoard
@@ -0,0 +1,92 @@
+package Project2;
+
+/**
+ * SparseSearch chooses the computer player's moves on a SparseBoard, where the board is too big for AlphaBetaSearch's
+ * per-cell tables. It scores every candidate move by the lines it makes for the player and the lines it blocks for
+ * the opponent, looking only at the cells up to numToWin away along the four lines through the move, and plays the
+ * best. A move that wins is always played, and a move that stops the opponent winning next is played otherwise.
+ *
+ * Choosing a move costs time in proportion to the number of candidate moves, which grows with the stones played
+ * and not with the size of the board.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Class */
+public class SparseSearch {
+    /************************************************************/
+    /* Variables */
+    // score of a move that wins, and of one that stops the opponent winning
+    private static final long WIN_SCORE = Long.MAX_VALUE / 2;
+    private static final long BLOCK_SCORE = WIN_SCORE / 2;
+
+    /************************************************************/
+    /* Search */
+
+    /**
+     * Chooses the best move for the player.
+     *
+     * @param board  board to choose a move on
+     * @param player Cell.X or Cell.O, the player the move is for
+     * @return move encoded as row * size + col, or -1 if the board is full
+     */
+    public int chooseMove(SparseBoard board, Cell player) {
+        if (board.isFull()) {
+            return -1;
+        }
+
+        Cell opponent = Position.opponent(player);
+        int[] candidates = board.getCandidateMoves();
+        int bestMove = candidates[0];
+        long bestScore = -1;
+
+        for (int move : candidates) {
+            long attack = scoreLines(board, move, player);
+            if (attack >= WIN_SCORE) {
+                return move;
+            }
+
+            long defence = scoreLines(board, move, opponent);
+            long score = (defence >= WIN_SCORE) ? BLOCK_SCORE : attack + defence / 2;
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+            }
+        }
+
+        return bestMove;
+    }
+
+    /**
+     * Private helper method.
+     * Scores the lines a player would have through an empty cell after playing on it. Each line scores more the
+     * longer it is and the more of its ends are open, and a line of numToWin wins.
+     */
+    private long scoreLines(SparseBoard board, int move, Cell player) {
+        int numToWin = board.getNumToWin();
+        long score = 0;
+
+        for (int direction = 0; direction < SparseBoard.ROW_STEPS.length; direction++) {
+            int rowStep = SparseBoard.ROW_STEPS[direction];
+            int colStep = SparseBoard.COL_STEPS[direction];
+            int forward = board.countRun(move, player, rowStep, colStep, numToWin - 1);
+            int backward = board.countRun(move, player, -rowStep, -colStep, numToWin - 1);
+            int length = 1 + forward + backward;
+            if (length >= numToWin) {
+                return WIN_SCORE;
+            }
+
+            int openEnds = (board.isOpen(move, forward + 1, rowStep, colStep) ? 1 : 0)
+                    + (board.isOpen(move, backward + 1, -rowStep, -colStep) ? 1 : 0);
+            if (openEnds > 0) {
+                // Each stone in the line is worth far more than the one before, and an open end doubles it
+                score += (1L << (4 * Math.min(length, 12))) * openEnds;
+            }
+        }
+
+        return score;
+    }
+} // End of class SparseSearch
@@ -1,172 +1,289 @@
-package Project2;
-
-/**
- * SuperTicTacToe starts the program from the main method located here
- * and holds the outermost frame of the GUI.
- *
- * @authors Kara Byers, Darren Fife, Breanna Zinky
- * @date 10/18/22
- * @version 1.0
- */
-
-import javax.swing.*;
-
-/************************************************************/
-/* Class */
-public class SuperTicTacToe {
-    /************************************************************/
-    /* Variables */
-    // size of the board for the game
-    public static int boardSize;
-    // number of connections needed to win
-    public static int numToWin;
-    // Using Cell enum (X, O, Empty)
-    public Cell whoStarts;
-    /************************************************************/
-    /* Main Method */
-
-    /**
-     * Starts the SuperTicTacToe game. Creates the outermost frame and creates
-     * the other objects
-     * Takes input from the user to determine board size, number of connections
-     * to win, and who starts first (X or O).
-     *
-     * @param args Arguments for main method
-     */
-    public static void main(String[] args) {
-        // This main method will create a JFrame object with the title "Super Tic-Tac-Toe and add it to SuperTicTacToePanel
-        // It will also create a SuperTicTacToeGame game object game = new SuperTicTacToeGame();
-/************************************************************/
-        /* Instantiate Variables */
-        boardSize = 0;
-        numToWin = 0;
-        // Using Cell enum (X, O, Empty)
-        Cell startingPlayer = null;
-/************************************************************/
-        JFrame frame = new JFrame("Super Tic-Tac-Toe");
-        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-/************************************************************/
-        /* User Input Section - Get Board Size */
-
-        // Retry boolean is used in a while loop to repeatedly ask the user for input if
-        // invalid amounts are entered.
-        boolean retry = true;
-        while (retry) {
-            try {
-                // Prompt user for input for board size
-                String inputString = JOptionPane.showInputDialog(null, "Enter in the size of the board: ");
-
-                // Exit the system if the cancel button was pressed by checking if the input is null
-                // (if it is null, then the cancel button was pressed - otherwise it will contain an empty string)
-                if (inputString == null) {
-                    System.exit(JFrame.DO_NOTHING_ON_CLOSE);
-                }
-
-                // Get the boardSize from parsing the input string
-                boardSize = Integer.parseInt(inputString); // If invalid amount is entered, an exception is caused here
-
-                // Validate that the input is between 2 and 15.
-                if (boardSize <= 2 || boardSize >= 15) {
-                    throw new NumberFormatException();
-                }
-                retry = false; // If it makes it here, the correct input was entered.
-            }
-            // Catch and display error message for invalid input
-            catch (NumberFormatException e) {
-                JOptionPane.showMessageDialog(null, "Please enter a number between 2 and 15.", "ERROR", JOptionPane.ERROR_MESSAGE);
-            }
-        }
-/************************************************************/
-        /* User Input Section - Get Number of Connections to Win */
-
-        // reset retry boolean
-        retry = true;
-        while (retry) {
-            try {
-                // Prompt user for input for number of connections to win
-                String inputString = JOptionPane.showInputDialog(null, "Enter in the amount of connections to win: ");
-
-                // Exit the system if the cancel button was pressed by checking if the input is null
-                // (if it is null, then the cancel button was pressed - otherwise it will contain an empty string)
-                if (inputString == null) {
-                    System.exit(0);
-                }
-
-                // Get the numToWin from parsing the input string
-                numToWin = Integer.parseInt(inputString); // If invalid amount is entered, an exception is caused here
-
-                // If the board size is 3 then the number to win must be 3
-                // If it isn't, throw an exception
-                if( boardSize == 3 && numToWin < 3) {
-                    throw new NumberFormatException();
-                }
-
-                // If the board size is greater than 3, the number to win must be greater than 3
-                // If it isn't, throw an exception
-                if (boardSize > 3 && numToWin <= 3) {
-                    throw new NumberFormatException();
-                }
-
-                // The number to win must be less than the board size - if it isn't, throw an exception
-                if (numToWin > boardSize) {
-                    throw new NumberFormatException();
-                }
-
-                retry = false; // If it makes it here, the correct input was entered.
-            }
-
-            // Catch and display error message for invalid input
-            catch (NumberFormatException e) {
-                JOptionPane.showMessageDialog(null, "Please enter a valid number. If board size is 3, connections to win must be 3. Otherwise, connections to win must be less than or equal to the board size and greater than 3.", "ERROR", JOptionPane.ERROR_MESSAGE);
-            }
-        }
-/************************************************************/
-        /* User Input Section - Get Who Starts First (X or O) */
-
-        // reset retry boolean
-        retry = true;
-        while (retry) {
-            try {
-                // Prompt user for input for number of connections to win
-                String inputString = JOptionPane.showInputDialog(null, "Who starts first? X or O: ");
-
-                // Exit the system if the cancel button was pressed by checking if the input is null
-                // (if it is null, then the cancel button was pressed - otherwise it will contain an empty string)
-                if (inputString == null) {
-                    System.exit(JFrame.EXIT_ON_CLOSE);
-                }
-
-                // Make inputString uppercase so if a lowercase "x" or "o" is entered it's still valid
-                inputString = inputString.toUpperCase();
-
-                // Remove any whitespace from inputString so inputs "X " or " O" would be valid
-                inputString = inputString.replaceAll("\\s", "");
-
-                // Check that inputString is either X or O
-                if (!inputString.equals("X") && !inputString.equals("O")) {
-                    throw new NumberFormatException();
-                }
-
-                // Set startingPlayer using the selected Cell X or O enum
-                startingPlayer = Cell.valueOf(inputString);
-
-                retry = false; // If it makes it here, the correct input was entered.
-            }
-            // Catch and display error message for invalid input
-            catch (NumberFormatException e) {
-                JOptionPane.showMessageDialog(null, "Please enter either X or O.", "ERROR", JOptionPane.ERROR_MESSAGE);
-            }
-        }
-/************************************************************/
-        // Create the main game object to have better MVC
-        SuperTicTacToeGame game = new SuperTicTacToeGame(boardSize, numToWin, startingPlayer);
-
-        /* Send Frame */
-        // Send game to SuperTicTacToePanel constructor using the user's input
-        frame.getContentPane().add(new SuperTicTacToePanel(game, boardSize, numToWin, startingPlayer));
-        frame.pack();
-        frame.setVisible(true);
-    } // End of main method
-} // End of class SuperTicTacToe
-
-
+package Project2;
+
+/**
+ * SuperTicTacToe starts the program from the main method located here
+ * and holds the outermost frame of the GUI.
+ *
+ * @authors Kara Byers, Darren Fife, Breanna Zinky
+ * @date 10/18/22
+ * @version 1.0
+ */
+
+import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/************************************************************/
+/* Class */
+public class SuperTicTacToe {
+    /************************************************************/
+    /* Variables */
+    // Using Cell enum (X, O, Empty)
+    public Cell whoStarts;
+    // file in the user's home directory that games and win counts are saved to
+    private static final String JOURNAL_FILE_NAME = ".super-tic-tac-toe.journal";
+    /************************************************************/
+    /* Main Method */
+
+    /**
+     * Starts the SuperTicTacToe game. Creates the outermost frame and creates
+     * the other objects
+     * Takes input from the user to determine board size, number of connections
+     * to win, and who starts first (X or O).
+     *
+     * @param args Arguments for main method
+     */
+    public static void main(String[] args) {
+        // This main method will create a JFrame object with the title "Super Tic-Tac-Toe and add it to SuperTicTacToePanel
+        // It will also create a SuperTicTacToeGame game object game = new SuperTicTacToeGame();
+/************************************************************/
+        /* Instantiate Variables */
+        // size of the board for the game, and number of connections needed to win
+        // These are kept local, each game gets its own copy through its constructor
+        int boardSize = 0;
+        int numToWin = 0;
+        // Using Cell enum (X, O, Empty)
+        Cell startingPlayer = null;
+/************************************************************/
+        JFrame frame = new JFrame("Super Tic-Tac-Toe");
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+/************************************************************/
+        /* Journal - Resume an Unfinished Game */
+
+        // The journal saves every move, so the game and win counts are not lost when the program exits
+        GameJournal journal = openJournal();
+        // Game resumed from the journal, if there is one the user wants to finish, otherwise the user is asked below
+        SuperTicTacToeGame game = (journal != null) ? resumeGame(journal) : null;
+        if (game != null) {
+            boardSize = game.getBoardSize();
+            numToWin = game.getNumToWin();
+            startingPlayer = game.getStartingPlayer();
+        }
+/************************************************************/
+        /* User Input Section - Get Board Size */
+
+        // Retry boolean is used in a while loop to repeatedly ask the user for input if
+        // invalid amounts are entered.
+        boolean retry = (game == null);
+        while (retry) {
+            try {
+                // Prompt user for input for board size
+                String inputString = JOptionPane.showInputDialog(null, "Enter in the size of the board: ");
+
+                // Exit the system if the cancel button was pressed by checking if the input is null
+                // (if it is null, then the cancel button was pressed - otherwise it will contain an empty string)
+                if (inputString == null) {
+                    System.exit(JFrame.DO_NOTHING_ON_CLOSE);
+                }
+
+                // Get the boardSize from parsing the input string
+                boardSize = Integer.parseInt(inputString); // If invalid amount is entered, an exception is caused here
+
+                // Validate that the input is between 3 and the largest board the game can keep.
+                // Boards above the button grid's size are drawn on a painted board, and boards above
+                // SuperTicTacToeGame.MAX_DENSE_BOARD_SIZE are kept sparse.
+                if (boardSize <= 2 || boardSize > SparseBoard.MAX_SIZE) {
+                    throw new NumberFormatException();
+                }
+                retry = false; // If it makes it here, the correct input was entered.
+            }
+            // Catch and display error message for invalid input
+            catch (NumberFormatException e) {
+                JOptionPane.showMessageDialog(null, "Please enter a number between 3 and " + SparseBoard.MAX_SIZE + ".",
+                        "ERROR", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+/************************************************************/
+        /* User Input Section - Get Number of Connections to Win */
+
+        // reset retry boolean
+        retry = (game == null);
+        while (retry) {
+            try {
+                // Prompt user for input for number of connections to win
+                String inputString = JOptionPane.showInputDialog(null, "Enter in the amount of connections to win: ");
+
+                // Exit the system if the cancel button was pressed by checking if the input is null
+                // (if it is null, then the cancel button was pressed - otherwise it will contain an empty string)
+                if (inputString == null) {
+                    System.exit(0);
+                }
+
+                // Get the numToWin from parsing the input string
+                numToWin = Integer.parseInt(inputString); // If invalid amount is entered, an exception is caused here
+
+                // If the board size is 3 then the number to win must be 3
+                // If it isn't, throw an exception
+                if( boardSize == 3 && numToWin < 3) {
+                    throw new NumberFormatException();
+                }
+
+                // If the board size is greater than 3, the number to win must be greater than 3
+                // If it isn't, throw an exception
+                if (boardSize > 3 && numToWin <= 3) {
+                    throw new NumberFormatException();
+                }
+
+                // The number to win must be less than the board size - if it isn't, throw an exception
+                if (numToWin > boardSize) {
+                    throw new NumberFormatException();
+                }
+
+                retry = false; // If it makes it here, the correct input was entered.
+            }
+
+            // Catch and display error message for invalid input
+            catch (NumberFormatException e) {
+                JOptionPane.showMessageDialog(null, "Please enter a valid number. If board size is 3, connections to win must be 3. Otherwise, connections to win must be less than or equal to the board size and greater than 3.", "ERROR", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+/************************************************************/
+        /* User Input Section - Get Who Starts First (X or O) */
+
+        // reset retry boolean
+        retry = (game == null);
+        while (retry) {
+            try {
+                // Prompt user for input for number of connections to win
+                String inputString = JOptionPane.showInputDialog(null, "Who starts first? X or O: ");
+
+                // Exit the system if the cancel button was pressed by checking if the input is null
+                // (if it is null, then the cancel button was pressed - otherwise it will contain an empty string)
+                if (inputString == null) {
+                    System.exit(JFrame.EXIT_ON_CLOSE);
+                }
+
+                // Make inputString uppercase so if a lowercase "x" or "o" is entered it's still valid
+                inputString = inputString.toUpperCase();
+
+                // Remove any whitespace from inputString so inputs "X " or " O" would be valid
+                inputString = inputString.replaceAll("\\s", "");
+
+                // Check that inputString is either X or O
+                if (!inputString.equals("X") && !inputString.equals("O")) {
+                    throw new NumberFormatException();
+                }
+
+                // Set startingPlayer using the selected Cell X or O enum
+                startingPlayer = Cell.valueOf(inputString);
+
+                retry = false; // If it makes it here, the correct input was entered.
+            }
+            // Catch and display error message for invalid input
+            catch (NumberFormatException e) {
+                JOptionPane.showMessageDialog(null, "Please enter either X or O.", "ERROR", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+/************************************************************/
+        // Create the main game object to have better MVC
+        if (game == null) {
+            game = new SuperTicTacToeGame(boardSize, numToWin, startingPlayer);
+            if (journal != null) {
+                journal.startSession(game);
+            }
+        }
+        // A sparse board's computer player scores the moves near the stones, it has no search, book or database
+        if (!game.isSparse()) {
+            // Let the computer player search with every core
+            game.setComputerThreadCount(Runtime.getRuntime().availableProcessors());
+            // Let the computer player answer the first moves from the opening book, if there is one for this board
+            game.setOpeningBook(loadOpeningBook(boardSize, numToWin));
+            // Let the computer player play perfectly on boards that have been solved
+            game.setSolvedDatabase(loadSolvedDatabase(boardSize, numToWin));
+        }
+
+        /* Send Frame */
+        // Send game to SuperTicTacToePanel constructor using the user's input
+        frame.getContentPane().add(new SuperTicTacToePanel(game, boardSize, numToWin, startingPlayer, journal));
+        frame.pack();
+        frame.setVisible(true);
+    } // End of main method
+
+    /**
+     * Private helper method.
+     * Opens the journal in the user's home directory, or tells the user games will not be saved if it cannot be.
+     *
+     * @return the journal, or null if it could not be opened
+     */
+    private static GameJournal openJournal() {
+        Path path = Paths.get(System.getProperty("user.home"), JOURNAL_FILE_NAME);
+        try {
+            return new GameJournal(path);
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(null, "Games will not be saved: " + e.getMessage(), "WARNING",
+                    JOptionPane.WARNING_MESSAGE);
+            return null;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Opens the opening book for a board from the book directory, if there is one.
+     *
+     * @return the book, or null if there is none or it cannot be read
+     */
+    private static OpeningBook loadOpeningBook(int boardSize, int numToWin) {
+        try {
+            return OpeningBook.load(Paths.get(OpeningBook.DEFAULT_DIRECTORY), boardSize, numToWin);
+        } catch (IOException e) {
+            // The computer player still works without a book, it just searches every move
+            return null;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Opens the solved database for a board from the book directory, if there is one.
+     *
+     * @return the database, or null if there is none or it cannot be read
+     */
+    private static SolvedDatabase loadSolvedDatabase(int boardSize, int numToWin) {
+        try {
+            return SolvedDatabase.load(Paths.get(OpeningBook.DEFAULT_DIRECTORY), boardSize, numToWin);
+        } catch (IOException e) {
+            // The computer player still works without the database, it just searches
+            return null;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Offers to finish the last unfinished game saved in the journal. Every other saved game is ended. The resumed
+     * game is still played against the computer if it was before.
+     *
+     * @param journal journal holding the saved games
+     * @return the resumed game, or null to start a new one
+     */
+    private static SuperTicTacToeGame resumeGame(GameJournal journal) {
+        // Only a game with moves made that is still in progress is worth finishing, the newest one is offered
+        int resumeId = -1;
+        for (Map.Entry<Integer, SuperTicTacToeGame> recovered : journal.getRecoveredGames().entrySet()) {
+            SuperTicTacToeGame game = recovered.getValue();
+            if (game.getMoveCount() > 0 && game.getGameStatus() == GameStatus.IN_PROGRESS) {
+                resumeId = recovered.getKey();
+            }
+        }
+
+        if (resumeId != -1) {
+            SuperTicTacToeGame game = journal.getRecoveredGames().get(resumeId);
+            String opponent = game.isComputerPlayerEnabled() ? " against the computer" : "";
+            int reply = JOptionPane.showConfirmDialog(null, "Finish the unfinished " + game.getBoardSize() + "x"
+                    + game.getBoardSize() + " game" + opponent + "?", "Resume Super-Tic-Tac-Toe?",
+                    JOptionPane.YES_NO_OPTION);
+            if (reply != JOptionPane.YES_OPTION) {
+                resumeId = -1;
+            }
+        }
+
+        for (int sessionId : journal.getRecoveredGames().keySet()) {
+            if (sessionId != resumeId) {
+                journal.endSession(sessionId);
+            }
+        }
+        return (resumeId != -1) ? journal.resumeSession(resumeId) : null;
+    }
+} // End of class SuperTicTacToe
+
+
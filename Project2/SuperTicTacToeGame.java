@@ -1,1000 +1,824 @@
-package Project2;
-
-/**
- * SuperTicTacToeGame contains the game logic to play TicTacToe on a user defined sized board.
- * This method creates the game board, holds the logic of selecting a cell, determining who won,
- * and logic for a computer player.
- *
- *  @authors Kara Byers, Darren Fife, Breanna Zinky
- *  @date 10/18/22
- *  @version 1.0
- */
-
-/************************************************************/
-/* Imports */
-
-import java.util.ArrayList;
-import java.awt.Point;
-
-/************************************************************/
-/* Class */
-public class SuperTicTacToeGame {
-    /************************************************************/
-    /* Variables */
-    // 2D array of cells that compose the game board
-    private Cell[][] board;
-
-    // enum of the status of the game
-    private GameStatus status;
-    private ArrayList<Point> point; // Use the class called "Point" from Java API
-    // This will be used to save the user's position each time and store
-    // all previously selected positions so moves can be undone
-
-    // enum of what cell type the current player is
-    private Cell currentPlayer;
-
-    // boolean for whether the computer player is enabled
-    private boolean computerIsPlaying = false;
-
-    // keeps track of what cell each player is
-    private Cell computerPlayer = Cell.EMPTY;
-    private Cell player = Cell.EMPTY;
-
-    // counter of how many turns have been taken
-    private int numTurns;
-
-    // number of connections in a row needed to win
-    private int numToWin;
-    // size of the board
-    private int lastBoardSize;
-    // which player starts the game
-    private Cell startPlayer;
-
-    // counters for how many X/O's in a row
-    private int xCount = 0;
-    private int oCount = 0;
-
-    /************************************************************/
-    /* Constructors */
-
-    /**
-     * Generic constructor that creates a standard 3x3 TicTacToe game starting with X and requiring 3 in a row to win.
-     */
-    public SuperTicTacToeGame() {
-        this(3, 3, Cell.X);
-    } // End of constructor
-
-    /**
-     * Parameterized Constructor that takes board size to create a TicTacToe game.
-     *
-     * @param boardSize      integer number for size of square TicTacToe board
-     * @param numToWin       integer number of how many Xs or Os in a row to win the game
-     * @param startingPlayer Cell enumeration for if O or X is starting
-     */
-    public SuperTicTacToeGame(int boardSize, int numToWin, Cell startingPlayer) {
-        super();
-
-        status = GameStatus.IN_PROGRESS;
-        board = new Cell[boardSize][boardSize];
-
-        // Initialize board buttons to empty
-        for (int row = 0; row < boardSize; row++) {
-            for (int col = 0; col < boardSize; col++) {
-                board[row][col] = Cell.EMPTY;
-            }
-        }
-
-        currentPlayer = startingPlayer;
-        startPlayer = startingPlayer;
-        this.numToWin = numToWin;
-        lastBoardSize = boardSize;
-        numTurns = 0;
-        xCount = 0;
-        oCount = 0;
-        point = new ArrayList<>();
-
-    } // End of constructor
-
-    /************************************************************/
-    /**
-     * Calls select method after player clicks, then computer plays if it is enabled.
-     *
-     * @param row int row position of the cell selected
-     * @param col int column position of the cell selected
-     */
-    public void playerSelect(int row, int col) {
-        select(row, col);
-
-        if (computerIsPlaying && currentPlayer == computerPlayer) {
-            playComputerTurn();
-        }
-    }
-
-    /* Select Method */
-
-    /**
-     * Select method uses the Cell enum to mark the selected cell at row, col as either X or O.
-     * Also changes who the current player is after the move is made.
-     *
-     * @param row int row position of the cell selected
-     * @param col int column position of the cell selected
-     */
-    public void select(int row, int col) {
-        // This method will be invoked when the user selects a JButton within the 2D array at location (row, col).
-        // This method will use the Cell enum to mark a cell as either Cell.X or Cell.O
-        // Ex. board[row][col] = Cell.O;
-
-        // Only change/select empty cells
-        if (board[row][col] == Cell.EMPTY) {
-            // Sets the selected cell as the currentPlayer's Cell
-            board[row][col] = currentPlayer;
-
-            // Changes who is the current player after the selection (move) is made
-            if (currentPlayer == Cell.O) {
-                currentPlayer = Cell.X;
-            } else {
-                currentPlayer = Cell.O;
-            }
-            // increment turn counter
-            numTurns++;
-            // Add selected position to point array list to save it
-            point.add(new Point(row, col));
-        }
-
-        // Call the game status to check for a winner
-        getGameStatus();
-    } // End of Select Method
-
-    /************************************************************/
-    /* Reset Method */
-
-    /**
-     * Reset method resets the board to empty for a new game using the values entered for starting player, board size,
-     * and num to win from the initial game.
-     */
-    public void reset() {
-        // This method is called from the SuperTicTacToePanel class and resets the board to empty for a new game.
-        status = GameStatus.IN_PROGRESS;
-
-        board = new Cell[lastBoardSize][lastBoardSize];
-        for (int row = 0; row < lastBoardSize; row++) {
-            for (int col = 0; col < lastBoardSize; col++) {
-                board[row][col] = Cell.EMPTY;
-            }
-        }
-        currentPlayer = startPlayer;
-        numTurns = 0;
-        xCount = 0;
-        oCount = 0;
-
-        // Reset the point array
-        point.clear();
-
-        if (computerIsPlaying) {
-            computerIsPlaying = false;
-        }
-    } // End of Reset Method
-
-    /************************************************************/
-    /* getGameStatus Method */
-
-    /**
-     * getGameStatus determines if a player has won the game by checking if there are (user's entered numToWin) Xs or Os
-     * in a row or if the board is full and there is no winner, result in a tie.
-     * Returns the enum for the status of the game.
-     *
-     * @return GameStatus current status of the game.
-     */
-    public GameStatus getGameStatus() {
-        // This method is called from the SuperTicTacToePanel class and returns the enum for if a
-        // player has won the game after the select method was called.
-        // It will check if there are (user's entered numToWin) Xs or Os in a row to find the winner, or result in a tie.
-
-        status = getGameStatusOfSpecifiedBoard(board);
-
-        return status;
-    } // End of getGameStatus Method
-
-    /**
-     * Helper method that checks if the board being checked has a game won.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @return Status of the game being checked.
-     */
-    private GameStatus getGameStatusOfSpecifiedBoard(Cell[][] boardBeingChecked) {
-        GameStatus statusOfSpecifiedBoard = GameStatus.IN_PROGRESS;
-
-        // Check rows
-        statusOfSpecifiedBoard = checkRows(boardBeingChecked);
-
-        // If no win is found from checking the rows, check columns
-        if (statusOfSpecifiedBoard == GameStatus.IN_PROGRESS) {
-            statusOfSpecifiedBoard = checkColumns(boardBeingChecked);
-        }
-
-        // If no win is found from checking the columns, check the NW-SE diagonals
-        if (statusOfSpecifiedBoard == GameStatus.IN_PROGRESS) {
-            statusOfSpecifiedBoard = checkDiagonalNWSE(boardBeingChecked);
-        }
-
-        // If no win is found from checking the NW-SE diagonals, check the NE-SW diagonals
-        if (statusOfSpecifiedBoard == GameStatus.IN_PROGRESS) {
-            statusOfSpecifiedBoard = checkDiagonalNESW(boardBeingChecked);
-        }
-
-        // If no win is found from checking diagonals and entire board is full, there is a tie
-        if (statusOfSpecifiedBoard == GameStatus.IN_PROGRESS && numTurns == lastBoardSize * lastBoardSize) {
-            statusOfSpecifiedBoard = GameStatus.CATS;
-        }
-
-        return statusOfSpecifiedBoard;
-    }
-
-    /************************************************************/
-    /* getBoard Method */
-
-    /**
-     * GetBoard method returns the current game board.
-     *
-     * @return board Cell[][] representation of the game board
-     */
-    public Cell[][] getBoard() {
-        // This method returns the board to the SuperTicTacToePanel so the panel can display the board to the user.
-        return board;
-    } // End of getBoard Method
-
-    /************************************************************/
-    /**
-     * Enables the computer playing as the current player.
-     */
-    public void enableComputer() {
-        // Check the game is still going
-        if (status == GameStatus.IN_PROGRESS) {
-            computerIsPlaying = true;
-
-            computerPlayer = Cell.O;
-            player = Cell.X;
-
-            if (currentPlayer == computerPlayer) {
-                playComputerTurn();
-            }
-        }
-    }
-
-    /**
-     * Gets if the computer is playing.
-     *
-     * @return If the computer is playing.
-     */
-    public boolean isComputerPlayerEnabled() {
-        return computerIsPlaying;
-    }
-
-    /* playComputer Method */
-
-    /**
-     * Plays the computers turn, even if computer is not enabled.
-     * Prioritizes winning and blocking, and then uses algorithm to plan ahead.
-     */
-    public void playComputerTurn() {
-        // Check the game is still going
-        if (status == GameStatus.IN_PROGRESS) {
-            // Clone board to plan moves
-            Cell[][] computerBoard = board;
-
-            int[][] weightedBoard = new int[lastBoardSize][lastBoardSize];
-
-            GameStatus testedStatus = GameStatus.IN_PROGRESS;
-
-            int bestValidMoveRow = -1;
-            int bestValidMoveCol = -1;
-            int bestMoveValue = 0;
-
-            for (int row = 0; row < lastBoardSize; row++) {
-                for (int col = 0; col < lastBoardSize; col++) {
-                    // Check if cell is usable
-                    if (computerBoard[row][col] == Cell.EMPTY) {
-                        // Record move as valid
-                        weightedBoard[row][col] = 0;
-
-                        computerBoard[row][col] = computerPlayer;
-
-                        testedStatus = getGameStatusOfSpecifiedBoard(computerBoard);
-
-                        // Check if computer would win placing at position
-                        if ((computerPlayer == Cell.X && testedStatus == GameStatus.X_WON) || (computerPlayer == Cell.O && testedStatus == GameStatus.O_WON)) {
-                            weightedBoard[row][col] += 200;
-                        }
-
-                        computerBoard[row][col] = player;
-
-                        testedStatus = getGameStatusOfSpecifiedBoard(computerBoard);
-
-                        // Check if computer would block player at position
-                        if ((player == Cell.X && testedStatus == GameStatus.X_WON) || (player == Cell.O && testedStatus == GameStatus.O_WON)) {
-                            weightedBoard[row][col] += 100;
-                        }
-
-                        computerBoard[row][col] = Cell.EMPTY;
-
-                        // Trying to make lines
-                        weightedBoard[row][col] += findCombosAtCell(computerBoard, row, col);
-                    }
-                    // If not empty make -1 so that it should never be picked
-                    else {
-                        weightedBoard[row][col] = -1;
-                    }
-                }
-            }
-
-            // Search the weighted board for the best move
-            for (int row = 0; row < lastBoardSize; row++) {
-                for (int col = 0; col < lastBoardSize; col++) {
-                    // If find a better move remember it instead.
-                    if (weightedBoard[row][col] >= bestMoveValue) {
-                        bestMoveValue = weightedBoard[row][col];
-
-                        bestValidMoveRow = row;
-                        bestValidMoveCol = col;
-                    }
-                }
-            }
-
-            // Check there is a best move on the board, if not don't make a move
-            if (bestValidMoveRow > -1 && bestValidMoveCol > -1) {
-                select(bestValidMoveRow, bestValidMoveCol);
-            }
-        }
-    } // End of playComputer Method
-
-    /**
-     * Private helper method.
-     * Finds how many cells are the target symbol in a direct line on the cardinal directions of the starting position and in bounds.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @param startingRow       Row of the cell the method is checking from.
-     * @param startingCol       Column of the cell the method is checking from.
-     * @return Total number of cells that in direct lines on cardinal directions.
-     */
-    private int findCombosAtCell(Cell[][] boardBeingChecked, int startingRow, int startingCol) {
-        int comboValue = 0;
-
-        // Handle any exceptions here because only computer deals with these variables.
-        try {
-            // Check for computer player symbol combos at cell
-            comboValue += findComboNOfCell(boardBeingChecked, startingRow, startingCol, computerPlayer);
-            comboValue += findComboNEOfCell(boardBeingChecked, startingRow, startingCol, computerPlayer);
-            comboValue += findComboEOfCell(boardBeingChecked, startingRow, startingCol, computerPlayer);
-            comboValue += findComboSEOfCell(boardBeingChecked, startingRow, startingCol, computerPlayer);
-            comboValue += findComboSOfCell(boardBeingChecked, startingRow, startingCol, computerPlayer);
-            comboValue += findComboSWOfCell(boardBeingChecked, startingRow, startingCol, computerPlayer);
-            comboValue += findComboWOfCell(boardBeingChecked, startingRow, startingCol, computerPlayer);
-            comboValue += findComboNWOfCell(boardBeingChecked, startingRow, startingCol, computerPlayer);
-
-
-            // Check for player symbol combos at cell
-            comboValue += findComboNOfCell(boardBeingChecked, startingRow, startingCol, player);
-            comboValue += findComboNEOfCell(boardBeingChecked, startingRow, startingCol, player);
-            comboValue += findComboEOfCell(boardBeingChecked, startingRow, startingCol, player);
-            comboValue += findComboSEOfCell(boardBeingChecked, startingRow, startingCol, player);
-            comboValue += findComboSOfCell(boardBeingChecked, startingRow, startingCol, player);
-            comboValue += findComboSWOfCell(boardBeingChecked, startingRow, startingCol, player);
-            comboValue += findComboWOfCell(boardBeingChecked, startingRow, startingCol, player);
-            comboValue += findComboNWOfCell(boardBeingChecked, startingRow, startingCol, player);
-        } catch (IllegalArgumentException exc) {
-            // Should never have an exception as this is hard coded.
-            System.out.println(exc);
-        }
-
-        return comboValue;
-    }
-
-    /**
-     * Private helper method for code reuse.
-     * Checks parameters for combo methods.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @param startingRow       Row of the cell the method is checking from.
-     * @param startingCol       Column of the cell the method is checking from.
-     * @throws IllegalArgumentException If board being checked is null,
-     *                                  Starting row is not on board being checked.
-     *                                  Starting column is not on board being checked.
-     */
-    private void checkComboParameters(Cell[][] boardBeingChecked, int startingRow, int startingCol) {
-        if (boardBeingChecked == null) {
-            throw new IllegalArgumentException("Board being checked must not be null.");
-        }
-        if (startingRow < 0 || startingRow >= boardBeingChecked.length) {
-            throw new IllegalArgumentException("Starting row must be on the board being checked.");
-        }
-        if (startingCol < 0 || startingCol >= boardBeingChecked[0].length) {
-            throw new IllegalArgumentException("Starting column must be on the board being checked.");
-        }
-    }
-
-    /**
-     * Private helper method.
-     * Finds how many cells are the target symbol north of the starting position and in bounds.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @param startingRow       Row of the cell the method is checking from.
-     * @param startingCol       Column of the cell the method is checking from.
-     * @param targetSymbol      Player's symbol being counted.
-     * @return Number of cells that are the target symbol going north.
-     * @throws IllegalArgumentException If board being checked is null,
-     *                                  Starting row is not on board being checked.
-     *                                  Starting column is not on board being checked.
-     */
-    private int findComboNOfCell(Cell[][] boardBeingChecked, int startingRow, int startingCol, Cell targetSymbol) {
-        // Check if the parameters are legal
-        checkComboParameters(boardBeingChecked, startingRow, startingCol);
-
-        int comboLength = 0;
-
-        // While row is in bounds
-        while (startingRow - comboLength - 1 >= 0) {
-            // If not target symbol, return the combo length
-            if (boardBeingChecked[startingRow - comboLength - 1][startingCol] != targetSymbol) {
-                return comboLength;
-            }
-
-            // Increment the combo length
-            comboLength++;
-        }
-
-        // Return the combo length
-        return comboLength;
-    }
-
-    /**
-     * Private helper method.
-     * Finds how many cells are the target symbol north-east of the starting position and in bounds.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @param startingRow       Row of the cell the method is checking from.
-     * @param startingCol       Column of the cell the method is checking from.
-     * @param targetSymbol      Player's symbol being counted.
-     * @return Number of cells that are the target symbol going north.
-     * @throws IllegalArgumentException If board being checked is null,
-     *                                  Starting row is not on board being checked.
-     *                                  Starting column is not on board being checked.
-     */
-    private int findComboNEOfCell(Cell[][] boardBeingChecked, int startingRow, int startingCol, Cell targetSymbol) {
-        // Check if the parameters are legal
-        checkComboParameters(boardBeingChecked, startingRow, startingCol);
-
-        int comboLength = 0;
-
-        // While row is in bounds
-        while (startingRow - comboLength - 1 >= 0 && startingCol + comboLength + 1 < lastBoardSize) {
-            // If not target symbol, return the combo length
-            if (boardBeingChecked[startingRow - comboLength - 1][startingCol + comboLength + 1] != targetSymbol) {
-                return comboLength;
-            }
-
-            // Increment the combo length
-            comboLength++;
-        }
-
-        // Return the combo length
-        return comboLength;
-    }
-
-    /**
-     * Private helper method.
-     * Finds how many cells are the target symbol east of the starting position and in bounds.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @param startingRow       Row of the cell the method is checking from.
-     * @param startingCol       Column of the cell the method is checking from.
-     * @param targetSymbol      Player's symbol being counted.
-     * @return Number of cells that are the target symbol going north.
-     * @throws IllegalArgumentException If board being checked is null,
-     *                                  Starting row is not on board being checked.
-     *                                  Starting column is not on board being checked.
-     */
-    private int findComboEOfCell(Cell[][] boardBeingChecked, int startingRow, int startingCol, Cell targetSymbol) {
-        // Check if the parameters are legal
-        checkComboParameters(boardBeingChecked, startingRow, startingCol);
-
-        int comboLength = 0;
-
-        // While row is in bounds
-        while (startingCol + comboLength + 1 < lastBoardSize) {
-            // If not target symbol, return the combo length
-            if (boardBeingChecked[startingRow][startingCol + comboLength + 1] != targetSymbol) {
-                return comboLength;
-            }
-
-            // Increment the combo length
-            comboLength++;
-        }
-
-        // Return the combo length
-        return comboLength;
-    }
-
-    /**
-     * Private helper method.
-     * Finds how many cells are the target symbol south-east of the starting position and in bounds.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @param startingRow       Row of the cell the method is checking from.
-     * @param startingCol       Column of the cell the method is checking from.
-     * @param targetSymbol      Player's symbol being counted.
-     * @return Number of cells that are the target symbol going north.
-     * @throws IllegalArgumentException If board being checked is null,
-     *                                  Starting row is not on board being checked.
-     *                                  Starting column is not on board being checked.
-     */
-    private int findComboSEOfCell(Cell[][] boardBeingChecked, int startingRow, int startingCol, Cell targetSymbol) {
-        // Check if the parameters are legal
-        checkComboParameters(boardBeingChecked, startingRow, startingCol);
-
-        int comboLength = 0;
-
-        // While row is in bounds
-        while (startingRow + comboLength + 1 < lastBoardSize && startingCol + comboLength + 1 < lastBoardSize) {
-            // If not target symbol, return the combo length
-            if (boardBeingChecked[startingRow + comboLength + 1][startingCol + comboLength + 1] != targetSymbol) {
-                return comboLength;
-            }
-
-            // Increment the combo length
-            comboLength++;
-        }
-
-        // Return the combo length
-        return comboLength;
-    }
-
-    /**
-     * Private helper method.
-     * Finds how many cells are the target symbol south of the starting position and in bounds.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @param startingRow       Row of the cell the method is checking from.
-     * @param startingCol       Column of the cell the method is checking from.
-     * @param targetSymbol      Player's symbol being counted.
-     * @return Number of cells that are the target symbol going north.
-     * @throws IllegalArgumentException If board being checked is null,
-     *                                  Starting row is not on board being checked.
-     *                                  Starting column is not on board being checked.
-     */
-    private int findComboSOfCell(Cell[][] boardBeingChecked, int startingRow, int startingCol, Cell targetSymbol) {
-        // Check if the parameters are legal
-        checkComboParameters(boardBeingChecked, startingRow, startingCol);
-
-        int comboLength = 0;
-
-        // While row is in bounds
-        while (startingRow + comboLength + 1 < lastBoardSize) {
-            // If not target symbol, return the combo length
-            if (boardBeingChecked[startingRow + comboLength + 1][startingCol] != targetSymbol) {
-                return comboLength;
-            }
-
-            // Increment the combo length
-            comboLength++;
-        }
-
-        // Return the combo length
-        return comboLength;
-    }
-
-    /**
-     * Private helper method.
-     * Finds how many cells are the target symbol south-west of the starting position and in bounds.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @param startingRow       Row of the cell the method is checking from.
-     * @param startingCol       Column of the cell the method is checking from.
-     * @param targetSymbol      Player's symbol being counted.
-     * @return Number of cells that are the target symbol going north.
-     * @throws IllegalArgumentException If board being checked is null,
-     *                                  Starting row is not on board being checked.
-     *                                  Starting column is not on board being checked.
-     */
-    private int findComboSWOfCell(Cell[][] boardBeingChecked, int startingRow, int startingCol, Cell targetSymbol) {
-        // Check if the parameters are legal
-        checkComboParameters(boardBeingChecked, startingRow, startingCol);
-
-        int comboLength = 0;
-
-        // While row is in bounds
-        while (startingRow + comboLength + 1 < lastBoardSize && startingCol - comboLength - 1 >= 0) {
-            // If not target symbol, return the combo length
-            if (boardBeingChecked[startingRow + comboLength + 1][startingCol - comboLength - 1] != targetSymbol) {
-                return comboLength;
-            }
-
-            // Increment the combo length
-            comboLength++;
-        }
-
-        // Return the combo length
-        return comboLength;
-    }
-
-    /**
-     * Private helper method.
-     * Finds how many cells are the target symbol west of the starting position and in bounds.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @param startingRow       Row of the cell the method is checking from.
-     * @param startingCol       Column of the cell the method is checking from.
-     * @param targetSymbol      Player's symbol being counted.
-     * @return Number of cells that are the target symbol going north.
-     * @throws IllegalArgumentException If board being checked is null,
-     *                                  Starting row is not on board being checked.
-     *                                  Starting column is not on board being checked.
-     */
-    private int findComboWOfCell(Cell[][] boardBeingChecked, int startingRow, int startingCol, Cell targetSymbol) {
-        // Check if the parameters are legal
-        checkComboParameters(boardBeingChecked, startingRow, startingCol);
-
-        int comboLength = 0;
-
-        // While row is in bounds
-        while (startingCol - comboLength - 1 >= 0) {
-            // If not target symbol, return the combo length
-            if (boardBeingChecked[startingRow][startingCol - comboLength - 1] != targetSymbol) {
-                return comboLength;
-            }
-
-            // Increment the combo length
-            comboLength++;
-        }
-
-        // Return the combo length
-        return comboLength;
-    }
-
-    /**
-     * Private helper method.
-     * Finds how many cells are the target symbol north-west of the starting position and in bounds.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @param startingRow       Row of the cell the method is checking from.
-     * @param startingCol       Column of the cell the method is checking from.
-     * @param targetSymbol      Player's symbol being counted.
-     * @return Number of cells that are the target symbol going north.
-     * @throws IllegalArgumentException If board being checked is null,
-     *                                  Starting row is not on board being checked.
-     *                                  Starting column is not on board being checked.
-     */
-    private int findComboNWOfCell(Cell[][] boardBeingChecked, int startingRow, int startingCol, Cell targetSymbol) {
-        // Check if the parameters are legal
-        checkComboParameters(boardBeingChecked, startingRow, startingCol);
-
-        int comboLength = 0;
-
-        // While row is in bounds
-        while (startingRow - comboLength - 1 >= 0 && startingCol - comboLength - 1 >= 0) {
-            // If not target symbol, return the combo length
-            if (boardBeingChecked[startingRow - comboLength - 1][startingCol - comboLength - 1] != targetSymbol) {
-                return comboLength;
-            }
-
-            // Increment the combo length
-            comboLength++;
-        }
-
-        // Return the combo length
-        return comboLength;
-    }
-
-    /************************************************************/
-    /* checkRows Method */
-
-    /**
-     * checkRows checks across each row in the game board for a winner of user inputted amount of X's or O's in a row.
-     * Returns the status of the game.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @return GameStatus current status of the game.
-     */
-    private GameStatus checkRows(Cell[][] boardBeingChecked) {
-        xCount = 0;
-        oCount = 0;
-
-        for (int row = 0; row < lastBoardSize; row++) {
-            for (int column = 0; column < lastBoardSize; column++) {
-                if (boardBeingChecked[row][column] == Cell.X) {
-                    xCount++;
-                    oCount = 0;
-                    if (xCount == numToWin) {
-                        return GameStatus.X_WON;
-                    }
-                }
-
-                if (boardBeingChecked[row][column] == Cell.O) {
-                    oCount++;
-                    xCount = 0;
-                    if (oCount == numToWin) {
-                        return GameStatus.O_WON;
-                    }
-                }
-
-                if (boardBeingChecked[row][column] == Cell.EMPTY) {
-                    xCount = 0;
-                    oCount = 0;
-                }
-            }
-
-            // Reset counters
-            xCount = 0;
-            oCount = 0;
-        }
-
-        return GameStatus.IN_PROGRESS;
-    }
-
-    /**
-     * checkColumns checks down each column in the game board for a winner of user inputted amount of X's or O's in a row.
-     * Returns the status of the game.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @return GameStatus current status of the game.
-     */
-    private GameStatus checkColumns(Cell[][] boardBeingChecked) {
-        int xCount = 0;
-        int oCount = 0;
-
-        for (int column = 0; column < lastBoardSize; column++) {
-            for (int row = 0; row < lastBoardSize; row++) {
-                if (boardBeingChecked[row][column] == Cell.X) {
-                    xCount++;
-                    oCount = 0;
-                    if (xCount == numToWin) {
-                        return GameStatus.X_WON;
-                    }
-                }
-
-                if (boardBeingChecked[row][column] == Cell.O) {
-                    oCount++;
-                    xCount = 0;
-                    if (oCount == numToWin) {
-                        return GameStatus.O_WON;
-                    }
-                }
-
-                if (boardBeingChecked[row][column] == Cell.EMPTY) {
-                    xCount = 0;
-                    oCount = 0;
-                }
-            }
-
-            // Reset counters
-            xCount = 0;
-            oCount = 0;
-        }
-
-        return GameStatus.IN_PROGRESS;
-    }
-
-    /**
-     * checkDiagonalNWSE checks down each NWSE diagonal in the game board for a winner of user inputted amount of X's or
-     * O's in a row. Returns the status of the game.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @return GameStatus current status of the game.
-     */
-    private GameStatus checkDiagonalNWSE(Cell[][] boardBeingChecked) {
-        int xCount = 0;
-        int oCount = 0;
-
-        int row, col;
-        col = 0;
-
-        // Outer loop adds to row
-        for (row = 0; row < lastBoardSize; row++) {
-            // Inner loop to check diagonal
-            for (int diag = 0; diag < lastBoardSize - row; diag++) {
-                // Check for X win
-                if (boardBeingChecked[row + diag][col + diag] == Cell.X) {
-                    xCount++;
-                    oCount = 0;
-                    if (xCount == numToWin) {
-                        return GameStatus.X_WON;
-                    }
-                }
-                // Check for O win
-                if (boardBeingChecked[row + diag][col + diag] == Cell.O) {
-                    oCount++;
-                    xCount = 0;
-                    if (oCount == numToWin) {
-                        return GameStatus.O_WON;
-                    }
-                }
-
-                if (boardBeingChecked[row + diag][col + diag] == Cell.EMPTY) {
-                    xCount = 0;
-                    oCount = 0;
-                }
-            }
-
-            // Reset counters
-            xCount = 0;
-            oCount = 0;
-        }
-
-        row = 0;
-
-        // Outer loop adds to column
-        for (col = 0; col < lastBoardSize; col++) {
-            // Inner loop to check diagonal
-            for (int diag = 0; diag < lastBoardSize - col; diag++) {
-                // Check for X win
-                if (boardBeingChecked[row + diag][col + diag] == Cell.X) {
-                    xCount++;
-                    oCount = 0;
-                    if (xCount == numToWin) {
-                        return GameStatus.X_WON;
-                    }
-                }
-                // Check for O win
-                if (boardBeingChecked[row + diag][col + diag] == Cell.O) {
-                    oCount++;
-                    xCount = 0;
-                    if (oCount == numToWin) {
-                        return GameStatus.O_WON;
-                    }
-                }
-
-                if (boardBeingChecked[row + diag][col + diag] == Cell.EMPTY) {
-                    xCount = 0;
-                    oCount = 0;
-                }
-
-            }
-
-            // Reset counters
-            xCount = 0;
-            oCount = 0;
-        }
-
-        return GameStatus.IN_PROGRESS;
-    }
-
-    /**
-     * checkDiagonalNESW checks down each NESW diagonal in the game board for a winner of user inputted amount
-     * of X's or O's in a row. Returns the status of the game.
-     *
-     * @param boardBeingChecked The board being checked currently.
-     * @return GameStatus current status of the game.
-     */
-    private GameStatus checkDiagonalNESW(Cell[][] boardBeingChecked) {
-        int xCount = 0;
-        int oCount = 0;
-        int row, col;
-
-        col = lastBoardSize - 1; // Start at the right side of the board
-
-        // Check NE-SW diagonals going down the row (from right most side)
-        for (row = 0; row <= lastBoardSize - 1; row++) {
-            // The conditions here make sure that it can not go out of bounds of the array
-            // (So it won't go negative from [col-diag] or exceeding bounds from [row+diag])
-            for (int diag = 0; (col >= diag) && (row + diag < lastBoardSize); diag++) {
-                // Check for x win
-                if (boardBeingChecked[row + diag][col - diag] == Cell.X) {
-                    xCount++;
-                    oCount = 0;
-                    if (xCount == numToWin) {
-                        return GameStatus.X_WON;
-                    }
-                }
-                // Check for O win
-                if (boardBeingChecked[row + diag][col - diag] == Cell.O) {
-                    oCount++;
-                    xCount = 0;
-                    if (oCount == numToWin) {
-                        return GameStatus.O_WON;
-                    }
-                }
-
-                if (boardBeingChecked[row + diag][col - diag] == Cell.EMPTY) {
-                    xCount = 0;
-                    oCount = 0;
-                }
-            }
-
-            // Reset counters
-            xCount = 0;
-            oCount = 0;
-        }
-
-        row = 0; // Set row to 0 to start at top row
-        // Check NE-SW diagonals going along the columns (right to left, starting at top right
-        // of board)
-        for (col = lastBoardSize - 1; col >= 0; col--) {
-            // Check the NE-SW diagonals
-            for (int diag = 0; col >= diag; diag++) {
-                // Check for X win
-                if (boardBeingChecked[row + diag][col - diag] == Cell.X) {
-                    xCount++;
-                    oCount = 0;
-                    if (xCount == numToWin) {
-                        return GameStatus.X_WON;
-                    }
-                }
-                // Check for O win
-                if (boardBeingChecked[row + diag][col - diag] == Cell.O) {
-                    oCount++;
-                    xCount = 0;
-                    if (oCount == numToWin) {
-                        return GameStatus.O_WON;
-                    }
-                }
-
-                if (boardBeingChecked[row + diag][col - diag] == Cell.EMPTY) {
-                    xCount = 0;
-                    oCount = 0;
-                }
-            }
-
-            // Reset counters
-            xCount = 0;
-            oCount = 0;
-        }
-
-        return GameStatus.IN_PROGRESS;
-    }
-
-    /************************************************************/
-    /* Undo Method */
-
-    /**
-     * Undo method undoes the last player move made, turning the cell empty and changing back to the correct player.
-     *
-     * @throws IllegalArgumentException if the board is empty and cannot undo any further moves
-     *                                  or trying to remove computer player's first move.
-     */
-    public void undo() {
-        // Number of points being removed
-        int numOfPointsBeingRemoved = 0;
-
-        // Find the last element in the array list
-        int lastElement = point.size() - 1;
-
-        // If board is empty, cannot undo further
-        if (lastElement == -1) {
-            throw new IllegalArgumentException("Can not undo further.");
-        } else {
-            // If computer is not playing and press undo
-            if (!computerIsPlaying) {
-                // Changes who is the current player after the undo
-                if (currentPlayer == Cell.O) {
-                    currentPlayer = Cell.X;
-                } else {
-                    currentPlayer = Cell.O;
-                }
-
-                numOfPointsBeingRemoved = 1;
-            }
-            // don't want to let them undo the computer's first move
-            else if (computerIsPlaying && startPlayer == computerPlayer && numTurns == 1) {
-                throw new IllegalArgumentException("Can not undo the computer's first turn." + "\nReset if you want to clear the board.");
-            }
-            // if play computer is enabled, it will remove the last 2 moves
-            else if (computerIsPlaying && currentPlayer == player) {
-                currentPlayer = Cell.X;
-                numOfPointsBeingRemoved = 2;
-            }
-            // For loop to remove the last element in point array list and clear the icon
-            for (int i = 0; i < numOfPointsBeingRemoved && lastElement >= 0; i++) {
-                // Set the cell of the last point in the array list to empty
-                board[(int) point.get(lastElement).getX()][(int) point.get(lastElement).getY()] = Cell.EMPTY;
-
-                // Remove the last element from the array list
-                point.remove(lastElement);
-                // Update lastElement
-                lastElement = point.size() - 1;
-                // decrement turn counter
-                numTurns--;
-            }
-        }
-    }
-} // End of class SuperTicTacToeGame
-
-
+package Project2;
+
+/**
+ * SuperTicTacToeGame contains the game logic to play TicTacToe on a user defined sized board.
+ * This method creates the game board, holds the logic of selecting a cell, determining who won,
+ * and logic for a computer player.
+ *
+ * Thread safety: a game is not thread-safe and must only be used by one thread at a time, such as the Swing event
+ * thread for the GUI or one worker thread in a batch run. Separate games share no mutable state, so any number of
+ * them can be played on different threads at once. Each game has its own board size, number to win, position and
+ * computer player. Game positions of the same board share their Zobrist keys, symmetry and line window layout, which
+ * are made once per board and never change after that, so a new game only allocates its own stones and counts. A
+ * computer engine holds search state, so one engine must not be given to games played on different threads.
+ *
+ * Boards up to MAX_DENSE_BOARD_SIZE are kept in a bitboard Position. Bigger boards, up to SparseBoard.MAX_SIZE, are
+ * kept in a SparseBoard that only stores the cells near stones, so a game's memory and the cost of each move grow
+ * with the moves played and not with the size of the board. The computer player on a sparse board scores the moves
+ * next to the stones with a SparseSearch instead of searching the whole board, and the board copy, symmetry and
+ * opening book methods, which work on every cell, are only available on dense boards.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/22
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.util.Arrays;
+
+/************************************************************/
+/* Class */
+public class SuperTicTacToeGame {
+    /************************************************************/
+    /* Variables */
+    // largest board kept in a bitboard, bigger boards are kept sparse
+    public static final int MAX_DENSE_BOARD_SIZE = 64;
+    // moves the move history holds before it grows on a sparse board
+    private static final int SPARSE_MOVE_CAPACITY = 256;
+
+    // position holding the bitboard of the cells that compose the game board, or null on a sparse board
+    private final Position position;
+    // stones of a board bigger than MAX_DENSE_BOARD_SIZE, or null on a dense board
+    private final SparseBoard sparseBoard;
+
+    // enum of the status of the game
+    private GameStatus status;
+    // every move made, as row * size + col, so moves can be undone and redone
+    private final MoveStack moves;
+
+    // enum of what cell type the current player is
+    private Cell currentPlayer;
+
+    // boolean for whether the computer player is enabled
+    private boolean computerIsPlaying = false;
+
+    // keeps track of what cell each player is
+    private Cell computerPlayer = Cell.EMPTY;
+    private Cell player = Cell.EMPTY;
+
+    // chooses the computer player's moves, made when first needed so games without a computer player stay small
+    private ComputerEngine computerEngine;
+    // chooses the computer player's moves on a sparse board, made when first needed
+    private SparseSearch sparseSearch;
+    // best moves near the start of the game, played without searching, or null if there is no book
+    private OpeningBook openingBook;
+    // perfect play for every position of a small board, or null if the board has not been solved
+    private SolvedDatabase solvedDatabase;
+    // looks for a forced win made of threats before the computer engine searches
+    private final ThreatSearch threatSearch = new ThreatSearch();
+    // time the computer player takes for each move, in milliseconds, shared by the threat search and the engine
+    private static final int COMPUTER_MOVE_MILLIS = 200;
+    // part of the move time the threat search may use, the engine searches for the rest
+    private static final int THREAT_SEARCH_MILLIS = 40;
+
+    // number of connections in a row needed to win
+    private final int numToWin;
+    // size of the board
+    private final int lastBoardSize;
+    // which player starts the game
+    private final Cell startPlayer;
+    // turn number the game was decided on, or -1 while the game is in progress
+    private int decidedOnTurn = -1;
+
+    // listeners told about every change to the board, kept in an array so telling them allocates nothing
+    private GameListener[] listeners = new GameListener[0];
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Generic constructor that creates a standard 3x3 TicTacToe game starting with X and requiring 3 in a row to win.
+     */
+    public SuperTicTacToeGame() {
+        this(3, 3, Cell.X);
+    } // End of constructor
+
+    /**
+     * Parameterized Constructor that takes board size to create a TicTacToe game.
+     *
+     * @param boardSize      integer number for size of square TicTacToe board
+     * @param numToWin       integer number of how many Xs or Os in a row to win the game
+     * @param startingPlayer Cell enumeration for if O or X is starting
+     * @throws IllegalArgumentException if boardSize is more than SparseBoard.MAX_SIZE, numToWin is not between 1 and
+     *                                  boardSize, or startingPlayer is not X or O
+     */
+    public SuperTicTacToeGame(int boardSize, int numToWin, Cell startingPlayer) {
+        super();
+
+        if (boardSize > SparseBoard.MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be at most " + SparseBoard.MAX_SIZE + ".");
+        }
+        if (numToWin < 1 || numToWin > boardSize) {
+            throw new IllegalArgumentException("Number to win must be between 1 and the board size.");
+        }
+        if (startingPlayer != Cell.X && startingPlayer != Cell.O) {
+            throw new IllegalArgumentException("Starting player must be X or O.");
+        }
+
+        status = GameStatus.IN_PROGRESS;
+        if (boardSize > MAX_DENSE_BOARD_SIZE) {
+            position = null;
+            sparseBoard = new SparseBoard(boardSize, numToWin);
+        } else {
+            position = new Position(boardSize, numToWin);
+            sparseBoard = null;
+        }
+
+        currentPlayer = startingPlayer;
+        startPlayer = startingPlayer;
+        this.numToWin = numToWin;
+        lastBoardSize = boardSize;
+        threatSearch.setTimeBudget(THREAT_SEARCH_MILLIS);
+        moves = new MoveStack((sparseBoard != null) ? SPARSE_MOVE_CAPACITY : boardSize * boardSize);
+    } // End of constructor
+
+    /************************************************************/
+    /**
+     * Calls select method after player clicks, then computer plays if it is enabled.
+     *
+     * @param row int row position of the cell selected
+     * @param col int column position of the cell selected
+     */
+    public void playerSelect(int row, int col) {
+        select(row, col);
+
+        if (computerIsPlaying && currentPlayer == computerPlayer) {
+            playComputerTurn();
+        }
+    }
+
+    /* Select Method */
+
+    /**
+     * Select method uses the Cell enum to mark the selected cell at row, col as either X or O.
+     * Also changes who the current player is after the move is made.
+     *
+     * @param row int row position of the cell selected
+     * @param col int column position of the cell selected
+     */
+    public void select(int row, int col) {
+        // This method will be invoked when the user selects a JButton within the 2D array at location (row, col).
+        // This method will use the Cell enum to mark a cell as either Cell.X or Cell.O
+        // Ex. board[row][col] = Cell.O;
+
+        // Only change/select empty cells
+        if (isEmpty(row * lastBoardSize + col)) {
+            // Save the move so it can be undone, a new move means undone moves can no longer be redone
+            moves.push(row * lastBoardSize + col);
+            makeMove(row * lastBoardSize + col);
+        }
+    } // End of Select Method
+
+    /**
+     * Private helper method.
+     * Marks a cell for the current player, changes the current player and updates the status.
+     * The move must already be on the move stack.
+     */
+    private void makeMove(int move) {
+        // Sets the selected cell as the currentPlayer's Cell
+        if (sparseBoard != null) {
+            sparseBoard.makeMove(move, currentPlayer);
+        } else {
+            position.makeMove(move, currentPlayer);
+        }
+
+        // Changes who is the current player after the selection (move) is made
+        currentPlayer = Position.opponent(currentPlayer);
+
+        // A new win can only run through the cell just played, so only check the lines through it
+        if (status == GameStatus.IN_PROGRESS) {
+            status = getGameStatusAfterMove(move / lastBoardSize, move % lastBoardSize);
+
+            if (status != GameStatus.IN_PROGRESS) {
+                decidedOnTurn = moves.size();
+            }
+        }
+
+        for (GameListener listener : listeners) {
+            listener.moveMade(this, move);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Takes back the top move on the move stack, keeping it so it can be redone, and changes back the current player.
+     */
+    private void unmakeMove() {
+        int move = moves.undo();
+        if (sparseBoard != null) {
+            sparseBoard.unmakeMove(move);
+        } else {
+            position.unmakeMove(move);
+        }
+        currentPlayer = Position.opponent(currentPlayer);
+
+        // Once the move that decided the game is undone, the game is back in progress
+        if (moves.size() < decidedOnTurn) {
+            status = GameStatus.IN_PROGRESS;
+            decidedOnTurn = -1;
+        }
+
+        for (GameListener listener : listeners) {
+            listener.moveUndone(this, move);
+        }
+    }
+
+    /************************************************************/
+    /* Reset Method */
+
+    /**
+     * Reset method resets the board to empty for a new game using the values entered for starting player, board size,
+     * and num to win from the initial game.
+     */
+    public void reset() {
+        // This method is called from the SuperTicTacToePanel class and resets the board to empty for a new game.
+        status = GameStatus.IN_PROGRESS;
+        decidedOnTurn = -1;
+
+        if (sparseBoard != null) {
+            sparseBoard.clear();
+        } else {
+            position.clear();
+        }
+        currentPlayer = startPlayer;
+
+        // Clear the move history, a reset can not be redone
+        moves.clear();
+
+        if (computerIsPlaying) {
+            computerIsPlaying = false;
+        }
+
+        for (GameListener listener : listeners) {
+            listener.gameReset(this);
+        }
+    } // End of Reset Method
+
+    /************************************************************/
+    /* Listeners */
+
+    /**
+     * Adds a listener to be told about every change to the board.
+     *
+     * @param listener listener to add
+     * @throws IllegalArgumentException if listener is null
+     */
+    public void addGameListener(GameListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener must not be null.");
+        }
+
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Removes a listener added with addGameListener. Does nothing if it was not added.
+     *
+     * @param listener listener to remove
+     */
+    public void removeGameListener(GameListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                GameListener[] remaining = new GameListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, remaining, 0, i);
+                System.arraycopy(listeners, i + 1, remaining, i, remaining.length - i);
+                listeners = remaining;
+                return;
+            }
+        }
+    }
+
+    /************************************************************/
+    /* getGameStatus Method */
+
+    /**
+     * getGameStatus returns the enum for the status of the game. The status is updated by select and undo as moves
+     * are made, so this does not rescan the board.
+     *
+     * @return GameStatus current status of the game.
+     */
+    public GameStatus getGameStatus() {
+        // This method is called from the SuperTicTacToePanel class and returns the enum for if a
+        // player has won the game after the select method was called.
+        return status;
+    } // End of getGameStatus Method
+
+    /**
+     * Rescans the whole board for (user's entered numToWin) Xs or Os in a row, or a full board resulting in a tie.
+     * Slower than getGameStatus, but does not rely on the status kept by select and undo. A sparse board is checked
+     * through the lines of every stone played instead of every cell.
+     *
+     * @return GameStatus status of the game found by checking the whole board.
+     */
+    public GameStatus validateGameStatus() {
+        if (sparseBoard == null) {
+            return getGameStatusOfSpecifiedBoard(position.getBoard());
+        }
+
+        for (int ply = 0; ply < moves.size(); ply++) {
+            if (sparseBoard.isWinAt(moves.get(ply))) {
+                return (sparseBoard.getCell(moves.get(ply)) == Cell.X) ? GameStatus.X_WON : GameStatus.O_WON;
+            }
+        }
+        return sparseBoard.isFull() ? GameStatus.CATS : GameStatus.IN_PROGRESS;
+    }
+
+    /**
+     * Helper method that checks if the move just made at row, col ended the game.
+     * Only the four lines through the move are checked, so this costs O(numToWin) instead of O(n^2).
+     *
+     * @param row Row of the move just made.
+     * @param col Column of the move just made.
+     * @return Status of the game after the move.
+     */
+    private GameStatus getGameStatusAfterMove(int row, int col) {
+        int move = row * lastBoardSize + col;
+        if ((sparseBoard != null) ? sparseBoard.isWinAt(move) : position.isWinAt(move)) {
+            if (getCell(row, col) == Cell.X) {
+                return GameStatus.X_WON;
+            }
+            return GameStatus.O_WON;
+        }
+
+        // If there is no win and entire board is full, there is a tie
+        if ((sparseBoard != null) ? sparseBoard.isFull() : position.isFull()) {
+            return GameStatus.CATS;
+        }
+
+        return GameStatus.IN_PROGRESS;
+    }
+
+    /**
+     * Helper method that checks if the board being checked has a game won.
+     * Uses shift-and-mask line tests over the whole board.
+     *
+     * @param boardBeingChecked The board being checked currently.
+     * @return Status of the game being checked.
+     */
+    private GameStatus getGameStatusOfSpecifiedBoard(BitBoard boardBeingChecked) {
+        if (boardBeingChecked.hasWin(Cell.X, numToWin)) {
+            return GameStatus.X_WON;
+        }
+        if (boardBeingChecked.hasWin(Cell.O, numToWin)) {
+            return GameStatus.O_WON;
+        }
+
+        // If no win is found and entire board is full, there is a tie
+        if (boardBeingChecked.isFull()) {
+            return GameStatus.CATS;
+        }
+
+        return GameStatus.IN_PROGRESS;
+    }
+
+    /************************************************************/
+    /* getBoard Method */
+
+    /**
+     * GetBoard method returns a copy of the current game board.
+     *
+     * @return board Cell[][] representation of the game board
+     * @throws IllegalStateException if the board is sparse, too big to copy cell by cell
+     */
+    public Cell[][] getBoard() {
+        // This method returns the board to the SuperTicTacToePanel so the panel can display the board to the user.
+        requireDense();
+        return position.getBoard().toCellArray();
+    } // End of getBoard Method
+
+    /**
+     * Gets the Cell at row, col without copying the board.
+     *
+     * @param row int row position of the cell
+     * @param col int column position of the cell
+     * @return Cell.X, Cell.O or Cell.EMPTY
+     * @throws IllegalArgumentException if row or col is off the board
+     */
+    public Cell getCell(int row, int col) {
+        if (row < 0 || row >= lastBoardSize || col < 0 || col >= lastBoardSize) {
+            throw new IllegalArgumentException("Cell is off the board.");
+        }
+        int move = row * lastBoardSize + col;
+        return (sparseBoard != null) ? sparseBoard.getCell(move) : position.getCell(move);
+    }
+
+    /**
+     * Private helper method.
+     * Gets if the cell at the encoded move is empty, on either kind of board.
+     */
+    private boolean isEmpty(int move) {
+        return (sparseBoard != null) ? sparseBoard.isEmpty(move) : position.isEmpty(move);
+    }
+
+    /**
+     * Gets if the board is kept sparse, because it is bigger than MAX_DENSE_BOARD_SIZE.
+     *
+     * @return true if the board only stores the cells near stones
+     */
+    public boolean isSparse() {
+        return sparseBoard != null;
+    }
+
+    /**
+     * Private helper method.
+     * Throws if the board is sparse, for the methods that need every cell of a dense board.
+     */
+    private void requireDense() {
+        if (sparseBoard != null) {
+            throw new IllegalStateException("Board is too big for this, it is kept sparse.");
+        }
+    }
+
+    /**
+     * Gets the player whose turn it is.
+     *
+     * @return Cell.X or Cell.O
+     */
+    public Cell getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * Gets the last move made.
+     *
+     * @return last move encoded as row * size + col, or -1 if no moves have been made
+     */
+    public int getLastMove() {
+        return moves.peek();
+    }
+
+    /**
+     * Gets the number of moves made.
+     *
+     * @return number of moves on the board
+     */
+    public int getMoveCount() {
+        return moves.size();
+    }
+
+    /**
+     * Gets a move made, or an undone move that can still be redone.
+     *
+     * @param ply index of the move, 0 for the first move
+     * @return move encoded as row * size + col
+     * @throws IllegalArgumentException if ply is not below getRedoLimit
+     */
+    public int getMove(int ply) {
+        return moves.get(ply);
+    }
+
+    /**
+     * Gets the number of moves made plus the number of undone moves that can be redone.
+     *
+     * @return highest ply rewindTo can go forward to
+     */
+    public int getRedoLimit() {
+        return moves.getRedoLimit();
+    }
+
+    /**
+     * Gets the size of the board.
+     *
+     * @return size of the square board
+     */
+    public int getBoardSize() {
+        return lastBoardSize;
+    }
+
+    /**
+     * Gets the player who moves first.
+     *
+     * @return Cell.X or Cell.O
+     */
+    public Cell getStartingPlayer() {
+        return startPlayer;
+    }
+
+    /**
+     * Gets the number of connections in a row needed to win.
+     *
+     * @return number of connections needed to win
+     */
+    public int getNumToWin() {
+        return numToWin;
+    }
+
+    /**
+     * Gets the transform that turns the board into its canonical form, which every turn and reflection of the board
+     * shares. Moves are moved onto the canonical form with getSymmetry().apply and back with getSymmetry().invert.
+     *
+     * @return Symmetry transform from 0 to Symmetry.COUNT - 1
+     * @throws IllegalStateException if the board is sparse
+     */
+    public int getCanonicalTransform() {
+        requireDense();
+        return position.getCanonicalTransform();
+    }
+
+    /**
+     * Gets the Zobrist hash of the canonical form of the board with the player to move, the same for every turn and
+     * reflection of the board.
+     *
+     * @return hash of the canonical position
+     * @throws IllegalStateException if the board is sparse
+     */
+    public long getCanonicalHash() {
+        requireDense();
+        return position.getHash(position.getCanonicalTransform(), currentPlayer);
+    }
+
+    /**
+     * Gets the turns and reflections of the board.
+     *
+     * @return symmetry of the board size
+     * @throws IllegalStateException if the board is sparse
+     */
+    public Symmetry getSymmetry() {
+        requireDense();
+        return position.getSymmetry();
+    }
+
+    /************************************************************/
+    /**
+     * Enables the computer playing as the current player.
+     */
+    public void enableComputer() {
+        enableComputer(true);
+    }
+
+    /**
+     * Enables the computer playing as O, if the game is still going.
+     *
+     * @param playTurn true to make the computer's move now if it is O's turn, false to leave it to playComputerTurn,
+     *                 such as when restoring a saved game or when the move is made on another thread
+     */
+    public void enableComputer(boolean playTurn) {
+        // Check the game is still going
+        if (status == GameStatus.IN_PROGRESS) {
+            boolean wasPlaying = computerIsPlaying;
+            computerIsPlaying = true;
+
+            computerPlayer = Cell.O;
+            player = Cell.X;
+
+            if (!wasPlaying) {
+                for (GameListener listener : listeners) {
+                    listener.computerEnabled(this);
+                }
+            }
+
+            if (playTurn && isComputersTurn()) {
+                playComputerTurn();
+            }
+        }
+    }
+
+    /**
+     * Gets if the computer is playing.
+     *
+     * @return If the computer is playing.
+     */
+    public boolean isComputerPlayerEnabled() {
+        return computerIsPlaying;
+    }
+
+    /**
+     * Gets if the computer is playing and the game is waiting for its move.
+     *
+     * @return true if playComputerTurn should be called to carry on the game
+     */
+    public boolean isComputersTurn() {
+        return computerIsPlaying && status == GameStatus.IN_PROGRESS && currentPlayer == computerPlayer;
+    }
+
+    /* playComputer Method */
+
+    /**
+     * Plays the computers turn, even if computer is not enabled. The move is the one chooseComputerMove picks.
+     */
+    public void playComputerTurn() {
+        int bestMove = chooseComputerMove();
+
+        // Check there is a best move on the board, if not don't make a move
+        if (bestMove > -1) {
+            select(bestMove / lastBoardSize, bestMove % lastBoardSize);
+        }
+    } // End of playComputer Method
+
+    /**
+     * Chooses the computer's move for the current player without making it.
+     * On a sparse board the move is chosen by a SparseSearch of the cells near the stones. Otherwise plays the solved
+     * database's move on a solved board, and the opening book's move while the position is in the book. Failing
+     * those, looks for a forced win made of threats, then lets the computer engine search. Both are given a scratch
+     * copy of the board. The game is only read, so the move can be chosen on another thread as long as nothing
+     * changes the game until it is chosen.
+     *
+     * @return move encoded as row * size + col, or -1 if the game is over or there is no move to make
+     */
+    public int chooseComputerMove() {
+        // Check the game is still going
+        if (status != GameStatus.IN_PROGRESS) {
+            return -1;
+        }
+        if (sparseBoard != null) {
+            return getSparseSearch().chooseMove(sparseBoard, currentPlayer);
+        }
+
+        // The move is made for the current player, who is the computer player whenever the computer is enabled
+        int bestMove = (solvedDatabase != null) ? solvedDatabase.lookup(position, currentPlayer) : -1;
+        if (bestMove < 0 && openingBook != null) {
+            bestMove = openingBook.lookup(position, currentPlayer);
+        }
+        if (bestMove > -1) {
+            return bestMove;
+        }
+
+        // Copy board to plan moves
+        Position computerPosition = new Position(position);
+
+        // A forced win found by the threat search is played without a full search
+        bestMove = threatSearch.findWinningMove(computerPosition, currentPlayer);
+        if (bestMove < 0) {
+            bestMove = getComputerEngine().chooseMove(computerPosition, currentPlayer);
+        }
+        return bestMove;
+    }
+
+    /**
+     * Private helper method.
+     * Gets the search that chooses the computer player's moves on a sparse board, made the first time it is needed.
+     */
+    private SparseSearch getSparseSearch() {
+        if (sparseSearch == null) {
+            sparseSearch = new SparseSearch();
+        }
+        return sparseSearch;
+    }
+
+    /**
+     * Gets the engine that chooses the computer player's moves. If none has been set, a search on the calling thread
+     * is made the first time this is called.
+     *
+     * @return computer engine
+     */
+    public ComputerEngine getComputerEngine() {
+        if (computerEngine == null) {
+            setComputerThreadCount(1);
+        }
+        return computerEngine;
+    }
+
+    /**
+     * Sets the engine that chooses the computer player's moves.
+     *
+     * @param computerEngine engine to use for the computer player
+     * @throws IllegalArgumentException if computerEngine is null
+     */
+    public void setComputerEngine(ComputerEngine computerEngine) {
+        if (computerEngine == null) {
+            throw new IllegalArgumentException("Computer engine must not be null.");
+        }
+
+        // Stop the threads of a parallel engine being replaced
+        if (this.computerEngine instanceof ParallelSearch && this.computerEngine != computerEngine) {
+            ((ParallelSearch) this.computerEngine).shutdown();
+        }
+        this.computerEngine = computerEngine;
+    }
+
+    /**
+     * Sets the opening book the computer player takes its moves from while the position is in it.
+     *
+     * @param openingBook book for this game's board size and number to win, or null to always search
+     * @throws IllegalArgumentException if the book is for a different board size or number to win
+     */
+    public void setOpeningBook(OpeningBook openingBook) {
+        if (openingBook != null
+                && (openingBook.getBoardSize() != lastBoardSize || openingBook.getNumToWin() != numToWin)) {
+            throw new IllegalArgumentException("Opening book is for a different board.");
+        }
+        this.openingBook = openingBook;
+    }
+
+    /**
+     * Sets the solved database the computer player takes its moves from, so it plays perfectly without searching.
+     *
+     * @param solvedDatabase database for this game's board size and number to win, or null to search
+     * @throws IllegalArgumentException if the database is for a different board size or number to win
+     */
+    public void setSolvedDatabase(SolvedDatabase solvedDatabase) {
+        if (solvedDatabase != null
+                && (solvedDatabase.getBoardSize() != lastBoardSize || solvedDatabase.getNumToWin() != numToWin)) {
+            throw new IllegalArgumentException("Solved database is for a different board.");
+        }
+        this.solvedDatabase = solvedDatabase;
+    }
+
+    /**
+     * Sets how many threads the computer player searches with, using the same time per move. The engine searches for
+     * the part of the move time the threat search does not use.
+     *
+     * @param threadCount number of threads, 1 searches on the calling thread only
+     * @throws IllegalArgumentException if threadCount is less than 1
+     */
+    public void setComputerThreadCount(int threadCount) {
+        if (threadCount == 1) {
+            AlphaBetaSearch search = new AlphaBetaSearch(lastBoardSize * lastBoardSize, new LineEvaluator());
+            search.setTimeBudget(COMPUTER_MOVE_MILLIS - THREAT_SEARCH_MILLIS);
+            setComputerEngine(search);
+        } else {
+            ParallelSearch search = new ParallelSearch(threadCount, lastBoardSize * lastBoardSize);
+            search.setTimeBudget(COMPUTER_MOVE_MILLIS - THREAT_SEARCH_MILLIS);
+            setComputerEngine(search);
+        }
+    }
+
+    /**
+     * Sets the time the threat search may take before each computer move. The engine's own time budget is separate,
+     * so a computer move takes at most the two added together.
+     *
+     * @param millis time budget in milliseconds, or 0 for no limit
+     * @throws IllegalArgumentException if millis is negative
+     */
+    public void setThreatSearchTimeBudget(long millis) {
+        threatSearch.setTimeBudget(millis);
+    }
+
+    /************************************************************/
+    /* Undo Method */
+
+    /**
+     * Undo method undoes the last player move made, turning the cell empty and changing back to the correct player.
+     *
+     * @throws IllegalArgumentException if the board is empty and cannot undo any further moves
+     *                                  or trying to remove computer player's first move.
+     */
+    public void undo() {
+        // Number of moves being removed
+        int numOfMovesBeingRemoved = 0;
+
+        // If board is empty, cannot undo further
+        if (moves.size() == 0) {
+            throw new IllegalArgumentException("Can not undo further.");
+        } else {
+            // If computer is not playing and press undo
+            if (!computerIsPlaying) {
+                numOfMovesBeingRemoved = 1;
+            }
+            // don't want to let them undo the computer's first move
+            else if (computerIsPlaying && startPlayer == computerPlayer && moves.size() == 1) {
+                throw new IllegalArgumentException("Can not undo the computer's first turn." + "\nReset if you want to clear the board.");
+            }
+            // if play computer is enabled, it will remove the last 2 moves
+            else if (computerIsPlaying && currentPlayer == player) {
+                numOfMovesBeingRemoved = 2;
+            }
+            // Remove the last moves, each undo changes back the current player
+            for (int i = 0; i < numOfMovesBeingRemoved && moves.size() > 0; i++) {
+                unmakeMove();
+            }
+        }
+    }
+
+    /**
+     * Redo method makes the last undone move again. If the computer is playing, the computer's undone reply is redone
+     * with it, so it is the player's turn again.
+     *
+     * @throws IllegalArgumentException if there is no undone move to redo
+     */
+    public void redo() {
+        if (!moves.canRedo()) {
+            throw new IllegalArgumentException("Can not redo further.");
+        }
+
+        makeMove(moves.redo());
+        if (computerIsPlaying && currentPlayer == computerPlayer && moves.canRedo()) {
+            makeMove(moves.redo());
+        }
+    }
+
+    /**
+     * Undoes or redoes moves until ply moves have been made, ignoring the computer player. Lets replay tools step
+     * to any point of a game.
+     *
+     * @param ply number of moves to have made, from 0 up to getRedoLimit
+     * @throws IllegalArgumentException if ply is out of that range
+     */
+    public void rewindTo(int ply) {
+        if (ply < 0 || ply > moves.getRedoLimit()) {
+            throw new IllegalArgumentException("Can not rewind to ply " + ply + ".");
+        }
+
+        while (moves.size() > ply) {
+            unmakeMove();
+        }
+        while (moves.size() < ply) {
+            makeMove(moves.redo());
+        }
+    }
+} // End of class SuperTicTacToeGame
+
+
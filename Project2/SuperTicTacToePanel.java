@@ -1,345 +1,550 @@
-package Project2;
-
-/**
- * SuperTicTacToePanel is the gui panel that houses the model part of the game that is adaptive to user input.
- *
- *  @authors Kara Byers, Darren Fife, Breanna Zinky
- *  @date 10/18/22
- *  @version 1.0
- */
-
-/************************************************************/
-/* Imports */
-
-import java.awt.*;
-import javax.swing.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
-
-/************************************************************/
-/* Class */
-public class SuperTicTacToePanel extends JPanel {
-    /************************************************************/
-    /* Variables */
-    private SuperTicTacToeGame game; // Main game instance variable.
-    private int boardSize; // Size of the board
-    private int numToWin; // Number of spaces in a row needed to win.
-    private Cell startingPlayer; // Which symbol is going first.
-    private int xWinCount; // Counter for how many times X has won (to be displayed on GUI)
-    private int oWinCount; // Counter for how many times O has won (to be displayed on GUI)
-
-    private JButton[][] jButtonBoard; // 2D array representing the GUI board the user sees
-    private Cell[][] iBoard; // 2D array of Cell received from the game object representing the TicTacToe board
-    private JButton quitButton; // Button allows you to quit the game
-    private JButton undoButton; // Button allows you to undo to the previous move
-    private ImageIcon xIcon; // x icon shown on the GUI board
-    private ImageIcon oIcon; // o icon shown on the GUI board
-    private ImageIcon emptyIcon; // Empty (free space) icon shown on the GUI board
-    private JLabel xWinCounter; // Label to hold xWinCount
-    private JLabel oWinCounter; // Label to hold oWinCount
-
-    private JPanel buttonPanel; // Panel to hold the jButtonBoard buttons
-
-    /************************************************************/
-    /* Constructor */
-
-    /**
-     * Parameterized Constructor
-     * Super TicTacToe constructor that generates a board based on user input.
-     *
-     * @param game           Main game instance
-     * @param boardSize      Size of board being created.
-     * @param numToWin       Number of spaces in a row needed to win.
-     * @param startingPlayer Which symbol is going first.
-     */
-    public SuperTicTacToePanel(SuperTicTacToeGame game, int boardSize, int numToWin, Cell startingPlayer) {
-        // Set the parameters
-        this.game = game;
-        this.boardSize = boardSize;
-        this.numToWin = numToWin;
-        this.startingPlayer = startingPlayer;
-
-        // Instantiate the Image Icons
-        xIcon = new ImageIcon("src/Project2/X.png");
-        oIcon = new ImageIcon("src/Project2/O.png");
-        emptyIcon = new ImageIcon("src/Project2/emptyIcon.png");
-
-        // Resize the image icons to fit the button's size (which depends on how big the board is)
-        Image xIconResized = xIcon.getImage(); //Transform the ImageIcon to an image so that we can resize it
-        Image oIconResized = oIcon.getImage(); //Transform the ImageIcon to an image so that we can resize it
-        if (boardSize < 7) {
-            Image xIconResized2 = xIconResized.getScaledInstance(100, 100, java.awt.Image.SCALE_SMOOTH);
-            Image oIconResized2 = oIconResized.getScaledInstance(100, 100, java.awt.Image.SCALE_SMOOTH);
-            xIcon = new ImageIcon(xIconResized2); //Transform the resized image back into an ImageIcon
-            oIcon = new ImageIcon(oIconResized2); //Transform the resized image back into an ImageIcon
-        } else if (boardSize < 10) {
-            Image xIconResized2 = xIconResized.getScaledInstance(80, 80, java.awt.Image.SCALE_SMOOTH);
-            Image oIconResized2 = oIconResized.getScaledInstance(80, 80, java.awt.Image.SCALE_SMOOTH);
-            xIcon = new ImageIcon(xIconResized2); //Transform the resized image back into an ImageIcon
-            oIcon = new ImageIcon(oIconResized2); //Transform the resized image back into an ImageIcon
-        } else if (boardSize < 13) {
-            Image xIconResized2 = xIconResized.getScaledInstance(55, 55, java.awt.Image.SCALE_SMOOTH);
-            Image oIconResized2 = oIconResized.getScaledInstance(55, 55, java.awt.Image.SCALE_SMOOTH);
-            xIcon = new ImageIcon(xIconResized2); //Transform the resized image back into an ImageIcon
-            oIcon = new ImageIcon(oIconResized2); //Transform the resized image back into an ImageIcon
-        } else {
-            Image xIconResized2 = xIconResized.getScaledInstance(50, 50, java.awt.Image.SCALE_SMOOTH);
-            Image oIconResized2 = oIconResized.getScaledInstance(50, 50, java.awt.Image.SCALE_SMOOTH);
-            xIcon = new ImageIcon(xIconResized2); //Transform the resized image back into an ImageIcon
-            oIcon = new ImageIcon(oIconResized2); //Transform the resized image back into an ImageIcon
-        }
-
-        // Create a new panel to hold the board buttons
-        buttonPanel = new JPanel();
-
-        // Set the buttonPanel to a grid layout
-        buttonPanel.setLayout(new GridLayout(boardSize, boardSize, 5, 5));
-        buttonPanel.setBackground(Color.black);
-
-        // Undo button creation
-        undoButton = new JButton("UNDO");
-        undoButton.setBackground(Color.white);
-        undoButton.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        // Action listener for undo button (calls the undo method in SuperTicTacToeGame)
-        undoButton.addActionListener(new ActionListener() {
-            public void actionPerformed(ActionEvent e) {
-                try {
-                    game.undo();
-                } catch (Exception exc) {
-                    JOptionPane.showMessageDialog(null, exc.getMessage(), "ERROR", JOptionPane.ERROR_MESSAGE);
-                }
-
-                // Call display board to refresh board and update the icons
-                displayBoard();
-            }
-        });
-
-        // Quit button creation
-        quitButton = new JButton("QUIT");
-        quitButton.setBackground(new Color(250, 127, 127));
-        quitButton.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        // Action listener for quit button (will close application after confirmation)
-        quitButton.addActionListener(new ActionListener() {
-            public void actionPerformed(ActionEvent e) {
-                int reply = JOptionPane.showConfirmDialog(null, "Are you sure you want to quit?", "Quit Super-Tic-Tac-Toe?", JOptionPane.YES_NO_OPTION);
-                if (reply == JOptionPane.YES_OPTION) {
-                    System.exit(0);
-                }
-            }
-        });
-
-        // Reset button creation
-        JButton resetButton = new JButton("RESET");
-        resetButton.setBackground(Color.white);
-        resetButton.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        // Action listener for reset button (calls reset method in STTTG to clear board)
-        resetButton.addActionListener(new ActionListener() {
-            public void actionPerformed(ActionEvent e) {
-                // Call helper method to reset game
-                resetGame();
-                // Call display board to refresh board and update the icons
-                displayBoard();
-            }
-        });
-
-        // Play computer button creation
-        JButton playCompButton = new JButton("PLAY COMPUTER");
-        playCompButton.setBackground(Color.white);
-        playCompButton.setAlignmentX(Component.CENTER_ALIGNMENT);
-        playCompButton.setMargin(new Insets(3, 3, 3, 3));
-
-        // Action listener for play computer button (calls the play computer method in STTTG)
-        playCompButton.addActionListener(new ActionListener() {
-            public void actionPerformed(ActionEvent e) {
-                game.enableComputer();
-                // Call display board to refresh board and update the icons
-                displayBoard();
-            }
-        });
-
-        // Title JLabel creation
-        JLabel Title = new JLabel("<html><font size = '18' color = #FF0033> Super </font> <font size = '18' color = #3366FF>Tic-</font><font size = '18' color = #FF0033>Tac-</font><font size = '18' color = #3366FF>Toe</html>");
-        Title.setFont(new Font("Verdana", Font.BOLD, 18));
-        Title.setHorizontalAlignment(SwingConstants.CENTER);
-        Title.setBounds(15, 45, 400, 700);
-
-        // Win count JLabel creation
-        int xWinCount = 0;
-        int oWinCount = 0;
-        JLabel winCount = new JLabel("WIN COUNT");
-        winCount.setFont(new Font("Verdana", Font.BOLD, 12));
-        winCount.setAlignmentX(Component.CENTER_ALIGNMENT);
-        xWinCounter = new JLabel("X: " + xWinCount);
-        oWinCounter = new JLabel("O: " + oWinCount);
-
-        // Create panel to hold X and O counter so they are side-by-side
-        JPanel Counters = new JPanel();
-        Counters.add(xWinCounter);
-        Counters.add(oWinCounter);
-        Counters.setMaximumSize(new Dimension(100, 30));
-
-        // Side panel creation to hold win count and other buttons
-        JPanel sidePanel = new JPanel();
-        sidePanel.setLayout(new BoxLayout(sidePanel, BoxLayout.Y_AXIS));
-        sidePanel.add(Box.createRigidArea(new Dimension(10, 10))); // Vertical empty space holder
-        sidePanel.add(winCount);
-        sidePanel.add(Counters);
-        sidePanel.add(undoButton);
-        sidePanel.add(Box.createRigidArea(new Dimension(10, 10))); // Vertical empty space between buttons
-        sidePanel.add(resetButton);
-        sidePanel.add(Box.createRigidArea(new Dimension(10, 10))); // Vertical empty space between buttons
-        sidePanel.add(playCompButton);
-        sidePanel.add(Box.createRigidArea(new Dimension(10, 10))); // Vertical empty space between buttons
-        sidePanel.add(quitButton);
-
-        // Create a main panel to hold the tic-tac-toe board (buttonPanel) as well as the side panel
-        JPanel mainPanel = new JPanel();
-        mainPanel.setLayout(new BorderLayout());
-        mainPanel.add(buttonPanel, BorderLayout.CENTER);
-        mainPanel.add(Title, BorderLayout.NORTH);
-        mainPanel.add(sidePanel, BorderLayout.EAST);
-        this.add(mainPanel); // Add the main panel to the main GUI frame
-
-        // Initialize array to board size
-        jButtonBoard = new JButton[boardSize][boardSize];
-
-        // Based off the book example
-        // Create a ButtonListener to listen to all the separate jButtonBoard buttons
-        ButtonListener listener = new ButtonListener();
-
-        // Create the buttons and give action listeners to each
-        for (int row = 0; row < boardSize; row++) {
-            for (int col = 0; col < boardSize; col++) {
-                jButtonBoard[row][col] = new JButton("", emptyIcon);
-                // Resize the buttons depending on how many there are (so they will fit nicely, and so the image icons will
-                // be the right size on the buttons.)
-                if (boardSize < 7) {
-                    jButtonBoard[row][col].setPreferredSize(new Dimension(100, 100));
-                } else if (boardSize < 10) {
-                    jButtonBoard[row][col].setPreferredSize(new Dimension(80, 80));
-                } else if (boardSize < 13) {
-                    jButtonBoard[row][col].setPreferredSize(new Dimension(55, 55));
-                } else {
-                    jButtonBoard[row][col].setPreferredSize(new Dimension(50, 50));
-                }
-
-                // Add action listeners to the buttons
-                jButtonBoard[row][col].addActionListener(listener);
-
-                // Remove the button's borders (to look cleaner)
-                jButtonBoard[row][col].setBorderPainted(false);
-
-                // Add the buttons to the buttonPanel
-                buttonPanel.add(jButtonBoard[row][col]);
-            }
-        }
-    } // End of Panel method
-
-    /**
-     * Resets the board while showing message about computer player being disabled.
-     * Helper method for code reuse.
-     */
-    private void resetGame() {
-        if (game.isComputerPlayerEnabled()) {
-            JOptionPane.showMessageDialog(null, "Computer player has been disabled.");
-        }
-
-        game.reset();
-    }
-
-    /************************************************************/
-    /* displayBoard Method */
-
-    /**
-     * Displays the GUI board's icons based on the state of the game board.
-     */
-    private void displayBoard() {
-        // This method will first call the getBoard() method within the game class to get the TicTacToe board.
-        // Then, it will use a nested loop to set the icon to the JButtons within the GUI. Example in project outline.
-
-        iBoard = game.getBoard();
-
-        for (int row = 0; row < boardSize; row++) {
-            for (int col = 0; col < boardSize; col++) {
-                Cell currentCell = iBoard[row][col];
-
-                if (currentCell == Cell.O) {
-                    jButtonBoard[row][col].setIcon(oIcon);
-                } else if (currentCell == Cell.X) {
-                    jButtonBoard[row][col].setIcon(xIcon);
-                } else {
-                    jButtonBoard[row][col].setIcon(emptyIcon);
-                }
-            }
-        }
-    } // End of displayBoard method
-
-    /* Private inner Class */
-
-    /**
-     * Private inner class that Listens for Button events, and does actions based on the events.
-     *
-     * @version 1.0
-     * @authors Kara Byers, Darren Fife, Breanna Zinky
-     * @date 10/18/22
-     */
-    private class ButtonListener implements ActionListener {
-
-        /************************************************************/
-        /* actionPerformed Method */
-
-        /**
-         * Processes events to run actions based on the button pressed.
-         *
-         * @param e the event to be processed
-         */
-        @Override
-        public void actionPerformed(ActionEvent e) {
-            // This method will call the different methods in the TicTacToeGame class using the game object.
-            // Ex. pressing a specific button will call the related method.
-            // Code example in project outline.
-            // Determine which button was selected.
-            for (int row = 0; row < boardSize; row++) {
-                for (int col = 0; col < boardSize; col++) {
-                    if (jButtonBoard[row][col] == e.getSource())
-                    // tell the game which button was selected.
-                    {
-                        game.playerSelect(row, col);
-                    }
-                }
-            }
-
-            // Display the board using the private method describe above.
-            displayBoard();
-
-            // Determine if there is a winner by asking the game object
-            if (game.getGameStatus() == GameStatus.O_WON) {
-                JOptionPane.showMessageDialog(null, "O won and X lost! The game will reset.");
-                // Call helper method to reset game
-                resetGame();
-                // Call display board to refresh board and update the icons
-                displayBoard();
-                oWinCount++; // Add to O win counter
-                oWinCounter.setText("O: " + oWinCount); // Update label holding O win count
-            } else if (game.getGameStatus() == GameStatus.X_WON) {
-                JOptionPane.showMessageDialog(null, "X won and O lost! The game will reset.");
-                // Call helper method to reset game
-                resetGame();
-                // Call display board to refresh board and update the icons
-                displayBoard();
-                xWinCount++; // Add to X win counter
-                xWinCounter.setText("X: " + xWinCount); // Update label holding X win count
-            } else if (game.getGameStatus() == GameStatus.CATS) {
-                JOptionPane.showMessageDialog(null, "Tie Game. The game will reset.");
-                // Call helper method to reset game
-                resetGame();
-                // Call display board to refresh board and update the icons
-                displayBoard();
-            }
-        } // End of actionPerformed method
-    } // End of class ButtonListener
-} // End of class SuperTicTacToePanel
-
+package Project2;
+
+/**
+ * SuperTicTacToePanel is the gui panel that houses the model part of the game that is adaptive to user input.
+ * The panel listens to the game's moves and only changes the buttons of the cells a move, undo or reset changed.
+ * Boards bigger than MAX_BUTTON_BOARD_SIZE are drawn by one BoardComponent instead of a grid of buttons.
+ * The computer's moves are chosen on a background thread so the window keeps responding, and clicks on the board and
+ * the buttons that change the game are ignored until the move is made.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/22
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.awt.*;
+import javax.swing.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/************************************************************/
+/* Class */
+public class SuperTicTacToePanel extends JPanel {
+    /************************************************************/
+    /* Variables */
+    private SuperTicTacToeGame game; // Main game instance variable.
+    private int boardSize; // Size of the board
+    private int numToWin; // Number of spaces in a row needed to win.
+    private Cell startingPlayer; // Which symbol is going first.
+    private int xWinCount; // Counter for how many times X has won (to be displayed on GUI)
+    private int oWinCount; // Counter for how many times O has won (to be displayed on GUI)
+
+    private JButton[][] jButtonBoard; // 2D array representing the GUI board the user sees
+    private Cell[][] iBoard; // 2D array of Cell received from the game object representing the TicTacToe board
+    private JButton quitButton; // Button allows you to quit the game
+    private JButton undoButton; // Button allows you to undo to the previous move
+    private JButton resetButton; // Button allows you to clear the board
+    private JButton playCompButton; // Button allows you to play against the computer
+    private ImageIcon xIcon; // x icon shown on the GUI board
+    private ImageIcon oIcon; // o icon shown on the GUI board
+    private ImageIcon emptyIcon; // Empty (free space) icon shown on the GUI board
+    private JLabel xWinCounter; // Label to hold xWinCount
+    private JLabel oWinCounter; // Label to hold oWinCount
+
+    private JPanel buttonPanel; // Panel to hold the jButtonBoard buttons
+    private BoardComponent paintedBoard; // Board painted as one component, used instead of the buttons if not null
+    private SwingWorker<Integer, Void> computerTurn; // Computer's move being chosen in the background, or null
+
+    // largest board drawn as a grid of buttons by default, bigger boards are painted as one component
+    public static final int MAX_BUTTON_BOARD_SIZE = 14;
+
+    /************************************************************/
+    /* Constructor */
+
+    /**
+     * Parameterized Constructor
+     * Super TicTacToe constructor that generates a board based on user input.
+     *
+     * @param game           Main game instance
+     * @param boardSize      Size of board being created.
+     * @param numToWin       Number of spaces in a row needed to win.
+     * @param startingPlayer Which symbol is going first.
+     */
+    public SuperTicTacToePanel(SuperTicTacToeGame game, int boardSize, int numToWin, Cell startingPlayer) {
+        this(game, boardSize, numToWin, startingPlayer, null);
+    }
+
+    /**
+     * Parameterized Constructor
+     * Super TicTacToe constructor that generates a board based on user input, with the win counters starting from
+     * the totals saved in a journal.
+     *
+     * @param game           Main game instance
+     * @param boardSize      Size of board being created.
+     * @param numToWin       Number of spaces in a row needed to win.
+     * @param startingPlayer Which symbol is going first.
+     * @param journal        Journal the game is saved in, or null to start the win counters at 0.
+     */
+    public SuperTicTacToePanel(SuperTicTacToeGame game, int boardSize, int numToWin, Cell startingPlayer,
+                               GameJournal journal) {
+        this(game, boardSize, numToWin, startingPlayer, journal, boardSize > MAX_BUTTON_BOARD_SIZE);
+    }
+
+    /**
+     * Parameterized Constructor
+     * Super TicTacToe constructor that generates a board based on user input, drawn either as a grid of buttons or
+     * as one painted component.
+     *
+     * @param game            Main game instance
+     * @param boardSize       Size of board being created.
+     * @param numToWin        Number of spaces in a row needed to win.
+     * @param startingPlayer  Which symbol is going first.
+     * @param journal         Journal the game is saved in, or null to start the win counters at 0.
+     * @param usePaintedBoard True to draw the board as one BoardComponent, false for a grid of buttons.
+     */
+    public SuperTicTacToePanel(SuperTicTacToeGame game, int boardSize, int numToWin, Cell startingPlayer,
+                               GameJournal journal, boolean usePaintedBoard) {
+        // Set the parameters
+        this.game = game;
+        this.boardSize = boardSize;
+        this.numToWin = numToWin;
+        this.startingPlayer = startingPlayer;
+
+        // Undo button creation
+        undoButton = new JButton("UNDO");
+        undoButton.setBackground(Color.white);
+        undoButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        // Action listener for undo button (calls the undo method in SuperTicTacToeGame)
+        undoButton.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                try {
+                    game.undo();
+                } catch (Exception exc) {
+                    JOptionPane.showMessageDialog(null, exc.getMessage(), "ERROR", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        });
+
+        // Quit button creation
+        quitButton = new JButton("QUIT");
+        quitButton.setBackground(new Color(250, 127, 127));
+        quitButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        // Action listener for quit button (will close application after confirmation)
+        quitButton.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                int reply = JOptionPane.showConfirmDialog(null, "Are you sure you want to quit?", "Quit Super-Tic-Tac-Toe?", JOptionPane.YES_NO_OPTION);
+                if (reply == JOptionPane.YES_OPTION) {
+                    System.exit(0);
+                }
+            }
+        });
+
+        // Reset button creation
+        resetButton = new JButton("RESET");
+        resetButton.setBackground(Color.white);
+        resetButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        // Action listener for reset button (calls reset method in STTTG to clear board)
+        resetButton.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                // Call helper method to reset game
+                resetGame();
+            }
+        });
+
+        // Play computer button creation
+        playCompButton = new JButton("PLAY COMPUTER");
+        playCompButton.setBackground(Color.white);
+        playCompButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+        playCompButton.setMargin(new Insets(3, 3, 3, 3));
+
+        // Action listener for play computer button (enables the computer in STTTG, then plays its turn if it is next)
+        playCompButton.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                game.enableComputer(false);
+                playComputerTurn();
+            }
+        });
+
+        // Title JLabel creation
+        JLabel Title = new JLabel("<html><font size = '18' color = #FF0033> Super </font> <font size = '18' color = #3366FF>Tic-</font><font size = '18' color = #FF0033>Tac-</font><font size = '18' color = #3366FF>Toe</html>");
+        Title.setFont(new Font("Verdana", Font.BOLD, 18));
+        Title.setHorizontalAlignment(SwingConstants.CENTER);
+        Title.setBounds(15, 45, 400, 700);
+
+        // Win count JLabel creation, continuing from the saved totals if there are any
+        if (journal != null) {
+            xWinCount = (int) journal.getXWins();
+            oWinCount = (int) journal.getOWins();
+        }
+        JLabel winCount = new JLabel("WIN COUNT");
+        winCount.setFont(new Font("Verdana", Font.BOLD, 12));
+        winCount.setAlignmentX(Component.CENTER_ALIGNMENT);
+        xWinCounter = new JLabel("X: " + xWinCount);
+        oWinCounter = new JLabel("O: " + oWinCount);
+
+        // Create panel to hold X and O counter so they are side-by-side
+        JPanel Counters = new JPanel();
+        Counters.add(xWinCounter);
+        Counters.add(oWinCounter);
+        Counters.setMaximumSize(new Dimension(100, 30));
+
+        // Side panel creation to hold win count and other buttons
+        JPanel sidePanel = new JPanel();
+        sidePanel.setLayout(new BoxLayout(sidePanel, BoxLayout.Y_AXIS));
+        sidePanel.add(Box.createRigidArea(new Dimension(10, 10))); // Vertical empty space holder
+        sidePanel.add(winCount);
+        sidePanel.add(Counters);
+        sidePanel.add(undoButton);
+        sidePanel.add(Box.createRigidArea(new Dimension(10, 10))); // Vertical empty space between buttons
+        sidePanel.add(resetButton);
+        sidePanel.add(Box.createRigidArea(new Dimension(10, 10))); // Vertical empty space between buttons
+        sidePanel.add(playCompButton);
+        sidePanel.add(Box.createRigidArea(new Dimension(10, 10))); // Vertical empty space between buttons
+        sidePanel.add(quitButton);
+
+        // Large boards are painted as one component, smaller ones are a grid of buttons
+        JComponent board;
+        if (usePaintedBoard) {
+            paintedBoard = new BoardComponent(game);
+            paintedBoard.setCellListener(new BoardComponent.CellListener() {
+                public void cellClicked(int row, int col) {
+                    selectCell(row, col);
+                }
+            });
+            board = paintedBoard;
+
+            // Boards too big to fit even at the smallest cell size scroll, starting at the centre of the board
+            Dimension boardPixels = paintedBoard.getPreferredSize();
+            if (boardPixels.width > BoardComponent.MAX_BOARD_PIXELS) {
+                JScrollPane scrollPane = new JScrollPane(paintedBoard);
+                scrollPane.setPreferredSize(
+                        new Dimension(BoardComponent.MAX_BOARD_PIXELS, BoardComponent.MAX_BOARD_PIXELS));
+                int cellPixels = BoardComponent.getPreferredCellPixels(boardSize);
+                scrollPane.getVerticalScrollBar().setUnitIncrement(cellPixels);
+                scrollPane.getHorizontalScrollBar().setUnitIncrement(cellPixels);
+                int offset = (boardPixels.width - BoardComponent.MAX_BOARD_PIXELS) / 2;
+                scrollPane.getViewport().setViewPosition(new Point(offset, offset));
+                board = scrollPane;
+            }
+        } else {
+            board = createButtonBoard();
+        }
+
+        // Create a main panel to hold the tic-tac-toe board as well as the side panel
+        JPanel mainPanel = new JPanel();
+        mainPanel.setLayout(new BorderLayout());
+        mainPanel.add(board, BorderLayout.CENTER);
+        mainPanel.add(Title, BorderLayout.NORTH);
+        mainPanel.add(sidePanel, BorderLayout.EAST);
+        this.add(mainPanel); // Add the main panel to the main GUI frame
+
+        // A resumed game saved while the computer was choosing its move carries on with that move once shown
+        SwingUtilities.invokeLater(this::playComputerTurn);
+    } // End of Panel method
+
+    /**
+     * Private helper method.
+     * Creates the grid of buttons for the board, with icons sized to fit the buttons.
+     *
+     * @return panel holding the buttons
+     */
+    private JPanel createButtonBoard() {
+        // Show blank cells until the icons are loaded in the background, so the board appears at once
+        int cellPixels = BoardComponent.getPreferredCellPixels(boardSize);
+        emptyIcon = new ImageIcon(new BufferedImage(cellPixels, cellPixels, BufferedImage.TYPE_INT_ARGB));
+        xIcon = emptyIcon;
+        oIcon = emptyIcon;
+        loadIcons(cellPixels);
+
+        // Create a new panel to hold the board buttons
+        buttonPanel = new JPanel();
+
+        // Set the buttonPanel to a grid layout
+        buttonPanel.setLayout(new GridLayout(boardSize, boardSize, 5, 5));
+        buttonPanel.setBackground(Color.black);
+
+        // Initialize array to board size
+        jButtonBoard = new JButton[boardSize][boardSize];
+
+        // Create the buttons and give action listeners to each
+        for (int row = 0; row < boardSize; row++) {
+            for (int col = 0; col < boardSize; col++) {
+                jButtonBoard[row][col] = new JButton("", emptyIcon);
+                // Resize the buttons depending on how many there are (so they will fit nicely, and so the image icons will
+                // be the right size on the buttons.)
+                jButtonBoard[row][col].setPreferredSize(new Dimension(cellPixels, cellPixels));
+
+                // Give each button a listener that knows its cell, so a click needs no search for the button
+                jButtonBoard[row][col].addActionListener(new ButtonListener(row, col));
+
+                // Remove the button's borders (to look cleaner)
+                jButtonBoard[row][col].setBorderPainted(false);
+
+                // Add the buttons to the buttonPanel
+                buttonPanel.add(jButtonBoard[row][col]);
+            }
+        }
+
+        // Show the moves already made in a resumed game, after that only the cells the game changes are updated
+        displayBoard();
+        game.addGameListener(new BoardListener());
+        return buttonPanel;
+    }
+
+    /**
+     * Private helper method.
+     * Loads the icons scaled to the buttons' size in the background, then shows them on the board. The icons are
+     * kept by the shared IconCache, so a board of the same size made later gets them at once.
+     */
+    private void loadIcons(int cellPixels) {
+        IconCache icons = IconCache.getShared();
+        CompletableFuture<ImageIcon> x = icons.load(IconCache.X_IMAGE, cellPixels);
+        CompletableFuture<ImageIcon> o = icons.load(IconCache.O_IMAGE, cellPixels);
+        CompletableFuture<ImageIcon> empty = icons.load(IconCache.EMPTY_IMAGE, cellPixels);
+
+        CompletableFuture.allOf(x, o, empty).whenComplete((done, failure) -> SwingUtilities.invokeLater(() -> {
+            if (failure != null) {
+                JOptionPane.showMessageDialog(null, "The board's images cannot be loaded: " + failure.getMessage(),
+                        "WARNING", JOptionPane.WARNING_MESSAGE);
+                return;
+            }
+            xIcon = x.join();
+            oIcon = o.join();
+            emptyIcon = empty.join();
+            displayBoard();
+        }));
+    }
+
+    /**
+     * Private helper method.
+     * Makes the player's move in a clicked cell, then starts the computer's reply if it is playing. Clicks are ignored
+     * while the computer is choosing its move.
+     *
+     * @param row row of the cell clicked
+     * @param col column of the cell clicked
+     */
+    private void selectCell(int row, int col) {
+        if (computerTurn != null) {
+            return;
+        }
+
+        // Tell the game which cell was selected
+        game.select(row, col);
+
+        // Determine if there is a winner by asking the game object once
+        checkForWinner(game.getGameStatus());
+        playComputerTurn();
+    }
+
+    /**
+     * Private helper method.
+     * Chooses the computer's move on a background thread if it is the computer's turn, so the window keeps painting
+     * while it searches. The move is made and checked for a winner back on the event dispatch thread.
+     */
+    private void playComputerTurn() {
+        if (computerTurn != null || !game.isComputersTurn()) {
+            return;
+        }
+
+        setInputEnabled(false);
+        computerTurn = new SwingWorker<Integer, Void>() {
+            @Override
+            protected Integer doInBackground() {
+                return game.chooseComputerMove();
+            }
+
+            @Override
+            protected void done() {
+                computerTurn = null;
+                setInputEnabled(true);
+
+                int move;
+                try {
+                    move = get();
+                } catch (InterruptedException | ExecutionException e) {
+                    Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+                    JOptionPane.showMessageDialog(null, "The computer player failed: " + cause.getMessage(),
+                            "ERROR", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+
+                if (move > -1) {
+                    game.select(move / boardSize, move % boardSize);
+                    checkForWinner(game.getGameStatus());
+                }
+            }
+        };
+        computerTurn.execute();
+    }
+
+    /**
+     * Private helper method.
+     * Turns on or off the buttons that change the game, and shows the wait cursor while they are off.
+     */
+    private void setInputEnabled(boolean enabled) {
+        undoButton.setEnabled(enabled);
+        resetButton.setEnabled(enabled);
+        playCompButton.setEnabled(enabled);
+        setCursor(enabled ? null : Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+    }
+
+    /**
+     * Resets the board while showing message about computer player being disabled.
+     * Helper method for code reuse.
+     */
+    private void resetGame() {
+        if (game.isComputerPlayerEnabled()) {
+            JOptionPane.showMessageDialog(null, "Computer player has been disabled.");
+        }
+
+        game.reset();
+    }
+
+    /**
+     * Private helper method.
+     * Shows the result and resets the game if the last move ended it, counting the win.
+     *
+     * @param status status of the game after the move, read once by the caller
+     */
+    private void checkForWinner(GameStatus status) {
+        if (status == GameStatus.O_WON) {
+            JOptionPane.showMessageDialog(null, "O won and X lost! The game will reset.");
+            // Call helper method to reset game
+            resetGame();
+            oWinCount++; // Add to O win counter
+            oWinCounter.setText("O: " + oWinCount); // Update label holding O win count
+        } else if (status == GameStatus.X_WON) {
+            JOptionPane.showMessageDialog(null, "X won and O lost! The game will reset.");
+            // Call helper method to reset game
+            resetGame();
+            xWinCount++; // Add to X win counter
+            xWinCounter.setText("X: " + xWinCount); // Update label holding X win count
+        } else if (status == GameStatus.CATS) {
+            JOptionPane.showMessageDialog(null, "Tie Game. The game will reset.");
+            // Call helper method to reset game
+            resetGame();
+        }
+    }
+
+    /************************************************************/
+    /* displayBoard Method */
+
+    /**
+     * Displays the GUI board's icons based on the state of the game board.
+     */
+    private void displayBoard() {
+        // This method will first call the getBoard() method within the game class to get the TicTacToe board.
+        // Then, it will use a nested loop to set the icon to the JButtons within the GUI. Example in project outline.
+
+        iBoard = game.getBoard();
+
+        for (int row = 0; row < boardSize; row++) {
+            for (int col = 0; col < boardSize; col++) {
+                jButtonBoard[row][col].setIcon(iconOf(iBoard[row][col]));
+            }
+        }
+    } // End of displayBoard method
+
+    /**
+     * Private helper method.
+     * Gets the icon shown for a cell.
+     */
+    private ImageIcon iconOf(Cell cell) {
+        if (cell == Cell.O) {
+            return oIcon;
+        } else if (cell == Cell.X) {
+            return xIcon;
+        }
+        return emptyIcon;
+    }
+
+    /* Private inner Class */
+
+    /**
+     * Private inner class that Listens for Button events, and does actions based on the events.
+     * Each button has its own listener holding the button's cell.
+     *
+     * @version 1.0
+     * @authors Kara Byers, Darren Fife, Breanna Zinky
+     * @date 10/18/22
+     */
+    private class ButtonListener implements ActionListener {
+        private final int row; // Row of the button listened to
+        private final int col; // Column of the button listened to
+
+        /**
+         * Creates a listener for the button of one cell.
+         *
+         * @param row row of the button's cell
+         * @param col column of the button's cell
+         */
+        ButtonListener(int row, int col) {
+            this.row = row;
+            this.col = col;
+        }
+
+        /************************************************************/
+        /* actionPerformed Method */
+
+        /**
+         * Processes events to run actions based on the button pressed.
+         *
+         * @param e the event to be processed
+         */
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            // Make the move in the button's cell, and let the computer reply
+            selectCell(row, col);
+        } // End of actionPerformed method
+    } // End of class ButtonListener
+
+    /**
+     * Private inner class that updates the buttons of the cells the game changes, so a move and the computer's reply
+     * or an undo only change one to three buttons instead of the whole board.
+     *
+     * @version 1.0
+     * @authors Kara Byers, Darren Fife, Breanna Zinky
+     * @date 10/18/26
+     */
+    private class BoardListener implements GameListener {
+        /**
+         * Shows the stone placed by a move.
+         *
+         * @param game game the move was made in
+         * @param move move encoded as row * size + col
+         */
+        @Override
+        public void moveMade(SuperTicTacToeGame game, int move) {
+            jButtonBoard[move / boardSize][move % boardSize].setIcon(iconOf(game.getCell(move / boardSize,
+                    move % boardSize)));
+        }
+
+        /**
+         * Clears the cell of a move taken back.
+         *
+         * @param game game the move was taken back in
+         * @param move move encoded as row * size + col
+         */
+        @Override
+        public void moveUndone(SuperTicTacToeGame game, int move) {
+            jButtonBoard[move / boardSize][move % boardSize].setIcon(emptyIcon);
+        }
+
+        /**
+         * Clears the cells that had stones. Swing collects the repaints of the buttons changed in one event and
+         * paints them together.
+         *
+         * @param game game that was reset
+         */
+        @Override
+        public void gameReset(SuperTicTacToeGame game) {
+            for (int row = 0; row < boardSize; row++) {
+                for (int col = 0; col < boardSize; col++) {
+                    if (jButtonBoard[row][col].getIcon() != emptyIcon) {
+                        jButtonBoard[row][col].setIcon(emptyIcon);
+                    }
+                }
+            }
+        }
+    } // End of class BoardListener
+} // End of class SuperTicTacToePanel
+
@@ -0,0 +1,106 @@
+package Project2;
+
+/**
+ * Symmetry holds the 8 ways a square board can be turned or flipped onto itself: the identity, the three rotations
+ * and the four reflections. Positions that are turns or reflections of each other play the same, so a table keyed by
+ * a canonical form of each position needs an eighth of the room and is hit by every one of them.
+ *
+ * Each transform is kept as a table of where every cell goes, so moving a move between a position and its canonical
+ * form is a single array lookup. A Position keeps the hash of all 8 transforms of its stones up to date as moves are
+ * made, and its canonical form is the transform with the smallest hash.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Class */
+public class Symmetry {
+    /************************************************************/
+    /* Variables */
+    // number of transforms of a square board
+    public static final int COUNT = 8;
+    // transform that leaves every cell where it is
+    public static final int IDENTITY = 0;
+
+    // size of the board
+    private final int size;
+    // cell each cell is moved to by each transform, indexed by transform * cells + cell
+    private final int[] forward;
+    // cell each cell is moved back from by each transform
+    private final int[] inverse;
+
+    /************************************************************/
+    /* Constructor */
+
+    /**
+     * Creates the transforms for a board size.
+     *
+     * @param size size of the square board
+     */
+    public Symmetry(int size) {
+        this.size = size;
+        int numCells = size * size;
+        forward = new int[COUNT * numCells];
+        inverse = new int[COUNT * numCells];
+
+        int last = size - 1;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int cell = row * size + col;
+                // identity, rotations by 90, 180 and 270 degrees, then the mirror images of each
+                int[] targets = {
+                        row * size + col,
+                        col * size + (last - row),
+                        (last - row) * size + (last - col),
+                        (last - col) * size + row,
+                        row * size + (last - col),
+                        (last - row) * size + col,
+                        col * size + row,
+                        (last - col) * size + (last - row)
+                };
+
+                for (int transform = 0; transform < COUNT; transform++) {
+                    forward[transform * numCells + cell] = targets[transform];
+                    inverse[transform * numCells + targets[transform]] = cell;
+                }
+            }
+        }
+    }
+
+    /************************************************************/
+    /* Accessors */
+
+    /**
+     * Gets the cell a move lands on when the board is transformed.
+     *
+     * @param transform transform from 0 to COUNT - 1
+     * @param move      cell encoded as row * size + col
+     * @return the transformed cell
+     */
+    public int apply(int transform, int move) {
+        return forward[transform * size * size + move];
+    }
+
+    /**
+     * Gets the cell that a transform moves onto a cell, undoing apply. Used to turn a move stored for a canonical
+     * position back into a move on the real board.
+     *
+     * @param transform transform from 0 to COUNT - 1
+     * @param move      cell of the transformed board encoded as row * size + col
+     * @return the cell on the untransformed board
+     */
+    public int invert(int transform, int move) {
+        return inverse[transform * size * size + move];
+    }
+
+    /**
+     * Gets the size of the board the transforms are for.
+     *
+     * @return size of the square board
+     */
+    public int getSize() {
+        return size;
+    }
+} // End of class Symmetry
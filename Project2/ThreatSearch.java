@@ -0,0 +1,593 @@
+package Project2;
+
+/**
+ * ThreatSearch looks for a forced win made only of threats, before the general search runs. A threat is a move the
+ * opponent has to answer: a four (numToWin - 1 in a window with the last cell empty) has to be blocked on that cell,
+ * and a three (numToWin - 2 in an otherwise empty window) has to be answered before it becomes a double four. Since
+ * the opponent's replies to threats are forced, a win many moves deep can be found by only looking at a few moves.
+ *
+ * The search only reports a win it can prove, so it is cautious about the opponent's counter threats: it gives up on
+ * a line when the opponent could win at once, and only plays threes when the opponent has no four to answer with.
+ *
+ * The search does not make moves on the position. It copies the position's window counts once and keeps them itself,
+ * along with the windows that hold a four, a three or a winning line for the attacker, so a move only updates the
+ * windows through its cell and finding the threats never scans the board. With a time budget the search gives up
+ * when the time runs out, so it never holds up the move it is run before.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.util.Arrays;
+
+/************************************************************/
+/* Class */
+public class ThreatSearch {
+    /************************************************************/
+    /* Variables */
+    // default number of threats the attacker may make in a row
+    public static final int DEFAULT_MAX_THREATS = 8;
+    // default number of positions the search may visit before giving up
+    public static final int DEFAULT_NODE_LIMIT = 5000;
+
+    // row and column steps for the row, column, NW-SE diagonal and NE-SW diagonal directions
+    private static final int[] ROW_STEPS = {0, 1, 1, 1};
+    private static final int[] COL_STEPS = {1, 0, 1, -1};
+    // how often, in nodes, to check the deadline (one less than a power of two)
+    private static final int DEADLINE_CHECK_MASK = 63;
+
+    // number of threats the attacker may make in a row
+    private final int maxThreats;
+    // number of positions the search may visit before giving up
+    private final int nodeLimit;
+    // time allowed per search in nanoseconds, or 0 for no limit
+    private long timeBudgetNanos;
+
+    // size of the board being searched and the number in a row needed to win on it
+    private int size;
+    private int numToWin;
+
+    // layout of the windows of the position being searched, whose counts are kept below instead
+    private LineWindows windows;
+    // cells with a stone on them, in the search's copy of the position
+    private boolean[] occupied = new boolean[0];
+    // number of the attacker's and the defender's stones in each window
+    private int[] attackerCounts = new int[0];
+    private int[] defenderCounts = new int[0];
+    // number of windows holding exactly c of the defender's stones and none of the attacker's
+    private int[] defenderOpen = new int[0];
+
+    // windows holding c of the attacker's stones and none of the defender's, for c from lowestTracked to
+    // numToWin - 1. openWindows[c - lowestTracked] holds openSizes[c - lowestTracked] windows, and openIndex is
+    // where each window is in its list, so a window moves between lists in constant time
+    private int lowestTracked;
+    private int[][] openWindows = new int[0][];
+    private int[] openSizes = new int[0];
+    private int[] openIndex = new int[0];
+
+    // threat moves found at each ply, and whether each is a four
+    private int[][] threatMoves = new int[0][];
+    private boolean[][] threatIsFour = new boolean[0][];
+    // defender replies to a three at each ply
+    private int[][] replyMoves = new int[0][];
+    // marks cells already added to a list, compared against stampValue so it never has to be cleared
+    private int[] cellStamps = new int[0];
+    private int stampValue;
+
+    // first and last winning cells found by countGains
+    private int firstGain;
+    private int lastGain;
+
+    // positions visited by the current search
+    private int nodeCount;
+    // System.nanoTime the current search has to stop by, or 0 for no limit
+    private long deadline;
+    // set when the deadline passes, the search then reports no win
+    private boolean aborted;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates a threat search with the default limits.
+     */
+    public ThreatSearch() {
+        this(DEFAULT_MAX_THREATS, DEFAULT_NODE_LIMIT);
+    }
+
+    /**
+     * Creates a threat search.
+     *
+     * @param maxThreats number of threats the attacker may make in a row, at least 1
+     * @param nodeLimit  number of positions the search may visit before giving up, at least 1
+     * @throws IllegalArgumentException if maxThreats or nodeLimit is less than 1
+     */
+    public ThreatSearch(int maxThreats, int nodeLimit) {
+        if (maxThreats < 1) {
+            throw new IllegalArgumentException("Max threats must be at least 1.");
+        }
+        if (nodeLimit < 1) {
+            throw new IllegalArgumentException("Node limit must be at least 1.");
+        }
+        this.maxThreats = maxThreats;
+        this.nodeLimit = nodeLimit;
+    }
+
+    /************************************************************/
+    /* Accessors and Mutators */
+
+    /**
+     * Gets the time allowed per search.
+     *
+     * @return time budget in milliseconds, or 0 for no limit
+     */
+    public long getTimeBudget() {
+        return timeBudgetNanos / 1000000;
+    }
+
+    /**
+     * Sets the time allowed per search. A search that runs out of time reports no win, like one that reaches the
+     * node limit.
+     *
+     * @param millis time budget in milliseconds, or 0 for no limit
+     * @throws IllegalArgumentException if millis is negative
+     */
+    public void setTimeBudget(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Time budget must not be negative.");
+        }
+        timeBudgetNanos = millis * 1000000;
+    }
+
+    /**
+     * Gets the number of positions visited by the last search.
+     *
+     * @return node count of the last search
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /************************************************************/
+    /* Search */
+
+    /**
+     * Finds the first move of a forced win for the attacker, made of fours and threes.
+     *
+     * @param position position to search, which is only read
+     * @param attacker Cell.X or Cell.O, the player to move
+     * @return first move of a forced win encoded as row * size + col, or -1 if none was found in the limits
+     */
+    public int findWinningMove(Position position, Cell attacker) {
+        // With fewer than 3 to win every move is already a four, which the general search handles well
+        if (position.getNumToWin() < 3 || position.isFull()) {
+            return -1;
+        }
+
+        nodeCount = 0;
+        aborted = false;
+        deadline = (timeBudgetNanos > 0) ? System.nanoTime() + timeBudgetNanos : 0;
+        prepare(position, attacker);
+
+        return attackerWins(0);
+    }
+
+    /**
+     * Private helper method.
+     * Searches for a forced win with the attacker to move.
+     *
+     * @param ply number of threats made so far
+     * @return the attacker's winning move, or -1 if none was found
+     */
+    private int attackerWins(int ply) {
+        // Check the clock every so often rather than on every node
+        if ((++nodeCount & DEADLINE_CHECK_MASK) == 0 && deadline != 0 && System.nanoTime() - deadline >= 0) {
+            aborted = true;
+        }
+
+        int win = findCompletingCell();
+        if (win >= 0) {
+            return win;
+        }
+        // Stop at the limits, and when the defender could just win instead of answering a threat
+        if (aborted || ply >= maxThreats || nodeCount > nodeLimit || defenderOpen[numToWin - 1] > 0) {
+            return -1;
+        }
+
+        // Threes may only be used when the defender has no four to answer them with
+        boolean allowThrees = defenderOpen[numToWin - 2] == 0;
+        int numThreats = generateThreats(ply, allowThrees);
+        int[] moves = threatMoves[ply];
+
+        for (int i = 0; i < numThreats; i++) {
+            int move = moves[i];
+            boolean won;
+
+            place(move, true);
+            if (threatIsFour[ply][i]) {
+                won = winsAfterFour(move, ply);
+            } else {
+                won = winsAfterThree(move, ply);
+            }
+            take(move, true);
+
+            if (won) {
+                return move;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Private helper method.
+     * Checks if the attacker wins after making a four. Two winning cells cannot both be blocked, and one winning cell
+     * forces the defender to block it.
+     *
+     * @param move the attacker's move just made
+     * @param ply  number of threats made so far
+     * @return true if the attacker wins
+     */
+    private boolean winsAfterFour(int move, int ply) {
+        // There were no winning cells before the move, so any there are now go through it
+        newStamp();
+        int numGains = countGains(move, numToWin - 1, stampValue);
+
+        if (numGains >= 2) {
+            return true;
+        }
+        if (numGains == 0) {
+            return false;
+        }
+        int gain = lastGain;
+
+        // The defender has to block the only winning cell
+        place(gain, false);
+        boolean won = !defenderWinsAt(gain) && attackerWins(ply + 1) >= 0;
+        take(gain, false);
+
+        return won;
+    }
+
+    /**
+     * Private helper method.
+     * Checks if the attacker wins after making a three, whatever the defender answers with. The only answers that
+     * stop the three are the cells of the double fours it threatens, any other answer lets one of them be played.
+     *
+     * @param move the attacker's move just made
+     * @param ply  number of threats made so far
+     * @return true if the attacker wins against every answer
+     */
+    private boolean winsAfterThree(int move, int ply) {
+        int numReplies = collectReplies(move, ply);
+        if (numReplies == 0) {
+            // Not a real threat
+            return false;
+        }
+
+        int[] replies = replyMoves[ply];
+        for (int i = 0; i < numReplies; i++) {
+            int reply = replies[i];
+
+            place(reply, false);
+            boolean won = !defenderWinsAt(reply) && attackerWins(ply + 1) >= 0;
+            take(reply, false);
+
+            if (!won) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /************************************************************/
+    /* Threat Detection */
+
+    /**
+     * Private helper method.
+     * Finds the moves that make a four or a three for the attacker. Fours are listed first. Only the windows kept in
+     * the attacker's open window lists are looked at.
+     *
+     * @param ply          ply to store the moves at
+     * @param allowThrees  if moves that only make a three are included
+     * @return number of threat moves found
+     */
+    private int generateThreats(int ply, boolean allowThrees) {
+        int[] moves = threatMoves[ply];
+        boolean[] isFour = threatIsFour[ply];
+        int count = 0;
+
+        newStamp();
+        // A window holding numToWin - 2 of the attacker's stones and nothing else becomes a four with either cell
+        int[] fours = openWindows[numToWin - 2 - lowestTracked];
+        for (int i = 0; i < openSizes[numToWin - 2 - lowestTracked]; i++) {
+            count = addEmptyCells(fours[i], moves, isFour, count, true);
+        }
+
+        if (allowThrees && numToWin >= 4) {
+            int[] threes = openWindows[numToWin - 3 - lowestTracked];
+            for (int i = 0; i < openSizes[numToWin - 3 - lowestTracked]; i++) {
+                count = addEmptyCells(threes[i], moves, isFour, count, false);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Private helper method.
+     * Collects the defender's answers to a three: every attacker move that would make a double four, and the cells
+     * that would complete it. Follow ups are checked from the window counts without being played.
+     *
+     * @param move the attacker's three just made
+     * @param ply  ply to store the replies at
+     * @return number of replies, 0 if the three threatens no double four
+     */
+    private int collectReplies(int move, int ply) {
+        int[] replies = replyMoves[ply];
+        int count = 0;
+
+        newStamp();
+        int replyStamp = stampValue;
+        int row = move / size;
+        int col = move % size;
+
+        // A follow up that makes a double four has to be on a line through the three
+        for (int direction = 0; direction < ROW_STEPS.length; direction++) {
+            for (int distance = -(numToWin - 1); distance <= numToWin - 1; distance++) {
+                int followRow = row + ROW_STEPS[direction] * distance;
+                int followCol = col + COL_STEPS[direction] * distance;
+                if (distance == 0 || followRow < 0 || followRow >= size || followCol < 0 || followCol >= size) {
+                    continue;
+                }
+
+                int follow = followRow * size + followCol;
+                if (occupied[follow]) {
+                    continue;
+                }
+
+                // The follow up makes a winning cell of every window through it that is one stone short of a four,
+                // and they are marked with a stamp of their own
+                newStamp();
+                int numGains = countGains(follow, numToWin - 2, stampValue);
+
+                if (numGains >= 2) {
+                    count = addReply(replies, count, follow, replyStamp);
+                    count = addReply(replies, count, firstGain, replyStamp);
+                    count = addReply(replies, count, lastGain, replyStamp);
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Private helper method.
+     * Adds a cell to the reply list if it is not already in it.
+     */
+    private int addReply(int[] replies, int count, int cell, int replyStamp) {
+        if (cellStamps[cell] != replyStamp) {
+            cellStamps[cell] = replyStamp;
+            replies[count++] = cell;
+        }
+        return count;
+    }
+
+    /**
+     * Private helper method.
+     * Counts the attacker's winning cells on the windows through a cell that hold the given number of the attacker's
+     * stones and none of the defender's, not counting the cell itself, stopping at two. The first and last ones found
+     * are left in firstGain and lastGain.
+     *
+     * @param cell   cell the windows go through
+     * @param stones number of the attacker's stones the windows hold, numToWin - 1 once the cell is played
+     * @param stamp  mark for the cells already counted
+     * @return number of different winning cells found, at most 2
+     */
+    private int countGains(int cell, int stones, int stamp) {
+        int numGains = 0;
+
+        for (int i = windows.getCellWindowStart(cell); i < windows.getCellWindowEnd(cell) && numGains < 2; i++) {
+            int window = windows.getCellWindow(i);
+            if (attackerCounts[window] == stones && defenderCounts[window] == 0) {
+                int gain = findEmptyCell(window, cell);
+                if (cellStamps[gain] != stamp) {
+                    cellStamps[gain] = stamp;
+                    if (numGains == 0) {
+                        firstGain = gain;
+                    }
+                    lastGain = gain;
+                    numGains++;
+                }
+            }
+        }
+        return numGains;
+    }
+
+    /**
+     * Private helper method.
+     * Finds a cell that would complete numToWin in a row for the attacker, from the attacker's open window lists.
+     *
+     * @return the completing cell, or -1 if there is none
+     */
+    private int findCompletingCell() {
+        if (openSizes[numToWin - 1 - lowestTracked] == 0) {
+            return -1;
+        }
+        return findEmptyCell(openWindows[numToWin - 1 - lowestTracked][0], -1);
+    }
+
+    /**
+     * Private helper method.
+     * Checks if the defender's stone on a cell completes numToWin in a row.
+     */
+    private boolean defenderWinsAt(int cell) {
+        for (int i = windows.getCellWindowStart(cell); i < windows.getCellWindowEnd(cell); i++) {
+            if (defenderCounts[windows.getCellWindow(i)] == numToWin) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Private helper method.
+     * Gets the first empty cell of a window other than skip, or -1 if there is none.
+     */
+    private int findEmptyCell(int window, int skip) {
+        for (int i = 0; i < numToWin; i++) {
+            int cell = windows.getWindowCell(window, i);
+            if (!occupied[cell] && cell != skip) {
+                return cell;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Private helper method.
+     * Adds the empty cells of a window to the threat list, skipping cells already in it.
+     */
+    private int addEmptyCells(int window, int[] moves, boolean[] isFour, int count, boolean four) {
+        for (int i = 0; i < numToWin; i++) {
+            int cell = windows.getWindowCell(window, i);
+            if (!occupied[cell] && cellStamps[cell] != stampValue) {
+                cellStamps[cell] = stampValue;
+                moves[count] = cell;
+                isFour[count] = four;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Private helper method.
+     * Starts a new mark for cellStamps, so earlier marks no longer count.
+     */
+    private void newStamp() {
+        stampValue++;
+    }
+
+    /************************************************************/
+    /* Window Counts */
+
+    /**
+     * Private helper method.
+     * Places a stone in the search's copy of the position, updating the windows through its cell.
+     */
+    private void place(int cell, boolean attackerStone) {
+        occupied[cell] = true;
+        int[] counts = attackerStone ? attackerCounts : defenderCounts;
+        for (int i = windows.getCellWindowStart(cell); i < windows.getCellWindowEnd(cell); i++) {
+            int window = windows.getCellWindow(i);
+            unlink(window);
+            counts[window]++;
+            link(window);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Takes a stone placed with place back off.
+     */
+    private void take(int cell, boolean attackerStone) {
+        occupied[cell] = false;
+        int[] counts = attackerStone ? attackerCounts : defenderCounts;
+        for (int i = windows.getCellWindowStart(cell); i < windows.getCellWindowEnd(cell); i++) {
+            int window = windows.getCellWindow(i);
+            unlink(window);
+            counts[window]--;
+            link(window);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Takes a window out of the open window totals and lists before its counts change.
+     */
+    private void unlink(int window) {
+        int attackerStones = attackerCounts[window];
+        int defenderStones = defenderCounts[window];
+
+        if (defenderStones == 0 && attackerStones >= lowestTracked && attackerStones < numToWin) {
+            int list = attackerStones - lowestTracked;
+            int[] open = openWindows[list];
+            int last = open[--openSizes[list]];
+            open[openIndex[window]] = last;
+            openIndex[last] = openIndex[window];
+        }
+        if (attackerStones == 0) {
+            defenderOpen[defenderStones]--;
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Adds a window to the open window totals and lists after its counts change.
+     */
+    private void link(int window) {
+        int attackerStones = attackerCounts[window];
+        int defenderStones = defenderCounts[window];
+
+        if (defenderStones == 0 && attackerStones >= lowestTracked && attackerStones < numToWin) {
+            int list = attackerStones - lowestTracked;
+            openIndex[window] = openSizes[list];
+            openWindows[list][openSizes[list]++] = window;
+        }
+        if (attackerStones == 0) {
+            defenderOpen[defenderStones]++;
+        }
+    }
+
+    /************************************************************/
+    /* Setup */
+
+    /**
+     * Private helper method.
+     * Copies the position's stones and window counts into the search's own arrays, building the arrays when the
+     * board changes.
+     */
+    private void prepare(Position position, Cell attacker) {
+        Cell defender = Position.opponent(attacker);
+        size = position.getSize();
+        numToWin = position.getNumToWin();
+        windows = position.getWindows();
+        int numCells = size * size;
+        int numWindows = windows.getNumWindows();
+        // Threes need the windows numToWin - 3 stones in, fours numToWin - 2 and wins numToWin - 1
+        lowestTracked = Math.max(1, numToWin - 3);
+
+        if (cellStamps.length != numCells || attackerCounts.length != numWindows
+                || defenderOpen.length != numToWin + 1) {
+            threatMoves = new int[maxThreats + 1][numCells];
+            threatIsFour = new boolean[maxThreats + 1][numCells];
+            replyMoves = new int[maxThreats + 1][numCells];
+            cellStamps = new int[numCells];
+            occupied = new boolean[numCells];
+            attackerCounts = new int[numWindows];
+            defenderCounts = new int[numWindows];
+            defenderOpen = new int[numToWin + 1];
+            openWindows = new int[numToWin - lowestTracked][numWindows];
+            openSizes = new int[numToWin - lowestTracked];
+            openIndex = new int[numWindows];
+        }
+
+        for (int cell = 0; cell < numCells; cell++) {
+            occupied[cell] = !position.isEmpty(cell);
+        }
+        Arrays.fill(openSizes, 0);
+        Arrays.fill(defenderOpen, 0);
+        for (int window = 0; window < numWindows; window++) {
+            attackerCounts[window] = windows.getCount(window, attacker);
+            defenderCounts[window] = windows.getCount(window, defender);
+            link(window);
+        }
+    }
+} // End of class ThreatSearch
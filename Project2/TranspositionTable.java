@@ -0,0 +1,199 @@
+package Project2;
+
+/**
+ * TranspositionTable remembers the results of positions a search has already scored, keyed by Zobrist hash, so a
+ * position reached again through a different move order is not searched again. Entries are kept in primitive
+ * arrays with the score, bound type, depth, best move and search age packed into one long, so storing and probing
+ * never creates objects.
+ *
+ * A slot is only replaced by a search at least as deep as the one stored there, unless the stored entry is for the
+ * same position or is left over from an earlier search.
+ *
+ * Several searches may share one table from different threads without locking. Each slot stores the hash XORed with
+ * its data, so a slot half written by another thread does not match the hash and is treated as empty.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.util.Arrays;
+
+/************************************************************/
+/* Class */
+public class TranspositionTable {
+    /************************************************************/
+    /* Variables */
+    // bound types, telling if the stored score is exact or only a bound on the real score
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+
+    // number of entries used by default
+    public static final int DEFAULT_ENTRIES = 1 << 16;
+
+    // hash of the position stored in each slot, XORed with the slot's data
+    private final long[] keys;
+    // packed score, move, depth, bound and age of each slot
+    private final long[] data;
+    // used to find the slot for a hash
+    private final int mask;
+
+    // age of the current search, entries from older searches can always be replaced
+    private volatile int age;
+
+    /************************************************************/
+    /* Constructors */
+
+    /**
+     * Creates a table with the default number of entries.
+     */
+    public TranspositionTable() {
+        this(DEFAULT_ENTRIES);
+    }
+
+    /**
+     * Creates a table with room for about the given number of entries, rounded up to a power of two.
+     *
+     * @param entries number of entries
+     * @throws IllegalArgumentException if entries is less than 1 or more than 2^30
+     */
+    public TranspositionTable(int entries) {
+        if (entries < 1 || entries > (1 << 30)) {
+            throw new IllegalArgumentException("Transposition table must have between 1 and 2^30 entries.");
+        }
+
+        int capacity = Integer.highestOneBit(entries);
+        if (capacity < entries) {
+            capacity <<= 1;
+        }
+
+        keys = new long[capacity];
+        data = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /************************************************************/
+    /* Methods */
+
+    /**
+     * Starts a new search, so entries stored by earlier searches are replaced first.
+     */
+    public void newSearch() {
+        age = (age + 1) & 0x3F;
+    }
+
+    /**
+     * Clears every entry.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(data, 0);
+    }
+
+    /**
+     * Stores the result of searching a position.
+     *
+     * @param hash  Zobrist hash of the position
+     * @param score score found for the player to move
+     * @param bound EXACT, LOWER_BOUND or UPPER_BOUND
+     * @param depth number of moves the position was searched ahead
+     * @param move  best move found encoded as row * size + col, or -1 for none
+     */
+    public void store(long hash, int score, int bound, int depth, int move) {
+        int slot = (int) hash & mask;
+        long stored = data[slot];
+
+        // Keep deeper results from this search for other positions
+        if ((keys[slot] ^ stored) != hash && stored != 0 && getAge(stored) == age && getDepth(stored) > depth) {
+            return;
+        }
+
+        long entry = pack(score, bound, depth, move);
+        keys[slot] = hash ^ entry;
+        data[slot] = entry;
+    }
+
+    /**
+     * Looks up the packed entry for a position. Use the static getters to unpack it.
+     *
+     * @param hash Zobrist hash of the position
+     * @return packed entry, or 0 if the position is not stored
+     */
+    public long probe(long hash) {
+        int slot = (int) hash & mask;
+        long entry = data[slot];
+
+        if ((keys[slot] ^ entry) != hash) {
+            return 0;
+        }
+        return entry;
+    }
+
+    /**
+     * Private helper method.
+     * Packs an entry into a long. Bits 0-31 hold the score, 32-47 the move plus one, 48-55 the depth,
+     * 56-57 the bound and 58-63 the age. The bound is never 0, so a stored entry is never 0.
+     */
+    private long pack(int score, int bound, int depth, int move) {
+        return (score & 0xFFFFFFFFL)
+                | ((long) ((move + 1) & 0xFFFF) << 32)
+                | ((long) (Math.min(depth, 0xFF)) << 48)
+                | ((long) bound << 56)
+                | ((long) (age & 0x3F) << 58);
+    }
+
+    /**
+     * Private helper method.
+     * Gets the age an entry was stored with.
+     */
+    private int getAge(long entry) {
+        return (int) (entry >>> 58) & 0x3F;
+    }
+
+    /************************************************************/
+    /* Static Getters */
+
+    /**
+     * Gets the score of a packed entry.
+     *
+     * @param entry packed entry returned by probe
+     * @return score for the player to move
+     */
+    public static int getScore(long entry) {
+        return (int) entry;
+    }
+
+    /**
+     * Gets the best move of a packed entry.
+     *
+     * @param entry packed entry returned by probe
+     * @return move encoded as row * size + col, or -1 for none
+     */
+    public static int getMove(long entry) {
+        return (int) ((entry >>> 32) & 0xFFFF) - 1;
+    }
+
+    /**
+     * Gets the depth of a packed entry.
+     *
+     * @param entry packed entry returned by probe
+     * @return number of moves the position was searched ahead
+     */
+    public static int getDepth(long entry) {
+        return (int) (entry >>> 48) & 0xFF;
+    }
+
+    /**
+     * Gets the bound type of a packed entry.
+     *
+     * @param entry packed entry returned by probe
+     * @return EXACT, LOWER_BOUND or UPPER_BOUND
+     */
+    public static int getBound(long entry) {
+        return (int) (entry >>> 56) & 0x3;
+    }
+} // End of class TranspositionTable
@@ -0,0 +1,132 @@
+package Project2;
+
+/**
+ * Zobrist holds the random keys used to hash positions. A position's hash is the XOR of the keys of every stone on
+ * the board, so placing or removing a stone updates it with a single XOR. The keys only depend on the board size,
+ * so the same position always has the same hash.
+ *
+ * The keys are also laid out by Symmetry transform, so a position can keep the hash of each of its 8 turns and
+ * reflections with 8 XORs of neighbouring keys per move.
+ *
+ * Keys never change once made, so forSize makes them once per board size and every position of that size shares
+ * them, on any thread.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/************************************************************/
+/* Class */
+public class Zobrist {
+    /************************************************************/
+    /* Variables */
+    // seed for the keys, fixed so that hashes are the same from run to run
+    private static final long SEED = 0x5DEECE66DL;
+    // keys made by forSize for each board size
+    private static final Map<Integer, Zobrist> KEYS_BY_SIZE = new ConcurrentHashMap<>();
+
+    // keys for an X or O stone on each cell, indexed by row * size + col
+    private final long[] xKeys;
+    private final long[] oKeys;
+    // key XORed in when it is O's turn
+    private final long sideKey;
+
+    // turns and reflections of the board
+    private final Symmetry symmetry;
+    // keys of an X or O stone on each cell after each transform, indexed by cell * Symmetry.COUNT + transform
+    private final long[] xSymmetricKeys;
+    private final long[] oSymmetricKeys;
+
+    /************************************************************/
+    /* Constructor */
+
+    /**
+     * Creates the keys for a board size.
+     *
+     * @param size size of the square board
+     */
+    public Zobrist(int size) {
+        SplittableRandom random = new SplittableRandom(SEED + size);
+
+        xKeys = new long[size * size];
+        oKeys = new long[size * size];
+        for (int cell = 0; cell < size * size; cell++) {
+            xKeys[cell] = random.nextLong();
+            oKeys[cell] = random.nextLong();
+        }
+        sideKey = random.nextLong();
+
+        symmetry = new Symmetry(size);
+        xSymmetricKeys = new long[size * size * Symmetry.COUNT];
+        oSymmetricKeys = new long[size * size * Symmetry.COUNT];
+        for (int cell = 0; cell < size * size; cell++) {
+            for (int transform = 0; transform < Symmetry.COUNT; transform++) {
+                xSymmetricKeys[cell * Symmetry.COUNT + transform] = xKeys[symmetry.apply(transform, cell)];
+                oSymmetricKeys[cell * Symmetry.COUNT + transform] = oKeys[symmetry.apply(transform, cell)];
+            }
+        }
+    }
+
+    /**
+     * Gets the keys for a board size, made the first time the size is asked for and shared after that.
+     *
+     * @param size size of the square board
+     * @return keys for the board size
+     */
+    public static Zobrist forSize(int size) {
+        return KEYS_BY_SIZE.computeIfAbsent(size, Zobrist::new);
+    }
+
+    /************************************************************/
+    /* Accessors */
+
+    /**
+     * Gets the key for the player's stone on a cell.
+     *
+     * @param move   cell encoded as row * size + col
+     * @param player Cell.X or Cell.O
+     * @return key of the stone
+     */
+    public long getKey(int move, Cell player) {
+        return (player == Cell.X) ? xKeys[move] : oKeys[move];
+    }
+
+    /**
+     * Gets the key XORed into a hash when it is O's turn, so the same stones with a different player to move hash
+     * differently.
+     *
+     * @return side to move key
+     */
+    public long getSideKey() {
+        return sideKey;
+    }
+
+    /**
+     * Gets the keys of the player's stone on every cell after every transform. The keys for a stone on a cell are the
+     * Symmetry.COUNT entries from cell * Symmetry.COUNT, one per transform, the first being getKey(cell, player).
+     * The array must not be changed.
+     *
+     * @param player Cell.X or Cell.O
+     * @return keys indexed by cell * Symmetry.COUNT + transform
+     */
+    public long[] getSymmetricKeys(Cell player) {
+        return (player == Cell.X) ? xSymmetricKeys : oSymmetricKeys;
+    }
+
+    /**
+     * Gets the turns and reflections of the board the keys are for.
+     *
+     * @return symmetry of the board size
+     */
+    public Symmetry getSymmetry() {
+        return symmetry;
+    }
+} // End of class Zobrist
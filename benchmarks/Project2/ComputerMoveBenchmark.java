@@ -0,0 +1,127 @@
+package Project2;
+
+/**
+ * ComputerMoveBenchmark measures how long the computer player takes to pick and make a move, for each board size.
+ * timedMove uses the game's own computer player, which searches for a fixed time per move, so it shows the latency a
+ * player sees. fixedDepthMove searches to a fixed depth instead, so a faster search shows up as a shorter time.
+ *
+ * Run with: java -jar target/benchmarks.jar ComputerMoveBenchmark -prof gc
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/************************************************************/
+/* Class */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComputerMoveBenchmark {
+    /************************************************************/
+    /* Variables */
+    // depth searched by fixedDepthMove
+    private static final int FIXED_DEPTH = 3;
+    // number of entries in the fixed depth search's table, small so clearing it costs little next to the search
+    private static final int FIXED_DEPTH_TABLE_ENTRIES = 1 << 12;
+    // number of random moves played before the computer moves
+    private static final int OPENING_MOVES = 6;
+
+    // size of the board, the number to win is 3 on a 3x3 board and 5 (or the board size if smaller) otherwise
+    @Param({"3", "5", "7", "10", "14"})
+    public int boardSize;
+
+    // game played with the game's own computer player, and one with a fixed depth search
+    private SuperTicTacToeGame timedGame;
+    private SuperTicTacToeGame fixedDepthGame;
+    private AlphaBetaSearch fixedDepthSearch;
+
+    /************************************************************/
+    /* Setup */
+
+    /**
+     * Creates both games and plays the same random opening on them.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        int numToWin = (boardSize == 3) ? 3 : Math.min(boardSize, 5);
+        timedGame = new SuperTicTacToeGame(boardSize, numToWin, Cell.X);
+        fixedDepthGame = new SuperTicTacToeGame(boardSize, numToWin, Cell.X);
+        fixedDepthSearch = new AlphaBetaSearch(FIXED_DEPTH, new LineEvaluator(),
+                new TranspositionTable(FIXED_DEPTH_TABLE_ENTRIES));
+        fixedDepthGame.setComputerEngine(fixedDepthSearch);
+
+        // A short opening gives the search something to work with without ending the game
+        Random random = new Random(boardSize);
+        int numMoves = Math.min(OPENING_MOVES, boardSize * boardSize / 3);
+        boolean[] taken = new boolean[boardSize * boardSize];
+        for (int i = 0; i < numMoves; i++) {
+            int move;
+            do {
+                move = random.nextInt(boardSize * boardSize);
+            } while (taken[move]);
+            taken[move] = true;
+
+            timedGame.select(move / boardSize, move % boardSize);
+            fixedDepthGame.select(move / boardSize, move % boardSize);
+        }
+    }
+
+    /************************************************************/
+    /* Benchmarks */
+
+    /**
+     * Lets the game's own computer player make a move, then takes it back.
+     *
+     * @return status of the game after the move
+     */
+    @Benchmark
+    public GameStatus timedMove() {
+        return playAndUndo(timedGame);
+    }
+
+    /**
+     * Lets a fixed depth search make a move, then takes it back. The search's table is cleared first, otherwise
+     * every call after the first would find the whole search already stored.
+     *
+     * @return status of the game after the move
+     */
+    @Benchmark
+    public GameStatus fixedDepthMove() {
+        fixedDepthSearch.getTable().clear();
+        return playAndUndo(fixedDepthGame);
+    }
+
+    /**
+     * Private helper method.
+     * Plays the computer's turn on a game and undoes it, so every call starts from the same position.
+     */
+    private GameStatus playAndUndo(SuperTicTacToeGame game) {
+        game.playComputerTurn();
+        GameStatus status = game.getGameStatus();
+        game.undo();
+        return status;
+    }
+} // End of class ComputerMoveBenchmark
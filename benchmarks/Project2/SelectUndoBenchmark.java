@@ -0,0 +1,104 @@
+package Project2;
+
+/**
+ * SelectUndoBenchmark measures how fast moves can be made with select and taken back with undo, which is what the
+ * game does for every click and undo button press. A quarter of the board is filled first, then each call selects
+ * one of the empty cells and undoes it again.
+ *
+ * Run with: java -jar target/benchmarks.jar SelectUndoBenchmark -prof gc
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/************************************************************/
+/* Class */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectUndoBenchmark {
+    /************************************************************/
+    /* Variables */
+    // size of the board, the number to win is 3 on a 3x3 board and 5 (or the board size if smaller) otherwise
+    @Param({"3", "7", "14"})
+    public int boardSize;
+
+    // game the moves are made on, and the order the cells are taken in
+    private SuperTicTacToeGame game;
+    private int[] moveOrder;
+    // number of cells taken before measuring, and the index of the next cell to select
+    private int numOpeningMoves;
+    private int nextMove;
+
+    /************************************************************/
+    /* Setup */
+
+    /**
+     * Creates the game, a random order to take every cell in, and takes the first quarter of them.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        int numToWin = (boardSize == 3) ? 3 : Math.min(boardSize, 5);
+        game = new SuperTicTacToeGame(boardSize, numToWin, Cell.X);
+
+        Random random = new Random(boardSize);
+        moveOrder = new int[boardSize * boardSize];
+        for (int i = 0; i < moveOrder.length; i++) {
+            moveOrder[i] = i;
+        }
+        for (int i = moveOrder.length - 1; i > 0; i--) {
+            int swap = random.nextInt(i + 1);
+            int move = moveOrder[i];
+            moveOrder[i] = moveOrder[swap];
+            moveOrder[swap] = move;
+        }
+
+        numOpeningMoves = moveOrder.length / 4;
+        for (int i = 0; i < numOpeningMoves; i++) {
+            game.select(moveOrder[i] / boardSize, moveOrder[i] % boardSize);
+        }
+        nextMove = numOpeningMoves;
+    }
+
+    /************************************************************/
+    /* Benchmarks */
+
+    /**
+     * Selects the next of the empty cells, then undoes it.
+     *
+     * @return status of the game after the select
+     */
+    @Benchmark
+    public GameStatus selectAndUndo() {
+        int move = moveOrder[nextMove];
+        nextMove = (nextMove + 1 < moveOrder.length) ? nextMove + 1 : numOpeningMoves;
+
+        game.select(move / boardSize, move % boardSize);
+        GameStatus status = game.getGameStatus();
+        game.undo();
+        return status;
+    }
+} // End of class SelectUndoBenchmark
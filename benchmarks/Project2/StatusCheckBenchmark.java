@@ -0,0 +1,158 @@
+package Project2;
+
+/**
+ * StatusCheckBenchmark measures checking a game's status on random boards, for every board size and number to win
+ * that the SuperTicTacToe launcher shows as a grid of buttons, and for representative bigger boards up to
+ * SparseBoard.MAX_SIZE. fullBoardRescan is the whole board check done by validateGameStatus, and lastMoveCheck is the
+ * check of the lines through the last move that select does after every move. Boards bigger than
+ * SuperTicTacToeGame.MAX_DENSE_BOARD_SIZE are kept sparse, and their moves are made in a square of SPARSE_AREA cells
+ * around the centre, as a game played on them would be.
+ *
+ * Run with: java -jar target/benchmarks.jar StatusCheckBenchmark -prof gc
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/************************************************************/
+/* Class */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatusCheckBenchmark {
+    /************************************************************/
+    /* Variables */
+    // number of random boards cycled through, so one board's layout does not decide the result
+    private static final int NUM_BOARDS = 64;
+    // side of the square in the centre of a sparse board that its moves are made in
+    private static final int SPARSE_AREA = 64;
+
+    // board size and number to win, as boardSize/numToWin, for every combination the launcher shows as buttons, then
+    // bigger painted boards, then sparse boards up to the largest the launcher accepts
+    @Param({
+            "3/3", "4/4", "5/4", "5/5", "6/4", "6/5", "6/6", "7/4", "7/5", "7/6", "7/7", "8/4", "8/5", "8/6", "8/7",
+            "8/8", "9/4", "9/5", "9/6", "9/7", "9/8", "9/9", "10/4", "10/5", "10/6", "10/7", "10/8", "10/9", "10/10",
+            "11/4", "11/5", "11/6", "11/7", "11/8", "11/9", "11/10", "11/11", "12/4", "12/5", "12/6", "12/7", "12/8",
+            "12/9", "12/10", "12/11", "12/12", "13/4", "13/5", "13/6", "13/7", "13/8", "13/9", "13/10", "13/11",
+            "13/12", "13/13", "14/4", "14/5", "14/6", "14/7", "14/8", "14/9", "14/10", "14/11", "14/12", "14/13",
+            "14/14", "15/5", "19/5", "32/5", "64/5", "64/64", "65/5", "1000/5", "46340/5"
+    })
+    public String boardAndWin;
+
+    // the random games, the same boards as positions or sparse boards, and the last move made on each
+    private SuperTicTacToeGame[] games;
+    private Position[] positions;
+    private SparseBoard[] sparseBoards;
+    private int[] lastMoves;
+    // index of the next board to check
+    private int nextBoard;
+
+    /************************************************************/
+    /* Setup */
+
+    /**
+     * Fills each board with a random number of random moves.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] parts = boardAndWin.split("/");
+        int boardSize = Integer.parseInt(parts[0]);
+        int numToWin = Integer.parseInt(parts[1]);
+        Random random = new Random(boardSize * 31L + numToWin);
+
+        boolean sparse = boardSize > SuperTicTacToeGame.MAX_DENSE_BOARD_SIZE;
+        // moves are made in the square from first to first + area - 1 on both axes
+        int area = sparse ? SPARSE_AREA : boardSize;
+        int first = (boardSize - area) / 2;
+
+        games = new SuperTicTacToeGame[NUM_BOARDS];
+        positions = sparse ? null : new Position[NUM_BOARDS];
+        sparseBoards = sparse ? new SparseBoard[NUM_BOARDS] : null;
+        lastMoves = new int[NUM_BOARDS];
+        for (int i = 0; i < NUM_BOARDS; i++) {
+            games[i] = new SuperTicTacToeGame(boardSize, numToWin, Cell.X);
+            if (sparse) {
+                sparseBoards[i] = new SparseBoard(boardSize, numToWin);
+            } else {
+                positions[i] = new Position(boardSize, numToWin);
+            }
+
+            Cell player = Cell.X;
+            int numMoves = random.nextInt(area * area + 1);
+            for (int j = 0; j < numMoves; j++) {
+                int move;
+                do {
+                    move = (first + random.nextInt(area)) * boardSize + first + random.nextInt(area);
+                } while (sparse ? !sparseBoards[i].isEmpty(move) : !positions[i].isEmpty(move));
+
+                games[i].select(move / boardSize, move % boardSize);
+                if (sparse) {
+                    sparseBoards[i].makeMove(move, player);
+                } else {
+                    positions[i].makeMove(move, player);
+                }
+                lastMoves[i] = move;
+                player = Position.opponent(player);
+            }
+        }
+    }
+
+    /************************************************************/
+    /* Benchmarks */
+
+    /**
+     * Checks a whole board for a win or a tie.
+     *
+     * @return status of the board
+     */
+    @Benchmark
+    public GameStatus fullBoardRescan() {
+        return games[nextIndex()].validateGameStatus();
+    }
+
+    /**
+     * Checks the lines through the last move made on a board for a win.
+     *
+     * @return true if the last move made a winning line
+     */
+    @Benchmark
+    public boolean lastMoveCheck() {
+        int index = nextIndex();
+        if (sparseBoards != null) {
+            return sparseBoards[index].isWinAt(lastMoves[index]);
+        }
+        return positions[index].isWinAt(lastMoves[index]);
+    }
+
+    /**
+     * Private helper method.
+     * Gets the index of the next board to check, going round all of them.
+     */
+    private int nextIndex() {
+        nextBoard = (nextBoard + 1) & (NUM_BOARDS - 1);
+        return nextBoard;
+    }
+} // End of class StatusCheckBenchmark
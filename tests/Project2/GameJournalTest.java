@@ -0,0 +1,239 @@
+package Project2;
+
+/**
+ * GameJournalTest checks that a journal gives back the games and totals written to it when it is opened again, both
+ * straight after the games were played and after the file has been compacted, that a damaged entry only loses the
+ * entries after it, and that only one journal can have the file open at a time.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/************************************************************/
+/* Class */
+class GameJournalTest {
+    /************************************************************/
+    /* Variables */
+    // size of an entry in the journal file, in bytes
+    private static final int ENTRY_SIZE = 16;
+
+    // directory the journal files are made in, removed after each test
+    @TempDir
+    Path directory;
+
+    /************************************************************/
+    /* Recovery and Compaction */
+
+    /**
+     * Games still being played come back with every move and their settings, ended games do not, and the totals
+     * carry on. Opening the journal a second time reads the compacted file and gives the same games and totals.
+     */
+    @Test
+    void recoversGamesAndTotalsBeforeAndAfterCompaction() throws IOException {
+        Path path = directory.resolve("games.journal");
+        try (GameJournal journal = new GameJournal(path)) {
+            SuperTicTacToeGame won = new SuperTicTacToeGame(3, 3, Cell.X);
+            int wonId = journal.startSession(won);
+            playMoves(won, 0, 3, 1, 4, 2);
+            journal.endSession(wonId);
+
+            SuperTicTacToeGame open = new SuperTicTacToeGame(7, 4, Cell.O);
+            journal.startSession(open);
+            playMoves(open, 24, 0, 25, 48);
+            open.undo();
+            open.select(6, 6);
+
+            SuperTicTacToeGame sparse = new SuperTicTacToeGame(100, 5, Cell.X);
+            journal.startSession(sparse);
+            playMoves(sparse, 5050, 5051);
+        }
+
+        for (int opening = 0; opening < 2; opening++) {
+            try (GameJournal journal = new GameJournal(path)) {
+                assertEquals(1, journal.getXWins());
+                assertEquals(0, journal.getOWins());
+                assertEquals(0, journal.getDraws());
+
+                Map<Integer, SuperTicTacToeGame> games = journal.getRecoveredGames();
+                assertEquals(2, games.size());
+
+                SuperTicTacToeGame open = findGame(games, 7);
+                assertEquals(4, open.getNumToWin());
+                assertEquals(Cell.O, open.getStartingPlayer());
+                assertMoves(open, 24, 0, 25, 48);
+
+                SuperTicTacToeGame sparse = findGame(games, 100);
+                assertTrue(sparse.isSparse());
+                assertMoves(sparse, 5050, 5051);
+            }
+        }
+    }
+
+    /**
+     * A resumed game carries on being saved under its session, so its later moves are recovered too.
+     */
+    @Test
+    void resumedGameKeepsBeingSaved() throws IOException {
+        Path path = directory.resolve("games.journal");
+        int sessionId;
+        try (GameJournal journal = new GameJournal(path)) {
+            SuperTicTacToeGame game = new SuperTicTacToeGame(5, 4, Cell.X);
+            sessionId = journal.startSession(game);
+            playMoves(game, 12, 0);
+        }
+
+        try (GameJournal journal = new GameJournal(path)) {
+            SuperTicTacToeGame game = journal.resumeSession(sessionId);
+            assertTrue(journal.getRecoveredGames().isEmpty());
+            playMoves(game, 6);
+        }
+
+        try (GameJournal journal = new GameJournal(path)) {
+            assertMoves(journal.getRecoveredGames().get(sessionId), 12, 0, 6);
+        }
+    }
+
+    /**
+     * A game that is undone and decided again is counted once, and a game played against the computer is still
+     * played against it when recovered.
+     */
+    @Test
+    void undoneResultIsTakenBackAndComputerIsRestored() throws IOException {
+        Path path = directory.resolve("games.journal");
+        try (GameJournal journal = new GameJournal(path)) {
+            SuperTicTacToeGame game = new SuperTicTacToeGame(3, 3, Cell.X);
+            journal.startSession(game);
+            playMoves(game, 0, 3, 1, 4, 2);
+            assertEquals(1, journal.getXWins());
+
+            game.undo();
+            assertEquals(0, journal.getXWins());
+            game.redo();
+            assertEquals(1, journal.getXWins());
+
+            SuperTicTacToeGame computerGame = new SuperTicTacToeGame(5, 4, Cell.X);
+            journal.startSession(computerGame);
+            computerGame.enableComputer(false);
+            playMoves(computerGame, 12, 0, 6, 4);
+            // Undo with the computer playing takes back its reply too, written as two undo entries
+            computerGame.undo();
+        }
+
+        try (GameJournal journal = new GameJournal(path)) {
+            assertEquals(1, journal.getXWins());
+            SuperTicTacToeGame computerGame = findGame(journal.getRecoveredGames(), 5);
+            assertTrue(computerGame.isComputerPlayerEnabled());
+            assertMoves(computerGame, 12, 0);
+        }
+    }
+
+    /**
+     * Replay stops at an entry whose check value does not match, keeping the entries before it.
+     */
+    @Test
+    void damagedEntryEndsRecovery() throws IOException {
+        Path path = directory.resolve("games.journal");
+        try (GameJournal journal = new GameJournal(path)) {
+            SuperTicTacToeGame game = new SuperTicTacToeGame(5, 4, Cell.X);
+            journal.startSession(game);
+            playMoves(game, 12, 0, 6, 4);
+        }
+
+        // The file holds the start entry then the four moves, change a byte of the third move's value
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer value = ByteBuffer.allocate(1);
+            long offset = 3L * ENTRY_SIZE + 8;
+            file.read(value, offset);
+            value.put(0, (byte) (value.get(0) ^ 1));
+            value.rewind();
+            file.write(value, offset);
+        }
+
+        try (GameJournal journal = new GameJournal(path)) {
+            assertMoves(findGame(journal.getRecoveredGames(), 5), 12, 0);
+        }
+    }
+
+    /************************************************************/
+    /* Locking */
+
+    /**
+     * A journal already open can not be opened again until it is closed.
+     */
+    @Test
+    void openJournalIsLocked() throws IOException {
+        Path path = directory.resolve("games.journal");
+        GameJournal journal = new GameJournal(path);
+        SuperTicTacToeGame game = new SuperTicTacToeGame(3, 3, Cell.X);
+        journal.startSession(game);
+        playMoves(game, 4);
+
+        assertThrows(IOException.class, () -> new GameJournal(path));
+        // The failed open must not have released the lock or replaced the file
+        assertThrows(IOException.class, () -> new GameJournal(path));
+        playMoves(game, 0);
+        journal.close();
+
+        try (GameJournal reopened = new GameJournal(path)) {
+            assertMoves(findGame(reopened.getRecoveredGames(), 3), 4, 0);
+        }
+        assertFalse(Files.exists(directory.resolve("games.journal.tmp")));
+    }
+
+    /************************************************************/
+    /* Helpers */
+
+    /**
+     * Private helper method.
+     * Makes moves in a game, each encoded as row * size + col.
+     */
+    private static void playMoves(SuperTicTacToeGame game, int... moves) {
+        for (int move : moves) {
+            game.select(move / game.getBoardSize(), move % game.getBoardSize());
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Checks a game's moves are the ones given, in order.
+     */
+    private static void assertMoves(SuperTicTacToeGame game, int... moves) {
+        assertEquals(moves.length, game.getMoveCount());
+        for (int i = 0; i < moves.length; i++) {
+            assertEquals(moves[i], game.getMove(i), "move " + i);
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Finds the recovered game with a board size.
+     */
+    private static SuperTicTacToeGame findGame(Map<Integer, SuperTicTacToeGame> games, int boardSize) {
+        for (SuperTicTacToeGame game : games.values()) {
+            if (game.getBoardSize() == boardSize) {
+                return game;
+            }
+        }
+        throw new AssertionError("No recovered " + boardSize + "x" + boardSize + " game.");
+    }
+} // End of class GameJournalTest
@@ -0,0 +1,148 @@
+package Project2;
+
+/**
+ * GameRecordTest checks that games written by GameRecordWriter are read back by GameRecordReader with the same board,
+ * moves and result, and replay to the same status through a game and through a position.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/************************************************************/
+/* Class */
+class GameRecordTest {
+    /************************************************************/
+    /* Round Trip */
+
+    /**
+     * Random games on boards from 3x3 to 64x64, finished or not, are written and read back unchanged.
+     */
+    @Test
+    void gamesReadBackAsWritten() throws IOException {
+        Random random = new Random(1);
+        List<SuperTicTacToeGame> games = new ArrayList<>();
+        for (int boardSize : new int[]{3, 4, 9, 15, 64}) {
+            for (int i = 0; i < 10; i++) {
+                int numToWin = 1 + random.nextInt(Math.min(boardSize, 6));
+                Cell startingPlayer = random.nextBoolean() ? Cell.X : Cell.O;
+                games.add(playRandomGame(new SuperTicTacToeGame(boardSize, numToWin, startingPlayer), random));
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+            for (SuperTicTacToeGame game : games) {
+                writer.write(game);
+            }
+            assertEquals(games.size(), writer.getRecordCount());
+        }
+
+        try (GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            for (SuperTicTacToeGame game : games) {
+                assertTrue(reader.next());
+                assertEquals(game.getBoardSize(), reader.getBoardSize());
+                assertEquals(game.getNumToWin(), reader.getNumToWin());
+                assertEquals(game.getStartingPlayer(), reader.getStartingPlayer());
+                assertEquals(game.getGameStatus(), reader.getResult());
+                assertEquals(game.getMoveCount(), reader.getMoveCount());
+                for (int ply = 0; ply < game.getMoveCount(); ply++) {
+                    assertEquals(game.getMove(ply), reader.getMove(ply));
+                }
+
+                SuperTicTacToeGame replayed = reader.replay();
+                assertEquals(game.getGameStatus(), replayed.getGameStatus());
+                assertEquals(game.getMoveCount(), replayed.getMoveCount());
+                Position position = new Position(game.getBoardSize(), game.getNumToWin());
+                assertEquals(game.getGameStatus(), reader.replay(position));
+            }
+            assertFalse(reader.next());
+            assertEquals(games.size(), reader.getRecordCount());
+        }
+    }
+
+    /**
+     * A game written as a list of moves reads back the same as one written from a game.
+     */
+    @Test
+    void moveListReadsBackAsWritten() throws IOException {
+        int[] moves = {4, 0, 8, 2, 1, 7};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+            writer.write(3, 3, Cell.O, moves, moves.length, GameStatus.IN_PROGRESS);
+            assertThrows(IllegalArgumentException.class,
+                    () -> writer.write(3, 3, Cell.X, new int[]{9}, 1, GameStatus.IN_PROGRESS));
+        }
+
+        try (GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertTrue(reader.next());
+            assertEquals(Cell.O, reader.getStartingPlayer());
+            assertEquals(moves.length, reader.getMoveCount());
+            for (int ply = 0; ply < moves.length; ply++) {
+                assertEquals(moves[ply], reader.getMove(ply));
+            }
+            assertThrows(IllegalArgumentException.class, () -> reader.getMove(moves.length));
+            assertFalse(reader.next());
+        }
+    }
+
+    /**
+     * A stream that does not start with the record header, or stops part way through a record, is refused.
+     */
+    @Test
+    void damagedStreamIsRefused() throws IOException {
+        assertThrows(IOException.class, () -> new GameRecordReader(new ByteArrayInputStream(new byte[]{1, 2, 3})));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+            writer.write(3, 3, Cell.X, new int[]{4, 0, 8}, 3, GameStatus.IN_PROGRESS);
+        }
+        byte[] cutOff = bytes.toByteArray();
+        cutOff = Arrays.copyOf(cutOff, cutOff.length - 2);
+
+        try (GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(cutOff))) {
+            assertThrows(IOException.class, reader::next);
+        }
+    }
+
+    /************************************************************/
+    /* Helpers */
+
+    /**
+     * Private helper method.
+     * Makes random moves until the game is decided or, now and then, stops early so unfinished games are written
+     * too.
+     */
+    private static SuperTicTacToeGame playRandomGame(SuperTicTacToeGame game, Random random) {
+        int size = game.getBoardSize();
+        // Big boards are only played near the centre, so their games end in a reasonable number of moves
+        int area = Math.min(size, 9);
+        int first = (size - area) / 2;
+        int stopAt = random.nextInt(4) == 0 ? random.nextInt(area * area) : area * area;
+
+        while (game.getGameStatus() == GameStatus.IN_PROGRESS && game.getMoveCount() < stopAt) {
+            int row = first + random.nextInt(area);
+            int col = first + random.nextInt(area);
+            game.select(row, col);
+        }
+        return game;
+    }
+} // End of class GameRecordTest
@@ -0,0 +1,175 @@
+package Project2;
+
+/**
+ * PositionTest checks the Zobrist hashes a Position keeps for every turn and reflection of its board. Every
+ * transform of a position must have the same canonical hash, and the hashes kept move by move must match those of a
+ * position built from scratch.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/************************************************************/
+/* Class */
+class PositionTest {
+    /************************************************************/
+    /* Canonical Hash */
+
+    /**
+     * Each of the eight turns and reflections of a random position has the same canonical hash, for both players to
+     * move.
+     */
+    @Test
+    void everyTransformHasTheSameCanonicalHash() {
+        Random random = new Random(1);
+        for (int size = 3; size <= 12; size++) {
+            for (int trial = 0; trial < 20; trial++) {
+                int[] moves = randomMoves(size, random);
+                Position original = build(size, moves, Symmetry.IDENTITY);
+
+                for (Cell player : new Cell[]{Cell.X, Cell.O}) {
+                    long canonical = original.getHash(original.getCanonicalTransform(), player);
+                    for (int transform = 0; transform < Symmetry.COUNT; transform++) {
+                        Position turned = build(size, moves, transform);
+                        assertEquals(canonical, turned.getHash(turned.getCanonicalTransform(), player),
+                                "size " + size + ", transform " + transform);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A game's canonical hash is the same after its moves are turned or reflected.
+     */
+    @Test
+    void gameCanonicalHashIgnoresTransforms() {
+        Random random = new Random(2);
+        int size = 7;
+        int[] moves = randomMoves(size, random);
+        Symmetry symmetry = new Symmetry(size);
+
+        long expected = 0;
+        for (int transform = 0; transform < Symmetry.COUNT; transform++) {
+            SuperTicTacToeGame game = new SuperTicTacToeGame(size, 5, Cell.X);
+            for (int move : moves) {
+                int turned = symmetry.apply(transform, move);
+                game.select(turned / size, turned % size);
+            }
+            if (transform == Symmetry.IDENTITY) {
+                expected = game.getCanonicalHash();
+            }
+            assertEquals(expected, game.getCanonicalHash(), "transform " + transform);
+        }
+    }
+
+    /**
+     * The player to move is part of the hash, so the same stones with the other player to move hash differently.
+     */
+    @Test
+    void playerToMoveChangesTheHash() {
+        Position position = build(5, new int[]{0, 12, 7}, Symmetry.IDENTITY);
+        assertNotEquals(position.getHash(Cell.X), position.getHash(Cell.O));
+    }
+
+    /**
+     * Moving a move onto the canonical form with apply and back with invert gives the move back.
+     */
+    @Test
+    void invertUndoesApply() {
+        for (int size = 1; size <= 9; size++) {
+            Symmetry symmetry = new Symmetry(size);
+            for (int transform = 0; transform < Symmetry.COUNT; transform++) {
+                for (int move = 0; move < size * size; move++) {
+                    assertEquals(move, symmetry.invert(transform, symmetry.apply(transform, move)));
+                }
+            }
+        }
+    }
+
+    /************************************************************/
+    /* Incremental Hash */
+
+    /**
+     * The hashes kept as moves are made and unmade match a position built with only the moves left on the board.
+     */
+    @Test
+    void incrementalHashesMatchRebuiltPosition() {
+        Random random = new Random(3);
+        int size = 9;
+        int[] moves = randomMoves(size, random);
+        Position position = build(size, moves, Symmetry.IDENTITY);
+
+        for (int left = moves.length; left > 0; left--) {
+            int[] kept = new int[left];
+            System.arraycopy(moves, 0, kept, 0, left);
+            Position rebuilt = build(size, kept, Symmetry.IDENTITY);
+            for (int transform = 0; transform < Symmetry.COUNT; transform++) {
+                assertEquals(rebuilt.getHash(transform, Cell.X), position.getHash(transform, Cell.X));
+            }
+            position.unmakeMove(moves[left - 1]);
+        }
+        assertEquals(new Position(size, 5).getHash(), position.getHash());
+    }
+
+    /**
+     * Positions of the same board size share their keys.
+     */
+    @Test
+    void sameSizeSharesKeys() {
+        assertSame(new Position(11, 5).getZobrist(), new Position(11, 4).getZobrist());
+        assertSame(Zobrist.forSize(11), new Position(11, 5).getZobrist());
+    }
+
+    /************************************************************/
+    /* Helpers */
+
+    /**
+     * Private helper method.
+     * Picks a random number of distinct random cells, in the order they are played.
+     */
+    private static int[] randomMoves(int size, Random random) {
+        int[] cells = new int[size * size];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = i;
+        }
+        // Shuffle, then take the first few
+        for (int i = cells.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = cells[i];
+            cells[i] = cells[j];
+            cells[j] = swap;
+        }
+
+        int[] moves = new int[1 + random.nextInt(cells.length)];
+        System.arraycopy(cells, 0, moves, 0, moves.length);
+        return moves;
+    }
+
+    /**
+     * Private helper method.
+     * Builds a position by playing moves, alternating from X, after moving each by a transform.
+     */
+    private static Position build(int size, int[] moves, int transform) {
+        Position position = new Position(size, Math.min(size, 5));
+        Symmetry symmetry = position.getSymmetry();
+        Cell player = Cell.X;
+        for (int move : moves) {
+            position.makeMove(symmetry.apply(transform, move), player);
+            player = Position.opponent(player);
+        }
+        return position;
+    }
+} // End of class PositionTest
@@ -0,0 +1,200 @@
+package Project2;
+
+/**
+ * SparseBoardTest checks the sparse board's hash table against a plain array of the same cells. Stones are made and
+ * taken back in random order, so cells are removed from the middle of probe runs and the backward-shift deletion
+ * has to move the later cells of each run back, and the table must end up holding exactly the cells near stones.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/************************************************************/
+/* Class */
+class SparseBoardTest {
+    /************************************************************/
+    /* Variables */
+    // side of the square the stones are played in
+    private static final int AREA = 14;
+    // number of random moves made or taken back in each trial
+    private static final int NUM_CHANGES = 1500;
+
+    /************************************************************/
+    /* Deletion */
+
+    /**
+     * Makes and takes back stones in random order, in the middle and in a corner of the board, and checks every
+     * cell, the stone count and the candidate moves against a plain array after each change.
+     */
+    @Test
+    void randomMakesAndUnmakesMatchPlainBoard() {
+        Random random = new Random(1);
+        for (int radius = 1; radius <= 2; radius++) {
+            for (int size : new int[]{AREA, 100, SparseBoard.MAX_SIZE}) {
+                // The centre, then the top left corner so the radius is cut off by the edges
+                for (int first : new int[]{(size - AREA) / 2, 0}) {
+                    checkRandomChanges(new SparseBoard(size, 4, radius), radius, first, random);
+                }
+            }
+        }
+    }
+
+    /**
+     * Taking back every stone leaves nothing in the table, so one new stone has exactly its neighbours as candidates.
+     */
+    @Test
+    void emptiedBoardHoldsNoCells() {
+        Random random = new Random(2);
+        SparseBoard board = new SparseBoard(1000, 5, 1);
+        List<Integer> stones = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int move = (450 + random.nextInt(100)) * 1000 + 450 + random.nextInt(100);
+            if (board.isEmpty(move)) {
+                board.makeMove(move, (i % 2 == 0) ? Cell.X : Cell.O);
+                stones.add(move);
+            }
+        }
+        while (!stones.isEmpty()) {
+            board.unmakeMove(stones.remove(random.nextInt(stones.size())));
+        }
+        assertEquals(0, board.getStoneCount());
+        assertArrayEquals(new int[]{500 * 1000 + 500}, board.getCandidateMoves());
+
+        board.makeMove(0, Cell.X);
+        int[] candidates = board.getCandidateMoves();
+        Arrays.sort(candidates);
+        assertArrayEquals(new int[]{1, 1000, 1001}, candidates);
+    }
+
+    /**
+     * Taking back a cell that has no stone changes nothing.
+     */
+    @Test
+    void unmakingAnEmptyCellDoesNothing() {
+        SparseBoard board = new SparseBoard(100, 5);
+        board.makeMove(5050, Cell.O);
+        board.unmakeMove(5051);
+        board.unmakeMove(0);
+        assertEquals(1, board.getStoneCount());
+        assertEquals(Cell.O, board.getCell(5050));
+    }
+
+    /************************************************************/
+    /* Helpers */
+
+    /**
+     * Private helper method.
+     * Makes random moves in the square of side AREA starting at row and column first, or takes back a random stone,
+     * checking the board, made with a candidate radius of radius, against a plain array after each change.
+     */
+    private static void checkRandomChanges(SparseBoard board, int radius, int first, Random random) {
+        int size = board.getSize();
+        Cell[] plain = new Cell[AREA * AREA];
+        Arrays.fill(plain, Cell.EMPTY);
+        List<Integer> stones = new ArrayList<>();
+        Cell player = Cell.X;
+
+        for (int change = 0; change < NUM_CHANGES; change++) {
+            // Fill up to about half the square, then keep the number of stones moving up and down
+            boolean remove = !stones.isEmpty() && random.nextInt(AREA * AREA) < stones.size();
+            if (remove) {
+                int index = stones.remove(random.nextInt(stones.size()));
+                board.unmakeMove(toMove(index, first, size));
+                plain[index] = Cell.EMPTY;
+            } else {
+                int index = random.nextInt(AREA * AREA);
+                if (plain[index] != Cell.EMPTY) {
+                    continue;
+                }
+                board.makeMove(toMove(index, first, size), player);
+                plain[index] = player;
+                stones.add(index);
+                player = Position.opponent(player);
+            }
+
+            assertEquals(stones.size(), board.getStoneCount());
+            for (int index = 0; index < plain.length; index++) {
+                assertEquals(plain[index], board.getCell(toMove(index, first, size)));
+            }
+            if (!stones.isEmpty()) {
+                assertArrayEquals(expectedCandidates(plain, first, size, radius), sorted(board.getCandidateMoves()));
+            }
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Finds the empty cells within the radius of a stone by looking around every cell of the square.
+     */
+    private static int[] expectedCandidates(Cell[] plain, int first, int size, int radius) {
+        List<Integer> moves = new ArrayList<>();
+        for (int row = Math.max(0, first - radius); row < Math.min(size, first + AREA + radius); row++) {
+            for (int col = Math.max(0, first - radius); col < Math.min(size, first + AREA + radius); col++) {
+                if (cellAt(plain, first, row, col) == Cell.EMPTY && hasStoneNear(plain, first, row, col, radius)) {
+                    moves.add(row * size + col);
+                }
+            }
+        }
+        return moves.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    /**
+     * Private helper method.
+     * Gets if a stone is within radius rows and columns of a cell, not counting the cell.
+     */
+    private static boolean hasStoneNear(Cell[] plain, int first, int row, int col, int radius) {
+        for (int r = row - radius; r <= row + radius; r++) {
+            for (int c = col - radius; c <= col + radius; c++) {
+                if ((r != row || c != col) && cellAt(plain, first, r, c) != Cell.EMPTY) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Private helper method.
+     * Gets a cell of the plain array by its board row and column, empty outside the square.
+     */
+    private static Cell cellAt(Cell[] plain, int first, int row, int col) {
+        int r = row - first;
+        int c = col - first;
+        if (r < 0 || r >= AREA || c < 0 || c >= AREA) {
+            return Cell.EMPTY;
+        }
+        return plain[r * AREA + c];
+    }
+
+    /**
+     * Private helper method.
+     * Turns an index into the square into a move on the board.
+     */
+    private static int toMove(int index, int first, int size) {
+        return (first + index / AREA) * size + first + index % AREA;
+    }
+
+    /**
+     * Private helper method.
+     * Gets a sorted copy of some moves.
+     */
+    private static int[] sorted(int[] moves) {
+        int[] copy = moves.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+} // End of class SparseBoardTest
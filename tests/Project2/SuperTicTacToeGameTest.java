@@ -0,0 +1,329 @@
+package Project2;
+
+/**
+ * SuperTicTacToeGameTest checks that the status select keeps from the lines through the last move agrees with a
+ * rescan of the whole board by validateGameStatus, on dense and sparse boards and every number to win, and that undo,
+ * redo and rewindTo put the board, current player and status back the way they were.
+ *
+ *  @authors Kara Byers, Darren Fife, Breanna Zinky
+ *  @date 10/18/26
+ *  @version 1.0
+ */
+
+/************************************************************/
+/* Imports */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/************************************************************/
+/* Class */
+class SuperTicTacToeGameTest {
+    /************************************************************/
+    /* Variables */
+    // number of random games played on each board
+    private static final int GAMES_PER_BOARD = 20;
+    // side of the square in the centre of a sparse board that its moves are made in
+    private static final int SPARSE_AREA = 12;
+
+    /************************************************************/
+    /* Status */
+
+    /**
+     * Plays random games on dense boards and compares the status after every move with a full rescan.
+     */
+    @Test
+    void lastMoveStatusMatchesRescanOnDenseBoards() {
+        Random random = new Random(1);
+        for (int boardSize = 3; boardSize <= 9; boardSize++) {
+            for (int numToWin = 1; numToWin <= boardSize; numToWin++) {
+                for (int game = 0; game < GAMES_PER_BOARD; game++) {
+                    playAndCompare(new SuperTicTacToeGame(boardSize, numToWin, Cell.X), boardSize, random);
+                }
+            }
+        }
+        for (int numToWin : new int[]{1, 5, 64}) {
+            playAndCompare(new SuperTicTacToeGame(64, numToWin, Cell.O), 64, random);
+        }
+    }
+
+    /**
+     * Plays random games on sparse boards, up to the largest size, and compares the status after every move with a
+     * rescan.
+     */
+    @Test
+    void lastMoveStatusMatchesRescanOnSparseBoards() {
+        Random random = new Random(2);
+        for (int boardSize : new int[]{SuperTicTacToeGame.MAX_DENSE_BOARD_SIZE + 1, 500, SparseBoard.MAX_SIZE}) {
+            for (int numToWin = 1; numToWin <= 6; numToWin++) {
+                for (int game = 0; game < GAMES_PER_BOARD / 4; game++) {
+                    SuperTicTacToeGame sparseGame = new SuperTicTacToeGame(boardSize, numToWin, Cell.X);
+                    assertTrue(sparseGame.isSparse());
+                    playAndCompare(sparseGame, SPARSE_AREA, random);
+                }
+            }
+        }
+    }
+
+    /**
+     * A board with no stones is never won, even when one in a row wins.
+     */
+    @Test
+    void emptyBoardIsInProgressWithOneToWin() {
+        for (int boardSize : new int[]{3, 16, 64, 100}) {
+            SuperTicTacToeGame game = new SuperTicTacToeGame(boardSize, 1, Cell.X);
+            assertEquals(GameStatus.IN_PROGRESS, game.validateGameStatus());
+
+            game.select(1, 2);
+            assertEquals(GameStatus.X_WON, game.getGameStatus());
+            assertEquals(GameStatus.X_WON, game.validateGameStatus());
+        }
+    }
+
+    /************************************************************/
+    /* Undo, Redo and Rewind */
+
+    /**
+     * Undoing every move and redoing them gives back the board, player and status seen after each move.
+     */
+    @Test
+    void undoAndRedoRestoreEveryPly() {
+        Random random = new Random(3);
+        for (int boardSize : new int[]{3, 7, 70}) {
+            SuperTicTacToeGame game = new SuperTicTacToeGame(boardSize, 3, Cell.O);
+            List<State> states = playRandomMoves(game, 12, random);
+
+            for (int ply = states.size() - 2; ply >= 0; ply--) {
+                game.undo();
+                assertEquals(states.get(ply), State.of(game), "after undoing to ply " + ply);
+            }
+            assertThrows(IllegalArgumentException.class, game::undo);
+
+            for (int ply = 1; ply < states.size(); ply++) {
+                game.redo();
+                assertEquals(states.get(ply), State.of(game), "after redoing to ply " + ply);
+            }
+            assertThrows(IllegalArgumentException.class, game::redo);
+        }
+    }
+
+    /**
+     * A new move after an undo means the undone moves can no longer be redone.
+     */
+    @Test
+    void newMoveDropsUndoneMoves() {
+        SuperTicTacToeGame game = new SuperTicTacToeGame(5, 4, Cell.X);
+        game.select(0, 0);
+        game.select(1, 1);
+        game.undo();
+        assertEquals(2, game.getRedoLimit());
+
+        game.select(2, 2);
+        assertEquals(2, game.getRedoLimit());
+        assertThrows(IllegalArgumentException.class, game::redo);
+        assertEquals(Cell.EMPTY, game.getCell(1, 1));
+        assertEquals(Cell.O, game.getCell(2, 2));
+    }
+
+    /**
+     * Undoing the move that decided a game puts it back in progress, and redoing it decides it again.
+     */
+    @Test
+    void undoingTheDecidingMoveReopensTheGame() {
+        SuperTicTacToeGame game = new SuperTicTacToeGame(3, 3, Cell.X);
+        int[][] moves = {{0, 0}, {1, 0}, {0, 1}, {1, 1}, {0, 2}};
+        for (int[] move : moves) {
+            game.select(move[0], move[1]);
+        }
+        assertEquals(GameStatus.X_WON, game.getGameStatus());
+
+        game.undo();
+        assertEquals(GameStatus.IN_PROGRESS, game.getGameStatus());
+        assertEquals(GameStatus.IN_PROGRESS, game.validateGameStatus());
+        assertEquals(Cell.X, game.getCurrentPlayer());
+
+        game.redo();
+        assertEquals(GameStatus.X_WON, game.getGameStatus());
+    }
+
+    /**
+     * Undo takes back the computer's reply with the player's move, while rewindTo steps one move at a time.
+     */
+    @Test
+    void undoTakesBackTheComputersReply() {
+        SuperTicTacToeGame game = new SuperTicTacToeGame(5, 4, Cell.X);
+        game.enableComputer(false);
+        game.select(2, 2);
+        game.select(0, 0);
+        game.select(3, 3);
+        game.select(4, 0);
+
+        game.undo();
+        assertEquals(2, game.getMoveCount());
+        assertEquals(Cell.X, game.getCurrentPlayer());
+
+        game.rewindTo(1);
+        assertEquals(1, game.getMoveCount());
+        assertEquals(Cell.O, game.getCurrentPlayer());
+    }
+
+    /**
+     * rewindTo jumps straight to any ply between the first move and the last one that can be redone.
+     */
+    @Test
+    void rewindToReachesEveryPly() {
+        Random random = new Random(4);
+        SuperTicTacToeGame game = new SuperTicTacToeGame(6, 4, Cell.X);
+        List<State> states = playRandomMoves(game, 36, random);
+        int lastPly = states.size() - 1;
+
+        for (int i = 0; i < 50; i++) {
+            int ply = random.nextInt(lastPly + 1);
+            game.rewindTo(ply);
+            assertEquals(states.get(ply), State.of(game), "after rewinding to ply " + ply);
+            assertEquals(lastPly, game.getRedoLimit());
+        }
+        assertThrows(IllegalArgumentException.class, () -> game.rewindTo(-1));
+        assertThrows(IllegalArgumentException.class, () -> game.rewindTo(lastPly + 1));
+    }
+
+    /************************************************************/
+    /* Helpers */
+
+    /**
+     * Private helper method.
+     * Makes random moves in the square of side area at the centre of the board, checking the status against a
+     * rescan after each, until the game is decided or the square is full. Then undoes the deciding move and checks
+     * the rescan agrees the game is back in progress.
+     */
+    private static void playAndCompare(SuperTicTacToeGame game, int area, Random random) {
+        int boardSize = game.getBoardSize();
+        int first = (boardSize - area) / 2;
+
+        List<Integer> cells = new ArrayList<>();
+        for (int row = first; row < first + area; row++) {
+            for (int col = first; col < first + area; col++) {
+                cells.add(row * boardSize + col);
+            }
+        }
+
+        while (!cells.isEmpty() && game.getGameStatus() == GameStatus.IN_PROGRESS) {
+            int move = cells.remove(random.nextInt(cells.size()));
+            game.select(move / boardSize, move % boardSize);
+            assertEquals(game.validateGameStatus(), game.getGameStatus(),
+                    "board " + boardSize + ", " + game.getNumToWin() + " to win, after " + game.getMoveCount());
+        }
+
+        if (game.getGameStatus() != GameStatus.IN_PROGRESS) {
+            game.undo();
+            assertEquals(GameStatus.IN_PROGRESS, game.getGameStatus());
+            assertEquals(GameStatus.IN_PROGRESS, game.validateGameStatus());
+        }
+    }
+
+    /**
+     * Private helper method.
+     * Makes up to numMoves random moves near the centre of the board, stopping once the game is decided.
+     *
+     * @return the state before the first move and after each move
+     */
+    private static List<State> playRandomMoves(SuperTicTacToeGame game, int numMoves, Random random) {
+        int area = Math.min(game.getBoardSize(), 6);
+        int first = (game.getBoardSize() - area) / 2;
+
+        List<State> states = new ArrayList<>();
+        states.add(State.of(game));
+        while (states.size() <= numMoves && game.getGameStatus() == GameStatus.IN_PROGRESS) {
+            int row = first + random.nextInt(area);
+            int col = first + random.nextInt(area);
+            if (game.getCell(row, col) == Cell.EMPTY) {
+                game.select(row, col);
+                states.add(State.of(game));
+            }
+        }
+        assertTrue(states.size() > 1);
+        return states;
+    }
+
+    /* Private inner Class */
+
+    /**
+     * Private inner class holding what a game looks like at one ply, for comparing after undo, redo and rewindTo.
+     *
+     * @version 1.0
+     * @authors Kara Byers, Darren Fife, Breanna Zinky
+     * @date 10/18/26
+     */
+    private static final class State {
+        private final int[] moves; // Moves made, oldest first
+        private final Cell[] cells; // Contents of every cell, by row * size + col
+        private final Cell currentPlayer; // Player to move
+        private final GameStatus status; // Status of the game
+
+        /**
+         * Gets the state of a game now.
+         *
+         * @param game game to look at
+         */
+        private State(SuperTicTacToeGame game) {
+            int size = game.getBoardSize();
+            moves = new int[game.getMoveCount()];
+            for (int i = 0; i < moves.length; i++) {
+                moves[i] = game.getMove(i);
+            }
+            cells = new Cell[size * size];
+            for (int move = 0; move < cells.length; move++) {
+                cells[move] = game.getCell(move / size, move % size);
+            }
+            currentPlayer = game.getCurrentPlayer();
+            status = game.getGameStatus();
+        }
+
+        /**
+         * Gets the state of a game now.
+         *
+         * @param game game to look at
+         * @return state of the game
+         */
+        static State of(SuperTicTacToeGame game) {
+            return new State(game);
+        }
+
+        /**
+         * Compares the moves made, every cell, the player to move and the status.
+         */
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof State)) {
+                return false;
+            }
+            State state = (State) other;
+            return Arrays.equals(moves, state.moves) && Arrays.equals(cells, state.cells)
+                    && currentPlayer == state.currentPlayer && status == state.status;
+        }
+
+        /**
+         * Hashes the moves made.
+         */
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(moves);
+        }
+
+        /**
+         * Shows the moves, player and status for a failed comparison.
+         */
+        @Override
+        public String toString() {
+            return Arrays.toString(moves) + " " + currentPlayer + " " + status;
+        }
+    } // End of class State
+} // End of class SuperTicTacToeGameTest